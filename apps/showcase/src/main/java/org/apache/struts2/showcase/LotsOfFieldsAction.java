@@ -0,0 +1,54 @@
+/*
+ * $Id$
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.showcase;
+
+import com.opensymphony.xwork2.ActionSupport;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Renders a form with a large number of fields, used to measure the rendering cost of UI tags.
+ */
+public class LotsOfFieldsAction extends ActionSupport {
+
+	private static final int FIELD_COUNT = 200;
+
+	private List<String> fields;
+
+	public String execute() throws Exception {
+		if (fields == null) {
+			fields = new ArrayList<>(FIELD_COUNT);
+			for (int i = 0; i < FIELD_COUNT; i++) {
+				fields.add("value " + i);
+			}
+		}
+		return SUCCESS;
+	}
+
+	public List<String> getFields() {
+		return fields;
+	}
+
+	public void setFields(List<String> fields) {
+		this.fields = fields;
+	}
+}
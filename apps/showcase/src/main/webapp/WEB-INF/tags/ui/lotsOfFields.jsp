@@ -0,0 +1,54 @@
+<!--
+/*
+* Licensed to the Apache Software Foundation (ASF) under one
+* or more contributor license agreements.  See the NOTICE file
+* distributed with this work for additional information
+* regarding copyright ownership.  The ASF licenses this file
+* to you under the Apache License, Version 2.0 (the
+* "License"); you may not use this file except in compliance
+* with the License.  You may obtain a copy of the License at
+*
+*  http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+-->
+<%@taglib prefix="s" uri="/struts-tags" %>
+<html>
+<head>
+	<title>Struts2 Showcase - UI Tags - Lots of fields</title>
+	<s:head/>
+</head>
+<body>
+<div class="page-header">
+	<h1>UI Tags - Lots of fields</h1>
+</div>
+
+<div class="container-fluid">
+	<div class="row">
+		<div class="col-md-12">
+
+			<s:form action="lotsOfFields" namespace="/tags/ui" method="post">
+				<s:iterator value="fields" status="status">
+					<s:textfield
+						name="fields[%{#status.index}]"
+						label="Field %{#status.index}"
+						cssClass="form-control"
+						title="%{top}"
+						onchange="this.form.dirty = true"
+						disabled="false"
+						maxlength="50" />
+				</s:iterator>
+
+				<s:submit value="Submit It" />
+			</s:form>
+		</div>
+	</div>
+</div>
+</body>
+</html>
@@ -0,0 +1,66 @@
+/*
+ * $Id$
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package it.org.apache.struts2.showcase;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.htmlunit.WebClient;
+import org.htmlunit.html.HtmlForm;
+import org.htmlunit.html.HtmlPage;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Renders a form with 200 text fields several times and reports the average rendering time.
+ */
+public class LotsOfFieldsTest {
+
+    private static final Logger LOG = LogManager.getLogger(LotsOfFieldsTest.class);
+
+    private static final int WARM_UP_RENDERS = 10;
+    private static final int MEASURED_RENDERS = 50;
+
+    @Test
+    public void testRenderLotsOfFields() throws Exception {
+        try (final WebClient webClient = new WebClient()) {
+            webClient.getOptions().setJavaScriptEnabled(false);
+            webClient.getOptions().setCssEnabled(false);
+            final String url = ParameterUtils.getBaseUrl() + "/tags/ui/lotsOfFields.action";
+
+            for (int i = 0; i < WARM_UP_RENDERS; i++) {
+                webClient.getPage(url);
+            }
+
+            long start = System.nanoTime();
+            HtmlPage page = null;
+            for (int i = 0; i < MEASURED_RENDERS; i++) {
+                page = webClient.getPage(url);
+            }
+            long averageMicros = (System.nanoTime() - start) / MEASURED_RENDERS / 1000;
+            LOG.info("Average rendering time of a 200 fields form: {} us", averageMicros);
+
+            final HtmlForm form = page.getForms().get(0);
+            Assert.assertEquals("value 0", form.getInputByName("fields[0]").getValue());
+            Assert.assertEquals("value 199", form.getInputByName("fields[199]").getValue());
+            Assert.assertEquals("value 199", form.getInputByName("fields[199]").getAttribute("title"));
+        }
+    }
+}
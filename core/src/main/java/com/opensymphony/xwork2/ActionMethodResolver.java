@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.opensymphony.xwork2;
+
+import ognl.OgnlContext;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves action methods into {@link MethodHandle}s which can be called directly instead of evaluating
+ * an OGNL expression on each request.
+ * <p>
+ * A method is resolved once per action class and method name, the first time it is invoked. Only methods
+ * which could be resolved are kept, as the method name may come from the request. As the
+ * {@link ognl.MemberAccess} of the OGNL context may differ between requests, access to the method is validated
+ * on each invocation, the same way OGNL would validate it.
+ * When the method doesn't exist, isn't accessible or cannot be called through a public lookup,
+ * no handle is returned and the action method must be invoked through OGNL as before, this way missing methods
+ * are still handled by {@link UnknownHandlerManager}.
+ * </p>
+ *
+ * @since 7.0.0
+ */
+public class ActionMethodResolver {
+
+    private static final Logger LOG = LogManager.getLogger(ActionMethodResolver.class);
+
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private final Map<Class<?>, Map<String, ResolvedMethod>> methods = new ConcurrentHashMap<>();
+
+    /**
+     * @param action     the action instance
+     * @param methodName the name of the action method
+     * @param context    the OGNL context used to validate access to the method
+     * @return the method handle of type {@code (Object)Object} or null if the method must be invoked through OGNL
+     */
+    public MethodHandle resolve(Object action, String methodName, Map<String, Object> context) {
+        if (!(context instanceof OgnlContext)) {
+            LOG.debug("Context isn't an OGNL context, method [{}] of action [{}] will be invoked using OGNL", methodName, action.getClass());
+            return null;
+        }
+        Map<String, ResolvedMethod> classMethods = methods.computeIfAbsent(action.getClass(), c -> new ConcurrentHashMap<>());
+        ResolvedMethod method = classMethods.get(methodName);
+        if (method == null) {
+            method = createResolvedMethod(action, methodName);
+            if (method == null) {
+                return null;
+            }
+            classMethods.putIfAbsent(methodName, method);
+        }
+        if (!((OgnlContext) context).getMemberAccess().isAccessible(context, action, method.method, methodName)) {
+            LOG.debug("Method [{}] isn't accessible, it will be invoked using OGNL", method.method);
+            return null;
+        }
+        return method.handle;
+    }
+
+    protected ResolvedMethod createResolvedMethod(Object action, String methodName) {
+        try {
+            Method method = action.getClass().getMethod(methodName);
+            if (Modifier.isStatic(method.getModifiers())) {
+                LOG.debug("Method [{}] is static, it will be invoked using OGNL", method);
+                return null;
+            }
+            LOG.debug("Resolved method [{}] of action [{}]", methodName, action.getClass());
+            return new ResolvedMethod(method, MethodHandles.publicLookup().unreflect(method).asType(INVOKER_TYPE));
+        } catch (NoSuchMethodException e) {
+            LOG.debug("Method [{}] doesn't exist in action [{}], it will be invoked using OGNL", methodName, action.getClass());
+            return null;
+        } catch (IllegalAccessException e) {
+            LOG.debug("Method [{}] of action [{}] cannot be accessed directly, it will be invoked using OGNL", methodName, action.getClass());
+            return null;
+        }
+    }
+
+    /**
+     * Clears all the resolved methods
+     */
+    public void clear() {
+        methods.clear();
+    }
+
+    /**
+     * An action method and its handle, access to the method still has to be validated before invoking the handle
+     */
+    protected static final class ResolvedMethod {
+
+        private final Method method;
+        private final MethodHandle handle;
+
+        public ResolvedMethod(Method method, MethodHandle handle) {
+            this.method = method;
+            this.handle = handle;
+        }
+
+        public Method getMethod() {
+            return method;
+        }
+
+        public MethodHandle getHandle() {
+            return handle;
+        }
+    }
+}
@@ -37,6 +37,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.struts2.StrutsException;
 
+import java.lang.invoke.MethodHandle;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
@@ -73,6 +74,7 @@ public class DefaultActionInvocation implements ActionInvocation {
     protected Container container;
     protected UnknownHandlerManager unknownHandlerManager;
     protected OgnlUtil ognlUtil;
+    protected ActionMethodResolver actionMethodResolver;
     protected AsyncManager asyncManager;
     protected Callable<?> asyncAction;
     protected WithLazyParams.LazyParamInjector lazyParamInjector;
@@ -112,6 +114,11 @@ public class DefaultActionInvocation implements ActionInvocation {
         this.ognlUtil = ognlUtil;
     }
 
+    @Inject(required = false)
+    public void setActionMethodResolver(ActionMethodResolver actionMethodResolver) {
+        this.actionMethodResolver = actionMethodResolver;
+    }
+
     @Inject(required = false)
     public void setAsyncManager(AsyncManager asyncManager) {
         this.asyncManager = asyncManager;
@@ -430,29 +437,34 @@ public class DefaultActionInvocation implements ActionInvocation {
 
         try {
             Object methodResult;
-            try {
-                methodResult = ognlUtil.callMethod(methodName + "()", getStack().getContext(), action);
-            } catch (MethodFailedException e) {
-                // if reason is missing method,  try checking UnknownHandlers
-                if (e.getReason() instanceof NoSuchMethodException) {
-                    if (unknownHandlerManager.hasUnknownHandlers()) {
-                        try {
-                            methodResult = unknownHandlerManager.handleUnknownMethod(action, methodName);
-                        } catch (NoSuchMethodException ignore) {
+            MethodHandle actionMethod = resolveActionMethod(action, methodName);
+            if (actionMethod != null) {
+                methodResult = invokeActionMethod(actionMethod, action, methodName);
+            } else {
+                try {
+                    methodResult = ognlUtil.callMethod(methodName + "()", getStack().getContext(), action);
+                } catch (MethodFailedException e) {
+                    // if reason is missing method,  try checking UnknownHandlers
+                    if (e.getReason() instanceof NoSuchMethodException) {
+                        if (unknownHandlerManager.hasUnknownHandlers()) {
+                            try {
+                                methodResult = unknownHandlerManager.handleUnknownMethod(action, methodName);
+                            } catch (NoSuchMethodException ignore) {
+                                // throw the original one
+                                throw e;
+                            }
+                        } else {
                             // throw the original one
                             throw e;
                         }
+                        // throw the original exception as UnknownHandlers weren't able to handle invocation as well
+                        if (methodResult == null) {
+                            throw e;
+                        }
                     } else {
-                        // throw the original one
-                        throw e;
-                    }
-                    // throw the original exception as UnknownHandlers weren't able to handle invocation as well
-                    if (methodResult == null) {
+                        // exception isn't related to missing action method, throw it
                         throw e;
                     }
-                } else {
-                    // exception isn't related to missing action method, throw it
-                    throw e;
                 }
             }
             return saveResult(actionConfig, methodResult);
@@ -476,6 +488,28 @@ public class DefaultActionInvocation implements ActionInvocation {
         }
     }
 
+    /**
+     * Resolves the action method to be called directly, without evaluating an OGNL expression
+     *
+     * @param action     the action
+     * @param methodName the name of the action method
+     * @return the method handle or null if the method must be invoked through OGNL
+     */
+    protected MethodHandle resolveActionMethod(Object action, String methodName) {
+        if (actionMethodResolver == null || action == null || methodName == null) {
+            return null;
+        }
+        return actionMethodResolver.resolve(action, methodName, getStack().getContext());
+    }
+
+    private Object invokeActionMethod(MethodHandle actionMethod, Object action, String methodName) throws MethodFailedException {
+        try {
+            return (Object) actionMethod.invokeExact(action);
+        } catch (Throwable t) {
+            throw new MethodFailedException(action, methodName, t);
+        }
+    }
+
     /**
      * Save the result to be used later.
      *
@@ -26,13 +26,23 @@ import org.apache.logging.log4j.Logger;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.apache.struts2.StrutsConstants.STRUTS_CONFIGURATION_XML_RELOAD;
+import static org.apache.struts2.StrutsConstants.STRUTS_CONFIGURATION_XML_RELOAD_INTERVAL;
 
 
 /**
  * ConfigurationManager - central for XWork Configuration management, including
  * its ConfigurationProvider.
+ * <p>
+ * The current {@link Configuration} is published through a volatile field, so {@link #getConfiguration()} does not
+ * lock once the configuration has been initialised. As a reload rebuilds the configuration in place, readers still
+ * lock while the configuration is being reloaded. When configuration reloading is enabled, the providers are checked
+ * by a single request thread at a time, rate limited by
+ * {@link org.apache.struts2.StrutsConstants#STRUTS_CONFIGURATION_XML_RELOAD_INTERVAL}, the other threads keep reading
+ * the current configuration without locking.
+ * </p>
  *
  * @author Jason Carreira
  * @author tm_jee
@@ -41,12 +51,16 @@ import static org.apache.struts2.StrutsConstants.STRUTS_CONFIGURATION_XML_RELOAD
 public class ConfigurationManager {
 
     protected static final Logger LOG = LogManager.getLogger(ConfigurationManager.class);
-    protected Configuration configuration;
+    protected volatile Configuration configuration;
     private List<ContainerProvider> containerProviders = new ArrayList<>();
     private List<PackageProvider> packageProviders = new ArrayList<>();
     protected String defaultFrameworkBeanName;
-    private boolean providersChanged = true;
-    private boolean alwaysReloadConfigs = false;
+    private volatile boolean providersChanged = true;
+    private volatile boolean alwaysReloadConfigs = false;
+    private volatile boolean reloading = false;
+    private final AtomicBoolean reloadCheckRunning = new AtomicBoolean();
+    private volatile long reloadCheckInterval = 0;
+    private volatile long nextReloadCheck = 0;
 
     public ConfigurationManager(String name) {
         this.defaultFrameworkBeanName = name;
@@ -57,13 +71,38 @@ public class ConfigurationManager {
      *
      * @see com.opensymphony.xwork2.config.impl.DefaultConfiguration
      */
-    public synchronized Configuration getConfiguration() {
-        if (wasConfigInitialised()) {
+    public Configuration getConfiguration() {
+        Configuration current = configuration;
+        if (current == null || providersChanged || reloading) {
+            return loadConfiguration();
+        }
+        if (alwaysReloadConfigs && System.currentTimeMillis() >= nextReloadCheck
+                && reloadCheckRunning.compareAndSet(false, true)) {
+            try {
+                return checkForReload();
+            } finally {
+                reloadCheckRunning.set(false);
+            }
+        }
+        return current;
+    }
+
+    private synchronized Configuration loadConfiguration() {
+        if (wasConfigInitialised() && providersChanged) {
             conditionalReload();
         }
         return configuration;
     }
 
+    /**
+     * Checks the providers for reload, only called by one thread at a time once the reload interval has elapsed.
+     */
+    private synchronized Configuration checkForReload() {
+        nextReloadCheck = System.currentTimeMillis() + reloadCheckInterval;
+        conditionalReload();
+        return configuration;
+    }
+
     /**
      * @return whether configuration was initialised (was null)
      */
@@ -196,6 +235,15 @@ public class ConfigurationManager {
                     String.valueOf(newValue));
             alwaysReloadConfigs = newValue;
         }
+        String interval = configuration.getContainer().getInstance(String.class, STRUTS_CONFIGURATION_XML_RELOAD_INTERVAL);
+        if (interval != null) {
+            try {
+                reloadCheckInterval = Math.max(0, Long.parseLong(interval.trim()));
+            } catch (NumberFormatException e) {
+                LOG.warn("Invalid value [{}] of [{}], using default [0]", interval, STRUTS_CONFIGURATION_XML_RELOAD_INTERVAL);
+                reloadCheckInterval = 0;
+            }
+        }
     }
 
     private boolean needReloadPackageProviders() {
@@ -224,9 +272,14 @@ public class ConfigurationManager {
     public synchronized void reload() {
         if (wasConfigInitialised()) {
             LOG.debug("Reloading all providers.");
-            packageProviders = configuration.reloadContainer(containerProviders);
-            providersChanged = false;
-            updateAlwaysReloadFlag();
+            reloading = true;
+            try {
+                packageProviders = configuration.reloadContainer(containerProviders);
+                providersChanged = false;
+                updateAlwaysReloadFlag();
+            } finally {
+                reloading = false;
+            }
         }
     }
 }
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.opensymphony.xwork2.config;
+
+import com.opensymphony.xwork2.config.entities.ActionConfig;
+
+import java.io.Serializable;
+
+/**
+ * Index of the namespaces of all the configured packages, used to resolve a namespace from a request uri
+ * without iterating over all the package configs.
+ *
+ * @see RuntimeConfiguration#getNamespaceIndex()
+ * @since 7.0.0
+ */
+public interface NamespaceIndex extends Serializable {
+
+    /**
+     * Finds the longest namespace which is equal to the given path or to one of its parents,
+     * where parents are determined by the '/' separator.
+     *
+     * @param path the path part of the uri, without the action name
+     * @return the longest matching namespace or an empty string if none matches
+     */
+    String findLongestNamespace(String path);
+
+    /**
+     * @return true if there is a package defined with the root "/" namespace
+     */
+    boolean isRootNamespaceAvailable();
+
+    /**
+     * Returns the action config defined directly in the first package (in the order of declaration)
+     * using the given namespace, the same way as iterating over all the package configs would do.
+     *
+     * @param namespace the namespace of the action
+     * @param name      the name of the action
+     * @return the action config or null if not found
+     */
+    ActionConfig getActionConfig(String namespace, String name);
+
+    /**
+     * @param namespace the namespace to check
+     * @return true if any package uses the given namespace
+     */
+    boolean hasNamespace(String namespace);
+}
@@ -53,4 +53,15 @@ public interface RuntimeConfiguration extends Serializable {
      *         should return a valid config for valid namespace/name pairs
      */
     Map<String, Map<String, ActionConfig>> getActionConfigs();
+
+    /**
+     * Returns an index of namespaces of all the packages (including abstract ones) used to resolve
+     * a namespace from a request uri without iterating over all the package configs.
+     *
+     * @return the index or null if not supported by this implementation
+     * @since 7.0.0
+     */
+    default NamespaceIndex getNamespaceIndex() {
+        return null;
+    }
 }
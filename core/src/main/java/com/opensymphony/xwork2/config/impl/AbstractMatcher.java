@@ -25,7 +25,9 @@ import org.apache.logging.log4j.Logger;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -38,6 +40,11 @@ import java.util.regex.Pattern;
  * project. Patterns will be matched in the order they were added. The first
  * match wins, so more specific patterns should be defined before less specific
  * patterns.
+ * </p>
+ *
+ * <p> Patterns are indexed by their literal prefix (see {@link PatternMatcher#literalPrefix(String)}),
+ * so only the patterns which can possibly match a given path are tried, still in the order they were added.
+ * </p>
  *
  * @since 2.1
  */
@@ -56,6 +63,11 @@ public abstract class AbstractMatcher<E> implements Serializable {
      */
     List<Mapping<E>> compiledPatterns = new ArrayList<>();
 
+    /**
+     * <p> Indexes of the compiled patterns by their literal prefix </p>
+     */
+    private LiteralPrefixTrie literalPrefixes = new LiteralPrefixTrie();
+
     /**
      * This flag controls if passed named params should be appended
      * to the map in {@link #replaceParameters(Map, Map)}
@@ -104,9 +116,6 @@ public abstract class AbstractMatcher<E> implements Serializable {
      * @param looseMatch To loosely match wildcards or not
      */
     public void addPattern(String name, E target, boolean looseMatch) {
-
-        Object pattern;
-
         if (!wildcard.isLiteral(name)) {
             if (looseMatch && (name.length() > 0) && (name.charAt(0) == '/')) {
                 name = name.substring(1);
@@ -114,23 +123,28 @@ public abstract class AbstractMatcher<E> implements Serializable {
 
             LOG.debug("Compiling pattern '{}'", name);
 
-            pattern = wildcard.compilePattern(name);
-            compiledPatterns.add(new Mapping<>(name, pattern, target));
+            addCompiledPattern(name, name, target);
 
             if (looseMatch) {
                 int lastStar = name.lastIndexOf('*');
                 if (lastStar > 1 && lastStar == name.length() - 1) {
                     if (name.charAt(lastStar - 1) != '*') {
-                        pattern = wildcard.compilePattern(name.substring(0, lastStar - 1));
-                        compiledPatterns.add(new Mapping<>(name, pattern, target));
+                        addCompiledPattern(name, name.substring(0, lastStar - 1), target);
                     }
                 }
             }
         }
     }
 
+    private void addCompiledPattern(String name, String source, E target) {
+        Object pattern = wildcard.compilePattern(source);
+        literalPrefixes.add(wildcard.literalPrefix(source), compiledPatterns.size());
+        compiledPatterns.add(new Mapping<>(name, pattern, target));
+    }
+
     public void freeze() {
         compiledPatterns = Collections.unmodifiableList(new ArrayList<>());
+        literalPrefixes = new LiteralPrefixTrie();
     }
 
     /**
@@ -146,7 +160,9 @@ public abstract class AbstractMatcher<E> implements Serializable {
             LOG.debug("Attempting to match '{}' to a wildcard pattern, {} available", potentialMatch, compiledPatterns.size());
 
             Map<String, String> vars = new LinkedHashMap<>();
-            for (Mapping<E> m : compiledPatterns) {
+            BitSet candidates = literalPrefixes.candidates(potentialMatch);
+            for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+                Mapping<E> m = compiledPatterns.get(i);
                 if (wildcard.match(vars, potentialMatch, m.getPattern())) {
                     LOG.debug("Value matches pattern '{}'", m.getOriginalPattern());
                     config = convert(potentialMatch, m.getTarget(), vars);
@@ -225,6 +241,41 @@ public abstract class AbstractMatcher<E> implements Serializable {
         return result.toString();
     }
 
+    /**
+     * <p> Character trie of the literal prefixes of the compiled patterns,
+     * each node keeps the indexes of the patterns whose prefix ends there. </p>
+     */
+    private static class LiteralPrefixTrie implements Serializable {
+
+        private final Map<Character, LiteralPrefixTrie> children = new HashMap<>();
+        private final List<Integer> patterns = new ArrayList<>();
+
+        void add(String prefix, int index) {
+            LiteralPrefixTrie node = this;
+            for (int i = 0; i < prefix.length(); i++) {
+                node = node.children.computeIfAbsent(prefix.charAt(i), c -> new LiteralPrefixTrie());
+            }
+            node.patterns.add(index);
+        }
+
+        /**
+         * @param path the path to match
+         * @return indexes of the patterns whose literal prefix is a prefix of the path
+         */
+        BitSet candidates(String path) {
+            BitSet result = new BitSet();
+            LiteralPrefixTrie node = this;
+            int length = path == null ? 0 : path.length();
+            for (int i = 0; node != null; i++) {
+                for (Integer index : node.patterns) {
+                    result.set(index);
+                }
+                node = i < length ? node.children.get(path.charAt(i)) : null;
+            }
+            return result;
+        }
+    }
+
     /**
      * <p> Stores a compiled wildcard pattern and the object it came
      * from. </p>
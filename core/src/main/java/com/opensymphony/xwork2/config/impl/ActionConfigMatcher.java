@@ -29,6 +29,7 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * <p> Matches paths against pre-compiled wildcard expressions pulled from
@@ -36,9 +37,17 @@ import java.util.Map;
  * project. Patterns will be matched in the order they exist in the 
  * config file. The first match wins, so more specific patterns should be
  * defined before less specific patterns.
+ * </p>
+ *
+ * <p> Converted action configs are cached per matched path, the cache is
+ * cleared once it holds more than {@link #MAX_CACHED_MATCHES} entries. </p>
  */
 public class ActionConfigMatcher extends AbstractMatcher<ActionConfig> implements Serializable {
-   
+
+    static final int MAX_CACHED_MATCHES = 1000;
+
+    private final Map<String, ActionConfig> matchCache = new ConcurrentHashMap<>();
+
     /**
      * <p> Finds and precompiles the wildcard patterns from the ActionConfig
      * "path" attributes. ActionConfig's will be evaluated in the order they
@@ -90,6 +99,37 @@ public class ActionConfigMatcher extends AbstractMatcher<ActionConfig> implement
         }
     }
 
+    /**
+     * <p> Matches the path against the compiled wildcard patterns, reusing
+     * the action config converted previously for the same path. </p>
+     *
+     * @param potentialMatch The portion of the request URI for selecting a config.
+     * @return The action config if matched, else null
+     */
+    @Override
+    public ActionConfig match(String potentialMatch) {
+        if (potentialMatch == null) {
+            return super.match(null);
+        }
+        ActionConfig config = matchCache.get(potentialMatch);
+        if (config == null) {
+            config = super.match(potentialMatch);
+            if (config != null) {
+                if (matchCache.size() >= MAX_CACHED_MATCHES) {
+                    matchCache.clear();
+                }
+                matchCache.put(potentialMatch, config);
+            }
+        }
+        return config;
+    }
+
+    @Override
+    public void freeze() {
+        super.freeze();
+        matchCache.clear();
+    }
+
     /**
      * <p> Clones the ActionConfig and its children, replacing various
      * properties with the values of the wildcard-matched strings. </p>
@@ -34,6 +34,7 @@ import com.opensymphony.xwork2.config.ConfigurationException;
 import com.opensymphony.xwork2.config.ContainerProvider;
 import com.opensymphony.xwork2.config.FileManagerFactoryProvider;
 import com.opensymphony.xwork2.config.FileManagerProvider;
+import com.opensymphony.xwork2.config.NamespaceIndex;
 import com.opensymphony.xwork2.config.PackageProvider;
 import com.opensymphony.xwork2.config.RuntimeConfiguration;
 import com.opensymphony.xwork2.config.entities.ActionConfig;
@@ -153,8 +154,8 @@ public class DefaultConfiguration implements Configuration {
 
     // Programmatic Action Configurations
     protected Map<String, PackageConfig> packageContexts = new LinkedHashMap<>();
-    protected RuntimeConfiguration runtimeConfiguration;
-    protected Container container;
+    protected volatile RuntimeConfiguration runtimeConfiguration;
+    protected volatile Container container;
     protected String defaultFrameworkBeanName;
     protected Set<String> loadedFileNames = new TreeSet<>();
     protected List<UnknownHandlerConfig> unknownHandlerStack;
@@ -276,6 +277,8 @@ public class DefaultConfiguration implements Configuration {
             containerProvider.register(builder, props);
         }
         props.setConstants(builder);
+        builder.setCompiledInjection(Boolean.parseBoolean(
+            props.getProperty(StrutsConstants.STRUTS_CONTAINER_COMPILED_INJECTION, Boolean.TRUE.toString())));
 
         builder.factory(Configuration.class, new Factory<Configuration>() {
             @Override
@@ -465,7 +468,8 @@ public class DefaultConfiguration implements Configuration {
         );
 
         return new RuntimeConfigurationImpl(Collections.unmodifiableMap(namespaceActionConfigs),
-                Collections.unmodifiableMap(namespaceConfigs), matcher, appendNamedParameters, fallbackToEmptyNamespace);
+                Collections.unmodifiableMap(namespaceConfigs), new PackageNamespaceIndex(packageContexts.values()),
+                matcher, appendNamedParameters, fallbackToEmptyNamespace);
     }
 
     private void setDefaultResults(Map<String, ResultConfig> results, PackageConfig packageContext) {
@@ -540,16 +544,19 @@ public class DefaultConfiguration implements Configuration {
         private final Map<String, ActionConfigMatcher> namespaceActionConfigMatchers;
         private final NamespaceMatcher namespaceMatcher;
         private final Map<String, String> namespaceConfigs;
+        private final NamespaceIndex namespaceIndex;
         private final boolean fallbackToEmptyNamespace;
 
         public RuntimeConfigurationImpl(Map<String, Map<String, ActionConfig>> namespaceActionConfigs,
                                         Map<String, String> namespaceConfigs,
+                                        NamespaceIndex namespaceIndex,
                                         PatternMatcher<int[]> matcher,
                                         boolean appendNamedParameters,
                                         boolean fallbackToEmptyNamespace)
         {
             this.namespaceActionConfigs = namespaceActionConfigs;
             this.namespaceConfigs = namespaceConfigs;
+            this.namespaceIndex = namespaceIndex;
             this.fallbackToEmptyNamespace = fallbackToEmptyNamespace;
 
             this.namespaceActionConfigMatchers = new LinkedHashMap<>();
@@ -634,6 +641,11 @@ public class DefaultConfiguration implements Configuration {
             return namespaceActionConfigs;
         }
 
+        @Override
+        public NamespaceIndex getNamespaceIndex() {
+            return namespaceIndex;
+        }
+
         @Override
         public String toString() {
             StringBuilder buff = new StringBuilder("RuntimeConfiguration - actions are\n");
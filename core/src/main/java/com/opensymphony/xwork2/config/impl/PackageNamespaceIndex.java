@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.opensymphony.xwork2.config.impl;
+
+import com.opensymphony.xwork2.config.NamespaceIndex;
+import com.opensymphony.xwork2.config.entities.ActionConfig;
+import com.opensymphony.xwork2.config.entities.PackageConfig;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable {@link NamespaceIndex} of all the configured packages, built once per runtime configuration.
+ * <p>
+ * Namespaces are stored in a character trie, so finding the longest namespace matching a path costs
+ * proportionally to the length of the path instead of to the number of packages.
+ * </p>
+ *
+ * @since 7.0.0
+ */
+public class PackageNamespaceIndex implements NamespaceIndex {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Node root = new Node();
+    private final Map<String, PackageConfig> firstPackages = new HashMap<>();
+    private final boolean rootNamespaceAvailable;
+
+    public PackageNamespaceIndex(Collection<PackageConfig> packageConfigs) {
+        boolean rootAvailable = false;
+        for (PackageConfig packageConfig : packageConfigs) {
+            String namespace = packageConfig.getNamespace();
+            if (namespace == null) {
+                continue;
+            }
+            firstPackages.putIfAbsent(namespace, packageConfig);
+            root.add(namespace);
+            if ("/".equals(namespace)) {
+                rootAvailable = true;
+            }
+        }
+        this.rootNamespaceAvailable = rootAvailable;
+    }
+
+    @Override
+    public String findLongestNamespace(String path) {
+        String longest = "";
+        Node node = root;
+        int length = path.length();
+        for (int i = 0; ; i++) {
+            if (node.namespace != null && (i == length || path.charAt(i) == '/')) {
+                longest = node.namespace;
+            }
+            if (i == length) {
+                break;
+            }
+            node = node.children.get(path.charAt(i));
+            if (node == null) {
+                break;
+            }
+        }
+        return longest;
+    }
+
+    @Override
+    public boolean isRootNamespaceAvailable() {
+        return rootNamespaceAvailable;
+    }
+
+    @Override
+    public ActionConfig getActionConfig(String namespace, String name) {
+        PackageConfig packageConfig = firstPackages.get(namespace);
+        return packageConfig != null ? packageConfig.getActionConfigs().get(name) : null;
+    }
+
+    @Override
+    public boolean hasNamespace(String namespace) {
+        return firstPackages.containsKey(namespace);
+    }
+
+    private static class Node implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Map<Character, Node> children = new HashMap<>();
+        private String namespace;
+
+        private void add(String value) {
+            Node node = this;
+            for (int i = 0; i < value.length(); i++) {
+                node = node.children.computeIfAbsent(value.charAt(i), c -> new Node());
+            }
+            node.namespace = value;
+        }
+    }
+}
@@ -22,6 +22,7 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Member;
 import java.text.DateFormat;
 import java.text.ParseException;
+import java.text.ParsePosition;
 import java.text.SimpleDateFormat;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -56,75 +57,26 @@ public class DateConverter extends DefaultTypeConverter {
 
             DateFormat df = null;
             if (java.sql.Time.class == toType) {
-                df = DateFormat.getTimeInstance(DateFormat.MEDIUM, locale);
+                df = FormatCache.getTimeInstance(DateFormat.MEDIUM, locale);
             } else if (java.sql.Timestamp.class == toType) {
-                Date check = null;
-                SimpleDateFormat dtfmt = (SimpleDateFormat) DateFormat.getDateTimeInstance(DateFormat.SHORT,
-                        DateFormat.MEDIUM, locale);
-                SimpleDateFormat fullfmt = new SimpleDateFormat(dtfmt.toPattern() + MILLISECOND_FORMAT, locale);
-
-                SimpleDateFormat dfmt = (SimpleDateFormat) DateFormat.getDateInstance(DateFormat.SHORT, locale);
-
-                SimpleDateFormat[] fmts = { fullfmt, dtfmt, dfmt };
-                for (SimpleDateFormat fmt : fmts) {
-                    try {
-                        check = fmt.parse(sa);
-                        df = fmt;
-                        if (check != null) {
-                            break;
-                        }
-                    } catch (ParseException ignore) {
-                    }
-                }
+                DateFormat[] fmts = getTimestampFormats(locale);
+                df = findDateFormat(fmts, sa);
             } else if (java.util.Date.class == toType) {
-                Date check;
                 DateFormat[] dfs = getDateFormats(ActionContext.of(context), locale);
-
-                for (DateFormat df1 : dfs) {
-                    try {
-                        check = df1.parse(sa);
-                        df = df1;
-                        if (check != null) {
-                            break;
-                        }
-                    } catch (ParseException ignore) {
-                    }
-                }
+                df = findDateFormat(dfs, sa);
             } else if (java.time.LocalDateTime.class == toType || java.time.LocalDate.class == toType
                     || java.time.LocalTime.class == toType) {
-                DateTimeFormatter dtf = null;
-                TemporalAccessor check = null;
                 DateTimeFormatter[] dfs = getDateTimeFormats(ActionContext.of(context), locale);
-
-                for (DateTimeFormatter df1 : dfs) {
-                    try {
-                        check = df1.parseBest(sa, LocalDateTime::from, LocalDate::from, LocalTime::from);
-                        dtf = df1;
-                        if (check != null) {
-                            break;
-                        }
-                    } catch (DateTimeParseException ignore) {
-                    }
-                }
-                try {
-                    if (dtf != null && check instanceof LocalDateTime) {
-                        return LocalDateTime.parse(sa, dtf);
-                    } else if (dtf != null && check instanceof LocalDate) {
-                        return LocalDate.parse(sa, dtf);
-                    } else if (dtf != null && check instanceof LocalTime) {
-                        return LocalTime.parse(sa, dtf);
-                    } else {
-                        throw new TypeConversionException("Could not parse date");
-                    }
-                } catch (DateTimeParseException e) {
-                    throw new TypeConversionException("Could not parse date", e);
+                TemporalAccessor check = parseBest(dfs, sa);
+                if (check == null) {
+                    throw new TypeConversionException("Could not parse date");
                 }
-
+                return check;
             }
 
             // final fallback for dates without time
             if (df == null) {
-                df = DateFormat.getDateInstance(DateFormat.SHORT, locale);
+                df = FormatCache.getDateInstance(DateFormat.SHORT, locale);
             }
             try {
                 df.setLenient(false); // let's use strict parsing (XW-341)
@@ -148,6 +100,53 @@ public class DateConverter extends DefaultTypeConverter {
         return result;
     }
 
+    /**
+     * Finds the first format able to parse the given value, without relying on thrown {@link ParseException}s
+     *
+     * @param formats the formats to try, in order
+     * @param value   the value to parse
+     * @return the matching format or null if none can parse the value
+     */
+    private DateFormat findDateFormat(DateFormat[] formats, String value) {
+        for (DateFormat format : formats) {
+            ParsePosition position = new ParsePosition(0);
+            if (format.parse(value, position) != null && position.getIndex() > 0) {
+                return format;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Parses the whole given value with the first matching formatter into a {@link LocalDateTime}, {@link LocalDate}
+     * or {@link LocalTime}, formatters which don't match the value are skipped without throwing any exception.
+     *
+     * @param formatters the formatters to try, in order
+     * @param value      the value to parse
+     * @return the parsed value or null if none of the formatters can parse it
+     */
+    private TemporalAccessor parseBest(DateTimeFormatter[] formatters, String value) {
+        for (DateTimeFormatter formatter : formatters) {
+            ParsePosition position = new ParsePosition(0);
+            if (formatter.parseUnresolved(value, position) == null || position.getIndex() != value.length()) {
+                continue;
+            }
+            try {
+                return formatter.parseBest(value, LocalDateTime::from, LocalDate::from, LocalTime::from);
+            } catch (DateTimeParseException ignore) {
+                // parsed but cannot be resolved into a date or a time, e.g. an invalid day of month
+            }
+        }
+        return null;
+    }
+
+    private DateFormat[] getTimestampFormats(Locale locale) {
+        SimpleDateFormat dtfmt = (SimpleDateFormat) FormatCache.getDateTimeInstance(DateFormat.SHORT, DateFormat.MEDIUM, locale);
+        SimpleDateFormat fullfmt = FormatCache.getSimpleDateFormat(dtfmt.toPattern() + MILLISECOND_FORMAT, locale);
+        DateFormat dfmt = FormatCache.getDateInstance(DateFormat.SHORT, locale);
+        return new DateFormat[] { fullfmt, dtfmt, dfmt };
+    }
+
     /**
      * The user defined global date format, see
      * {@link org.apache.struts2.components.Date#DATETAG_PROPERTY}
@@ -188,19 +187,19 @@ public class DateConverter extends DefaultTypeConverter {
         DateFormat globalDateFormat = null;
         String globalFormat = getGlobalDateString(context);
         if (globalFormat != null) {
-            globalDateFormat = new SimpleDateFormat(globalFormat, locale);
+            globalDateFormat = FormatCache.getSimpleDateFormat(globalFormat, locale);
         }
 
-        DateFormat dt1 = DateFormat.getDateTimeInstance(DateFormat.SHORT, DateFormat.LONG, locale);
-        DateFormat dt2 = DateFormat.getDateTimeInstance(DateFormat.SHORT, DateFormat.MEDIUM, locale);
-        DateFormat dt3 = DateFormat.getDateTimeInstance(DateFormat.SHORT, DateFormat.SHORT, locale);
+        DateFormat dt1 = FormatCache.getDateTimeInstance(DateFormat.SHORT, DateFormat.LONG, locale);
+        DateFormat dt2 = FormatCache.getDateTimeInstance(DateFormat.SHORT, DateFormat.MEDIUM, locale);
+        DateFormat dt3 = FormatCache.getDateTimeInstance(DateFormat.SHORT, DateFormat.SHORT, locale);
 
-        DateFormat d1 = DateFormat.getDateInstance(DateFormat.SHORT, locale);
-        DateFormat d2 = DateFormat.getDateInstance(DateFormat.MEDIUM, locale);
-        DateFormat d3 = DateFormat.getDateInstance(DateFormat.LONG, locale);
+        DateFormat d1 = FormatCache.getDateInstance(DateFormat.SHORT, locale);
+        DateFormat d2 = FormatCache.getDateInstance(DateFormat.MEDIUM, locale);
+        DateFormat d3 = FormatCache.getDateInstance(DateFormat.LONG, locale);
 
-        DateFormat rfc3339 = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss");
-        DateFormat rfc3339dateOnly = new SimpleDateFormat("yyyy-MM-dd");
+        DateFormat rfc3339 = FormatCache.getSimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss", Locale.getDefault(Locale.Category.FORMAT));
+        DateFormat rfc3339dateOnly = FormatCache.getSimpleDateFormat("yyyy-MM-dd", Locale.getDefault(Locale.Category.FORMAT));
 
         final DateFormat[] dateFormats;
 
@@ -226,7 +225,7 @@ public class DateConverter extends DefaultTypeConverter {
         DateTimeFormatter globalDateFormat = null;
         String globalFormat = getGlobalDateString(context);
         if (globalFormat != null) {
-            globalDateFormat = DateTimeFormatter.ofPattern(globalFormat, locale);
+            globalDateFormat = FormatCache.getDateTimeFormatter(globalFormat, locale);
         }
 
         DateTimeFormatter df1 = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
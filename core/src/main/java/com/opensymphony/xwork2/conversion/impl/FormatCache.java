@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.opensymphony.xwork2.conversion.impl;
+
+import java.text.DateFormat;
+import java.text.Format;
+import java.text.NumberFormat;
+import java.text.SimpleDateFormat;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Caches the date and number formats used by the converters, per locale and per style or pattern.
+ * <p>
+ * Looking up localized formats is expensive, so each format is created once and a clone of it is returned
+ * on each call, as {@link DateFormat} and {@link NumberFormat} aren't thread-safe. {@link DateTimeFormatter}s
+ * are immutable and returned as is.
+ * </p>
+ * <p>
+ * The cache is cleared when it reaches {@link #MAX_CACHED_FORMATS} entries, the same way as OGNL caches.
+ * </p>
+ */
+final class FormatCache {
+
+    static final int MAX_CACHED_FORMATS = 1000;
+
+    private static final Map<String, Format> FORMATS = new ConcurrentHashMap<>();
+    private static final Map<String, DateTimeFormatter> DATE_TIME_FORMATTERS = new ConcurrentHashMap<>();
+
+    private FormatCache() {
+    }
+
+    static DateFormat getDateInstance(int style, Locale locale) {
+        return cloneOf("date|" + locale + "|" + style, () -> DateFormat.getDateInstance(style, locale));
+    }
+
+    static DateFormat getTimeInstance(int style, Locale locale) {
+        return cloneOf("time|" + locale + "|" + style, () -> DateFormat.getTimeInstance(style, locale));
+    }
+
+    static DateFormat getDateTimeInstance(int dateStyle, int timeStyle, Locale locale) {
+        return cloneOf("dateTime|" + locale + "|" + dateStyle + "|" + timeStyle,
+            () -> DateFormat.getDateTimeInstance(dateStyle, timeStyle, locale));
+    }
+
+    static SimpleDateFormat getSimpleDateFormat(String pattern, Locale locale) {
+        return cloneOf("pattern|" + locale + "|" + pattern, () -> new SimpleDateFormat(pattern, locale));
+    }
+
+    static NumberFormat getInstance(Locale locale) {
+        return cloneOf("number|" + locale, () -> NumberFormat.getInstance(locale));
+    }
+
+    static NumberFormat getNumberInstance(Locale locale) {
+        return cloneOf("numberInstance|" + locale, () -> NumberFormat.getNumberInstance(locale));
+    }
+
+    static DateTimeFormatter getDateTimeFormatter(String pattern, Locale locale) {
+        String key = locale + "|" + pattern;
+        DateTimeFormatter formatter = DATE_TIME_FORMATTERS.get(key);
+        if (formatter == null) {
+            formatter = DateTimeFormatter.ofPattern(pattern, locale);
+            clearIfLimitExceeded(DATE_TIME_FORMATTERS);
+            DATE_TIME_FORMATTERS.putIfAbsent(key, formatter);
+        }
+        return formatter;
+    }
+
+    static int size() {
+        return FORMATS.size() + DATE_TIME_FORMATTERS.size();
+    }
+
+    static void clear() {
+        FORMATS.clear();
+        DATE_TIME_FORMATTERS.clear();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Format> T cloneOf(String key, Supplier<T> factory) {
+        Format format = FORMATS.get(key);
+        if (format == null) {
+            format = factory.get();
+            clearIfLimitExceeded(FORMATS);
+            FORMATS.putIfAbsent(key, format);
+        }
+        return (T) format.clone();
+    }
+
+    private static void clearIfLimitExceeded(Map<String, ?> cache) {
+        if (cache.size() >= MAX_CACHED_FORMATS) {
+            cache.clear();
+        }
+    }
+}
@@ -58,7 +58,7 @@ public class NumberConverter extends DefaultTypeConverter {
                 if (!toType.isPrimitive() && stringValue.isEmpty()) {
                     return null;
                 }
-                NumberFormat numFormat = NumberFormat.getInstance(getLocale(context));
+                NumberFormat numFormat = FormatCache.getInstance(getLocale(context));
                 ParsePosition parsePos = new ParsePosition(0);
                 if (isIntegerType(toType)) {
                     numFormat.setParseIntegerOnly(true);
@@ -166,7 +166,7 @@ public class NumberConverter extends DefaultTypeConverter {
     }
 
     protected NumberFormat getNumberFormat(Locale locale) {
-        NumberFormat format = NumberFormat.getNumberInstance(locale);
+        NumberFormat format = FormatCache.getNumberInstance(locale);
         format.setGroupingUsed(true);
         return format;
     }
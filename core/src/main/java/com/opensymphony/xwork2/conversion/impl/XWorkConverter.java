@@ -36,6 +36,7 @@ import java.lang.reflect.Method;
 import java.net.URL;
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -402,33 +403,46 @@ public class XWorkConverter extends DefaultTypeConverter {
         return result;
     }
 
+    /**
+     * Returns the converter mapped to the given property of the given class.
+     * <p>
+     * Mappings are built once per class and stored as immutable maps in the {@link TypeConverterHolder},
+     * classes without any mapping are remembered as well, so no lock is needed to read them.
+     * A mapping can be built twice when two threads access a class for the first time, both results being equal.
+     * Mappings are reloaded only when {@link StrutsConstants#STRUTS_CONFIGURATION_XML_RELOAD} is enabled.
+     * </p>
+     *
+     * @param clazz    the class declaring the property
+     * @param property the property name, with an optional prefix
+     * @return the mapped converter, class or string value or null if none is mapped
+     */
     protected Object getConverter(Class clazz, String property) {
         LOG.debug("Retrieving convert for class [{}] and property [{}]", clazz, property);
 
-        synchronized (clazz) {
-            if ((property != null) && !converterHolder.containsNoMapping(clazz)) {
-                try {
-                    Map<String, Object> mapping = converterHolder.getMapping(clazz);
+        if (property == null || converterHolder.containsNoMapping(clazz)) {
+            return null;
+        }
 
-                    if (mapping == null) {
-                        mapping = buildConverterMapping(clazz);
-                    } else {
-                        mapping = conditionalReload(clazz, mapping);
-                    }
+        try {
+            Map<String, Object> mapping = converterHolder.getMapping(clazz);
 
-                    Object converter = mapping.get(property);
-                    if (converter == null && LOG.isDebugEnabled()) {
-                        LOG.debug("Converter is null for property [{}]. Mapping size [{}]:", property, mapping.size());
-                        for (Map.Entry<String, Object> entry : mapping.entrySet()) {
-                            LOG.debug("{}:{}", entry.getKey(), entry.getValue());
-                        }
-                    }
-                    return converter;
-                } catch (Throwable t) {
-                    LOG.debug("Got exception trying to resolve convert for class [{}] and property [{}]", clazz, property, t);
-                    converterHolder.addNoMapping(clazz);
+            if (mapping == null) {
+                mapping = buildConverterMapping(clazz);
+            } else if (reloadingConfigs) {
+                mapping = conditionalReload(clazz, mapping);
+            }
+
+            Object converter = mapping.get(property);
+            if (converter == null && LOG.isDebugEnabled()) {
+                LOG.debug("Converter is null for property [{}]. Mapping size [{}]:", property, mapping.size());
+                for (Map.Entry<String, Object> entry : mapping.entrySet()) {
+                    LOG.debug("{}:{}", entry.getKey(), entry.getValue());
                 }
             }
+            return converter;
+        } catch (Throwable t) {
+            LOG.debug("Got exception trying to resolve convert for class [{}] and property [{}]", clazz, property, t);
+            converterHolder.addNoMapping(clazz);
         }
         return null;
     }
@@ -570,23 +584,25 @@ public class XWorkConverter extends DefaultTypeConverter {
             curClazz = curClazz.getSuperclass();
         }
 
-        if (mapping.size() > 0) {
-            converterHolder.addMapping(clazz, mapping);
-        } else {
+        if (mapping.isEmpty()) {
             converterHolder.addNoMapping(clazz);
+            return Collections.emptyMap();
         }
 
+        mapping = Collections.unmodifiableMap(mapping);
+        converterHolder.addMapping(clazz, mapping);
         return mapping;
     }
 
+    /**
+     * Rebuilds the mapping of the given class if its conversion file has changed, used in dev mode only.
+     */
     private Map<String, Object> conditionalReload(Class clazz, Map<String, Object> oldValues) throws Exception {
         Map<String, Object> mapping = oldValues;
 
-        if (reloadingConfigs) {
-            URL fileUrl = ClassLoaderUtil.getResource(buildConverterFilename(clazz), clazz);
-            if (fileManager.fileNeedsReloading(fileUrl)) {
-                mapping = buildConverterMapping(clazz);
-            }
+        URL fileUrl = ClassLoaderUtil.getResource(buildConverterFilename(clazz), clazz);
+        if (fileManager.fileNeedsReloading(fileUrl)) {
+            mapping = buildConverterMapping(clazz);
         }
 
         return mapping;
@@ -51,6 +51,7 @@ public final class ContainerBuilder {
     final List<Class<?>> staticInjections = new ArrayList<>();
     boolean created;
     boolean allowDuplicates = false;
+    boolean compiledInjection = false;
 
     private static final InternalFactory<Container> CONTAINER_FACTORY =
             new InternalFactory<Container>() {
@@ -608,7 +609,7 @@ public final class ContainerBuilder {
     public Container create(boolean loadSingletons) {
         ensureNotCreated();
         created = true;
-        final ContainerImpl container = new ContainerImpl(new HashMap<>(factories));
+        final ContainerImpl container = new ContainerImpl(new HashMap<>(factories), compiledInjection);
         if (loadSingletons) {
             container.callInContext(new ContainerImpl.ContextualCallable<Void>() {
                 public Void call(InternalContext context) {
@@ -651,6 +652,17 @@ public final class ContainerBuilder {
         allowDuplicates = val;
     }
 
+    /**
+     * If enabled, the created container compiles the field and method injectors of each class
+     * into method handles the first time the class is injected, instead of injecting members using reflection.
+     *
+     * @param val true to enable compiled injection, false by default
+     * @since 7.0.0
+     */
+    public void setCompiledInjection(boolean val) {
+        compiledInjection = val;
+    }
+
     /**
      * Implemented by classes which participate in building a container.
      */
@@ -19,6 +19,9 @@ import com.opensymphony.xwork2.inject.util.ReferenceCache;
 
 import java.io.Serializable;
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Constructor;
@@ -50,9 +53,20 @@ class ContainerImpl implements Container {
 
     final Map<Key<?>, InternalFactory<?>> factories;
     final Map<Class<?>, Set<String>> factoryNamesByType;
+    final boolean compiledInjection;
 
     ContainerImpl(Map<Key<?>, InternalFactory<?>> factories) {
+        this(factories, false);
+    }
+
+    /**
+     * @param factories         factories used to create instances
+     * @param compiledInjection if true, field and method injectors of each class are compiled into
+     *                          a single {@link CompiledInjector} the first time the class is injected
+     */
+    ContainerImpl(Map<Key<?>, InternalFactory<?>> factories, boolean compiledInjection) {
         this.factories = factories;
+        this.compiledInjection = compiledInjection;
         final Map<Class<?>, Set<String>> map = new HashMap<>();
         for (Key<?> key : factories.keySet()) {
             Set<String> names = map.computeIfAbsent(key.getType(), k -> new HashSet<>());
@@ -84,6 +98,17 @@ class ContainerImpl implements Container {
             }
         };
 
+    /**
+     * Field and method injectors compiled into a single injector per class, used in compiled injection mode.
+     */
+    final Map<Class<?>, Injector> compiledInjectors =
+        new ReferenceCache<Class<?>, Injector>() {
+            @Override
+            protected Injector create(Class<?> key) {
+                return new CompiledInjector(injectors.get(key));
+            }
+        };
+
     /**
      * Recursively adds injectors for fields and methods from the given class to the given list. Injects parent classes
      * before sub classes.
@@ -215,6 +240,122 @@ class ContainerImpl implements Container {
         }
     }
 
+    /**
+     * Injects all the fields and methods of a class at once, using method handles instead of reflection.
+     * The external context is saved and restored once per injected object instead of once per member.
+     * Members which cannot be accessed through a method handle are injected using their reflective injector.
+     */
+    static class CompiledInjector implements Injector {
+
+        private static final MethodType FIELD_SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+        private static final MethodType METHOD_INVOKER_TYPE = MethodType.methodType(void.class, Object.class, Object[].class);
+
+        final Injector[] injectors;
+
+        CompiledInjector(List<Injector> injectors) {
+            final List<Injector> compiled = new ArrayList<>(injectors.size());
+            for (Injector injector : injectors) {
+                compiled.add(compile(injector));
+            }
+            this.injectors = compiled.toArray(new Injector[0]);
+        }
+
+        private static Injector compile(Injector injector) {
+            try {
+                if (injector instanceof FieldInjector) {
+                    final FieldInjector fieldInjector = (FieldInjector) injector;
+                    final MethodHandle setter = MethodHandles.lookup()
+                        .unreflectSetter(fieldInjector.field)
+                        .asType(FIELD_SETTER_TYPE);
+                    return new CompiledFieldInjector(fieldInjector, setter);
+                }
+                if (injector instanceof MethodInjector) {
+                    final MethodInjector methodInjector = (MethodInjector) injector;
+                    final MethodHandle invoker = MethodHandles.lookup()
+                        .unreflect(methodInjector.method)
+                        .asSpreader(Object[].class, methodInjector.parameterInjectors.length)
+                        .asType(METHOD_INVOKER_TYPE);
+                    return new CompiledMethodInjector(methodInjector, invoker);
+                }
+            } catch (IllegalAccessException e) {
+                // fall back to reflection
+            }
+            return injector;
+        }
+
+        @Override
+        public void inject(InternalContext context, Object o) {
+            final ExternalContext<?> previous = context.getExternalContext();
+            try {
+                for (Injector injector : injectors) {
+                    injector.inject(context, o);
+                }
+            } finally {
+                context.setExternalContext(previous);
+            }
+        }
+    }
+
+    /**
+     * Field injector used by {@link CompiledInjector}, the external context is restored by the enclosing injector.
+     */
+    static class CompiledFieldInjector implements Injector {
+
+        final MethodHandle setter;
+        final InternalFactory<?> factory;
+        final ExternalContext<?> externalContext;
+
+        CompiledFieldInjector(FieldInjector injector, MethodHandle setter) {
+            this.setter = setter;
+            this.factory = injector.factory;
+            this.externalContext = injector.externalContext;
+        }
+
+        @Override
+        public void inject(InternalContext context, Object o) {
+            context.setExternalContext(externalContext);
+            final Object value = factory.create(context);
+            try {
+                setter.invokeExact(o, value);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new AssertionError(t);
+            }
+        }
+    }
+
+    /**
+     * Method injector used by {@link CompiledInjector}, each parameter injector restores the external context itself.
+     */
+    static class CompiledMethodInjector implements Injector {
+
+        final Method method;
+        final MethodHandle invoker;
+        final ParameterInjector<?>[] parameterInjectors;
+
+        CompiledMethodInjector(MethodInjector injector, MethodHandle invoker) {
+            this.method = injector.method;
+            this.invoker = invoker;
+            this.parameterInjectors = injector.parameterInjectors;
+        }
+
+        @Override
+        public void inject(InternalContext context, Object o) {
+            final Object[] parameters;
+            try {
+                parameters = getParameters(method, context, parameterInjectors);
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+            try {
+                invoker.invokeExact(o, parameters);
+            } catch (Throwable t) {
+                throw new RuntimeException(new InvocationTargetException(t));
+            }
+        }
+    }
+
     /**
      * Gets parameter injectors.
      *
@@ -317,6 +458,7 @@ class ContainerImpl implements Container {
 
         final Class<T> implementation;
         final List<Injector> injectors;
+        final Injector compiledInjector;
         final Constructor<T> constructor;
         final ParameterInjector<?>[] parameterInjectors;
 
@@ -355,6 +497,7 @@ class ContainerImpl implements Container {
                 }
             }
             injectors = container.injectors.get(implementation);
+            compiledInjector = container.compiledInjection ? container.compiledInjectors.get(implementation) : null;
         }
 
         ParameterInjector<?>[] constructParameterInjector(
@@ -431,8 +574,12 @@ class ContainerImpl implements Container {
                 constructionContext.setCurrentReference(t);
 
                 // Inject fields and methods.
-                for (Injector injector : injectors) {
-                    injector.inject(context, t);
+                if (compiledInjector != null) {
+                    compiledInjector.inject(context, t);
+                } else {
+                    for (Injector injector : injectors) {
+                        injector.inject(context, t);
+                    }
                 }
 
                 return t;
@@ -478,6 +625,10 @@ class ContainerImpl implements Container {
     }
 
     void inject(Object o, InternalContext context) {
+        if (compiledInjection) {
+            compiledInjectors.get(o.getClass()).inject(context, o);
+            return;
+        }
         final List<Injector> injectors = this.injectors.get(o.getClass());
         for (Injector injector : injectors) {
             injector.inject(context, o);
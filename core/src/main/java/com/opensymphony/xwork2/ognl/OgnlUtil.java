@@ -21,6 +21,8 @@ package com.opensymphony.xwork2.ognl;
 import com.opensymphony.xwork2.conversion.impl.XWorkConverter;
 import com.opensymphony.xwork2.inject.Container;
 import com.opensymphony.xwork2.inject.Inject;
+import com.opensymphony.xwork2.ognl.accessor.CompoundRootShapeCache;
+import com.opensymphony.xwork2.ognl.accessor.CompoundRootShapeCache.Lookup;
 import com.opensymphony.xwork2.ognl.accessor.RootAccessor;
 import com.opensymphony.xwork2.util.CompoundRoot;
 import com.opensymphony.xwork2.util.reflection.ReflectionException;
@@ -490,7 +492,9 @@ public class OgnlUtil {
             CompoundRoot cr = (CompoundRoot) root;
 
             try {
-                for (Object target : cr) {
+                int start = CompoundRootShapeCache.firstCandidate((OgnlContext) context, cr, property, Lookup.TARGET);
+                for (int i = start; i < cr.size(); i++) {
+                    Object target = cr.get(i);
                     if (OgnlRuntime.hasSetProperty((OgnlContext) context, target, property)
                             || OgnlRuntime.hasGetProperty((OgnlContext) context, target, property)
                             || OgnlRuntime.getIndexedPropertyType((OgnlContext) context, target.getClass(), property) != OgnlRuntime.INDEXED_PROPERTY_NONE
@@ -20,6 +20,7 @@ package com.opensymphony.xwork2.ognl;
 
 import com.opensymphony.xwork2.inject.Inject;
 import com.opensymphony.xwork2.util.ProxyUtil;
+import com.opensymphony.xwork2.security.CombinedPatterns;
 import ognl.MemberAccess;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.logging.log4j.LogManager;
@@ -35,10 +36,9 @@ import java.lang.reflect.Member;
 import java.lang.reflect.Modifier;
 import java.util.Arrays;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.regex.Matcher;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 
 import static com.opensymphony.xwork2.util.ConfigParseUtil.toClassObjectsSet;
@@ -55,6 +55,12 @@ import static java.util.Collections.unmodifiableSet;
 /**
  * Allows access decisions to be made on the basis of whether a member is static or not.
  * Also blocks or allows access to properties.
+ * <p>
+ * The decision for a member only depends on the configuration and on the class of the target, so it is
+ * cached per member and target class once access has been granted. The cache is cleared whenever the
+ * configuration of this instance changes. Access granted through the {@link ProviderAllowlist} or
+ * the {@link ThreadAllowlist} is never cached as these allowlists can change at any time.
+ * </p>
  */
 public class SecurityMemberAccess implements MemberAccess {
 
@@ -75,11 +81,21 @@ public class SecurityMemberAccess implements MemberAccess {
             java.util.Map.Entry.class
     )));
 
+    static final int MAX_CACHED_DECISIONS = 10000;
+
+    private static final int MAX_CACHED_PROPERTY_PATTERNS = 100;
+
+    private static final Map<Set<Pattern>, CombinedPatterns> PROPERTY_PATTERNS = new ConcurrentHashMap<>();
+
+    private final Map<Member, Set<Class<?>>> accessibleMembers = new ConcurrentHashMap<>();
+
     private final ProviderAllowlist providerAllowlist;
     private final ThreadAllowlist threadAllowlist;
     private boolean allowStaticFieldAccess = true;
     private Set<Pattern> excludeProperties = emptySet();
     private Set<Pattern> acceptProperties = emptySet();
+    private CombinedPatterns excludePropertiesMatcher = null;
+    private CombinedPatterns acceptPropertiesMatcher = null;
     private Set<String> excludedClasses = unmodifiableSet(new HashSet<>(singletonList(Object.class.getName())));
     private Set<Pattern> excludedPackageNamePatterns = emptySet();
     private Set<String> excludedPackageNames = emptySet();
@@ -171,6 +187,20 @@ public class SecurityMemberAccess implements MemberAccess {
             return false;
         }
 
+        if (!isMemberAccessible(target, member)) {
+            return false;
+        }
+
+        return isAcceptableProperty(propertyName);
+    }
+
+    private boolean isMemberAccessible(Object target, Member member) {
+        Class<?> targetClass = target != null ? target.getClass() : member.getDeclaringClass();
+        Set<Class<?>> targetClasses = accessibleMembers.get(member);
+        if (targetClasses != null && targetClasses.contains(targetClass)) {
+            return true;
+        }
+
         if (!checkPublicMemberAccess(member)) {
             LOG.warn("Access to non-public [{}] is blocked!", member);
             return false;
@@ -198,13 +228,27 @@ public class SecurityMemberAccess implements MemberAccess {
             return false;
         }
 
-        if (!isAcceptableProperty(propertyName)) {
-            return false;
+        if (isAllowlistedByConfiguration(targetClass, member.getDeclaringClass())) {
+            if (accessibleMembers.size() >= MAX_CACHED_DECISIONS) {
+                accessibleMembers.clear();
+            }
+            accessibleMembers.computeIfAbsent(member, m -> ConcurrentHashMap.newKeySet()).add(targetClass);
         }
-
         return true;
     }
 
+    /**
+     * @return {@code true} if the allowlist doesn't apply or if both classes are allowlisted by the configuration,
+     * access is then granted independently of the provider and thread allowlists
+     */
+    private boolean isAllowlistedByConfiguration(Class<?> targetClass, Class<?> memberClass) {
+        if (!enforceAllowlistEnabled) {
+            return true;
+        }
+        return isClassAllowlistedByConfiguration(memberClass)
+                && (targetClass == memberClass || isClassAllowlistedByConfiguration(targetClass));
+    }
+
     /**
      * @return {@code true} if member access is allowed
      */
@@ -229,10 +273,14 @@ public class SecurityMemberAccess implements MemberAccess {
     }
 
     protected boolean isClassAllowlisted(Class<?> clazz) {
+        return isClassAllowlistedByConfiguration(clazz)
+                || (providerAllowlist != null && providerAllowlist.getProviderAllowlist().contains(clazz))
+                || (threadAllowlist != null && threadAllowlist.getAllowlist().contains(clazz));
+    }
+
+    private boolean isClassAllowlistedByConfiguration(Class<?> clazz) {
         return allowlistClasses.contains(clazz)
                 || ALLOWLIST_REQUIRED_CLASSES.contains(clazz)
-                || (providerAllowlist != null && providerAllowlist.getProviderAllowlist().contains(clazz))
-                || (threadAllowlist != null && threadAllowlist.getAllowlist().contains(clazz))
                 || isClassBelongsToPackages(clazz, ALLOWLIST_REQUIRED_PACKAGES)
                 || isClassBelongsToPackages(clazz, allowlistPackageNames);
     }
@@ -355,7 +403,16 @@ public class SecurityMemberAccess implements MemberAccess {
     }
 
     protected boolean isExcludedPackageNamePatterns(Class<?> clazz) {
-        return excludedPackageNamePatterns.stream().anyMatch(pattern -> pattern.matcher(toPackageName(clazz)).matches());
+        if (excludedPackageNamePatterns.isEmpty()) {
+            return false;
+        }
+        String packageName = toPackageName(clazz);
+        for (Pattern pattern : excludedPackageNamePatterns) {
+            if (pattern.matcher(packageName).matches()) {
+                return true;
+            }
+        }
+        return false;
     }
 
     protected boolean isExcludedPackageNames(Class<?> clazz) {
@@ -363,14 +420,18 @@ public class SecurityMemberAccess implements MemberAccess {
     }
 
     public static boolean isClassBelongsToPackages(Class<?> clazz, Set<String> matchingPackages) {
-        List<String> packageParts = Arrays.asList(toPackageName(clazz).split("\\."));
-        for (int i = 0; i < packageParts.size(); i++) {
-            String parentPackage = String.join(".", packageParts.subList(0, i + 1));
-            if (matchingPackages.contains(parentPackage)) {
+        if (matchingPackages.isEmpty()) {
+            return false;
+        }
+        String packageName = toPackageName(clazz);
+        int separator = packageName.indexOf('.');
+        while (separator != -1) {
+            if (matchingPackages.contains(packageName.substring(0, separator))) {
                 return true;
             }
+            separator = packageName.indexOf('.', separator + 1);
         }
-        return false;
+        return matchingPackages.contains(packageName);
     }
 
     protected boolean isClassExcluded(Class<?> clazz) {
@@ -388,19 +449,47 @@ public class SecurityMemberAccess implements MemberAccess {
         if (acceptProperties.isEmpty()) {
             return true;
         }
-        return acceptProperties.stream().map(pattern -> pattern.matcher(paramName)).anyMatch(Matcher::matches);
+        return acceptPropertiesMatcher.matches(paramName);
     }
 
     protected boolean isExcluded(String paramName) {
-        return excludeProperties.stream().map(pattern -> pattern.matcher(paramName)).anyMatch(Matcher::matches);
+        if (excludeProperties.isEmpty()) {
+            return false;
+        }
+        return excludePropertiesMatcher.matches(paramName);
     }
 
     public void useExcludeProperties(Set<Pattern> excludeProperties) {
         this.excludeProperties = excludeProperties;
+        this.excludePropertiesMatcher = toPropertyPatterns(excludeProperties);
     }
 
     public void useAcceptProperties(Set<Pattern> acceptedProperties) {
         this.acceptProperties = acceptedProperties;
+        this.acceptPropertiesMatcher = toPropertyPatterns(acceptedProperties);
+    }
+
+    /**
+     * The same property patterns are used for each new value stack, so their combined matchers
+     * are shared between all the instances.
+     */
+    private static CombinedPatterns toPropertyPatterns(Set<Pattern> patterns) {
+        if (patterns.isEmpty()) {
+            return null;
+        }
+        CombinedPatterns combined = PROPERTY_PATTERNS.get(patterns);
+        if (combined == null) {
+            combined = new CombinedPatterns(patterns, true);
+            if (PROPERTY_PATTERNS.size() >= MAX_CACHED_PROPERTY_PATTERNS) {
+                PROPERTY_PATTERNS.clear();
+            }
+            PROPERTY_PATTERNS.putIfAbsent(patterns, combined);
+        }
+        return combined;
+    }
+
+    int getCachedDecisionsCount() {
+        return accessibleMembers.values().stream().mapToInt(Set::size).sum();
     }
 
     @Inject(value = StrutsConstants.STRUTS_ALLOW_STATIC_FIELD_ACCESS, required = false)
@@ -409,55 +498,66 @@ public class SecurityMemberAccess implements MemberAccess {
         if (!this.allowStaticFieldAccess) {
             useExcludedClasses(Class.class.getName());
         }
+        accessibleMembers.clear();
     }
 
     @Inject(value = StrutsConstants.STRUTS_EXCLUDED_CLASSES, required = false)
     public void useExcludedClasses(String commaDelimitedClasses) {
        this.excludedClasses = toNewClassesSet(excludedClasses, commaDelimitedClasses);
+        accessibleMembers.clear();
     }
 
     @Inject(value = StrutsConstants.STRUTS_EXCLUDED_PACKAGE_NAME_PATTERNS, required = false)
     public void useExcludedPackageNamePatterns(String commaDelimitedPackagePatterns) {
         this.excludedPackageNamePatterns = toNewPatternsSet(excludedPackageNamePatterns, commaDelimitedPackagePatterns);
+        accessibleMembers.clear();
     }
 
     @Inject(value = StrutsConstants.STRUTS_EXCLUDED_PACKAGE_NAMES, required = false)
     public void useExcludedPackageNames(String commaDelimitedPackageNames) {
         this.excludedPackageNames = toNewPackageNamesSet(excludedPackageNames, commaDelimitedPackageNames);
+        accessibleMembers.clear();
     }
 
     @Inject(value = StrutsConstants.STRUTS_EXCLUDED_PACKAGE_EXEMPT_CLASSES, required = false)
     public void useExcludedPackageExemptClasses(String commaDelimitedClasses) {
         this.excludedPackageExemptClasses = toClassesSet(commaDelimitedClasses);
+        accessibleMembers.clear();
     }
 
     @Inject(value = StrutsConstants.STRUTS_ALLOWLIST_ENABLE, required = false)
     public void useEnforceAllowlistEnabled(String enforceAllowlistEnabled) {
         this.enforceAllowlistEnabled = BooleanUtils.toBoolean(enforceAllowlistEnabled);
+        accessibleMembers.clear();
     }
 
     @Inject(value = StrutsConstants.STRUTS_ALLOWLIST_CLASSES, required = false)
     public void useAllowlistClasses(String commaDelimitedClasses) {
         this.allowlistClasses = toClassObjectsSet(commaDelimitedClasses);
+        accessibleMembers.clear();
     }
 
     @Inject(value = StrutsConstants.STRUTS_ALLOWLIST_PACKAGE_NAMES, required = false)
     public void useAllowlistPackageNames(String commaDelimitedPackageNames) {
         this.allowlistPackageNames = toPackageNamesSet(commaDelimitedPackageNames);
+        accessibleMembers.clear();
     }
 
     @Inject(value = StrutsConstants.STRUTS_DISALLOW_PROXY_OBJECT_ACCESS, required = false)
     public void useDisallowProxyObjectAccess(String disallowProxyObjectAccess) {
         this.disallowProxyObjectAccess = BooleanUtils.toBoolean(disallowProxyObjectAccess);
+        accessibleMembers.clear();
     }
 
     @Inject(value = StrutsConstants.STRUTS_DISALLOW_PROXY_MEMBER_ACCESS, required = false)
     public void useDisallowProxyMemberAccess(String disallowProxyMemberAccess) {
         this.disallowProxyMemberAccess = BooleanUtils.toBoolean(disallowProxyMemberAccess);
+        accessibleMembers.clear();
     }
 
     @Inject(value = StrutsConstants.STRUTS_DISALLOW_DEFAULT_PACKAGE_ACCESS, required = false)
     public void useDisallowDefaultPackageAccess(String disallowDefaultPackageAccess) {
         this.disallowDefaultPackageAccess = BooleanUtils.toBoolean(disallowDefaultPackageAccess);
+        accessibleMembers.clear();
     }
 }
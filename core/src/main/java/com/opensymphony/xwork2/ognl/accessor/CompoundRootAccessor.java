@@ -20,6 +20,7 @@ package com.opensymphony.xwork2.ognl.accessor;
 
 import com.opensymphony.xwork2.inject.Inject;
 import com.opensymphony.xwork2.ognl.OgnlValueStack;
+import com.opensymphony.xwork2.ognl.accessor.CompoundRootShapeCache.Lookup;
 import com.opensymphony.xwork2.util.CompoundRoot;
 import com.opensymphony.xwork2.util.ValueStack;
 import ognl.MethodFailedException;
@@ -98,7 +99,9 @@ public class CompoundRootAccessor implements RootAccessor {
         CompoundRoot root = (CompoundRoot) target;
         OgnlContext ognlContext = (OgnlContext) context;
 
-        for (Object o : root) {
+        int start = name instanceof String ? CompoundRootShapeCache.firstCandidate(ognlContext, root, (String) name, Lookup.SET) : 0;
+        for (int i = start; i < root.size(); i++) {
+            Object o = root.get(i);
             if (o == null) {
                 continue;
             }
@@ -159,7 +162,9 @@ public class CompoundRootAccessor implements RootAccessor {
                 }
             }
 
-            for (Object o : root) {
+            int start = CompoundRootShapeCache.firstCandidate(ognlContext, root, (String) name, Lookup.GET);
+            for (int i = start; i < root.size(); i++) {
+                Object o = root.get(i);
                 if (o == null) {
                     continue;
                 }
@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.opensymphony.xwork2.ognl.accessor;
+
+import com.opensymphony.xwork2.util.CompoundRoot;
+import ognl.OgnlContext;
+import ognl.OgnlException;
+import ognl.OgnlRuntime;
+
+import java.beans.IntrospectionException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches, per shape of a {@link CompoundRoot} (the classes of its objects) and per property name, the index
+ * of the first object which may expose the property, so lookups can skip the objects which cannot have it.
+ * <p>
+ * Only the structure of the classes is taken into account: an object is skipped when its class has no getter,
+ * setter or field for the property, which never changes. Maps are never skipped as their keys change
+ * at any time. The candidate objects are then checked as before, including the member access checks,
+ * so the first matching object is the same as when scanning the whole root.
+ * </p>
+ * <p>
+ * The cache is cleared when it reaches {@link #MAX_CACHED_SHAPES} entries, the same way as OGNL caches.
+ * </p>
+ *
+ * @since 7.0.0
+ */
+public final class CompoundRootShapeCache {
+
+    static final int MAX_CACHED_SHAPES = 10000;
+
+    /**
+     * The kind of property lookup
+     */
+    public enum Lookup {
+        /**
+         * Reading a property, maps may contain the property as a key
+         */
+        GET,
+        /**
+         * Writing a property, maps accept the property as a key
+         */
+        SET,
+        /**
+         * Finding the object owning a property, including indexed properties
+         */
+        TARGET
+    }
+
+    private static final Map<Shape, Integer> CANDIDATES = new ConcurrentHashMap<>();
+
+    private CompoundRootShapeCache() {
+    }
+
+    /**
+     * @param context the OGNL context
+     * @param root    the compound root
+     * @param name    the name of the property
+     * @param lookup  the kind of lookup
+     * @return the index of the first object of the root which may expose the property,
+     * or the size of the root if none of them can
+     */
+    public static int firstCandidate(OgnlContext context, CompoundRoot root, String name, Lookup lookup) {
+        Shape shape = new Shape(root, name, lookup);
+        Integer index = CANDIDATES.get(shape);
+        if (index == null) {
+            index = findFirstCandidate(context, root, name, lookup);
+            if (CANDIDATES.size() >= MAX_CACHED_SHAPES) {
+                CANDIDATES.clear();
+            }
+            CANDIDATES.putIfAbsent(shape, index);
+        }
+        return index;
+    }
+
+    static int size() {
+        return CANDIDATES.size();
+    }
+
+    static void clear() {
+        CANDIDATES.clear();
+    }
+
+    private static int findFirstCandidate(OgnlContext context, CompoundRoot root, String name, Lookup lookup) {
+        for (int i = 0; i < root.size(); i++) {
+            Object o = root.get(i);
+            if (o != null && isCandidate(context, o, name, lookup)) {
+                return i;
+            }
+        }
+        return root.size();
+    }
+
+    private static boolean isCandidate(OgnlContext context, Object o, String name, Lookup lookup) {
+        Class<?> clazz = o.getClass();
+        if (lookup != Lookup.TARGET && o instanceof Map) {
+            return true;
+        }
+        try {
+            if (OgnlRuntime.getField(clazz, name) != null) {
+                return true;
+            }
+            switch (lookup) {
+                case GET:
+                    return OgnlRuntime.getGetMethod(context, clazz, name) != null;
+                case SET:
+                    return OgnlRuntime.getSetMethod(context, clazz, name) != null;
+                default:
+                    return OgnlRuntime.getGetMethod(context, clazz, name) != null
+                            || OgnlRuntime.getSetMethod(context, clazz, name) != null
+                            || OgnlRuntime.getIndexedPropertyType(context, clazz, name) != OgnlRuntime.INDEXED_PROPERTY_NONE;
+            }
+        } catch (IntrospectionException | OgnlException e) {
+            // let the lookup check this object as before
+            return true;
+        }
+    }
+
+    private static final class Shape {
+
+        private final Class<?>[] classes;
+        private final String name;
+        private final Lookup lookup;
+        private final int hash;
+
+        private Shape(CompoundRoot root, String name, Lookup lookup) {
+            this.classes = new Class<?>[root.size()];
+            for (int i = 0; i < classes.length; i++) {
+                Object o = root.get(i);
+                classes[i] = o != null ? o.getClass() : null;
+            }
+            this.name = name;
+            this.lookup = lookup;
+            this.hash = 31 * (31 * Arrays.hashCode(classes) + name.hashCode()) + lookup.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Shape)) {
+                return false;
+            }
+            Shape shape = (Shape) obj;
+            return lookup == shape.lookup && name.equals(shape.name) && Arrays.equals(classes, shape.classes);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
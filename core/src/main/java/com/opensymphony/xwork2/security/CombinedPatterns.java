@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.opensymphony.xwork2.security;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Matches a value against a set of patterns using a single regular expression combining all of them,
+ * instead of evaluating each pattern in turn.
+ * <p>
+ * Patterns which cannot be safely combined, like patterns using back references or different flags,
+ * are evaluated one by one as before. When enabled, decisions are cached per value, as the same parameter
+ * names are checked on every request. The cache is cleared when it reaches {@link #MAX_CACHED_DECISIONS} entries,
+ * the same way as OGNL caches, and values longer than {@link #MAX_CACHED_VALUE_LENGTH} are never cached.
+ * </p>
+ *
+ * @since 7.0.0
+ */
+public final class CombinedPatterns {
+
+    private static final Logger LOG = LogManager.getLogger(CombinedPatterns.class);
+
+    static final int MAX_CACHED_DECISIONS = 10000;
+    static final int MAX_CACHED_VALUE_LENGTH = 256;
+
+    private static final Pattern UNSAFE_TO_COMBINE = Pattern.compile("\\\\([1-9]|k<|Q)|\\(\\?<[a-zA-Z]");
+
+    private final Set<Pattern> patterns;
+    private final Pattern combined;
+    private final Map<String, Optional<Pattern>> decisions;
+
+    /**
+     * @param patterns       the patterns to match, the set is used as is and must not be modified
+     * @param cacheDecisions true to cache the matching pattern per value
+     */
+    public CombinedPatterns(Set<Pattern> patterns, boolean cacheDecisions) {
+        this.patterns = patterns;
+        this.combined = combine(patterns);
+        this.decisions = cacheDecisions ? new ConcurrentHashMap<>() : null;
+    }
+
+    private static Pattern combine(Set<Pattern> patterns) {
+        if (patterns.size() < 2) {
+            return null;
+        }
+        Integer flags = null;
+        StringBuilder alternation = new StringBuilder();
+        for (Pattern pattern : patterns) {
+            if (flags != null && flags != pattern.flags()) {
+                LOG.debug("Patterns [{}] use different flags and will be matched one by one", patterns);
+                return null;
+            }
+            if (UNSAFE_TO_COMBINE.matcher(pattern.pattern()).find()) {
+                LOG.debug("Pattern [{}] cannot be combined, patterns [{}] will be matched one by one", pattern, patterns);
+                return null;
+            }
+            flags = pattern.flags();
+            if (alternation.length() > 0) {
+                alternation.append('|');
+            }
+            alternation.append("(?:").append(pattern.pattern()).append(')');
+        }
+        try {
+            return Pattern.compile(alternation.toString(), flags);
+        } catch (PatternSyntaxException e) {
+            LOG.debug("Patterns [{}] cannot be combined, they will be matched one by one", patterns, e);
+            return null;
+        }
+    }
+
+    /**
+     * @return the patterns used to build this matcher
+     */
+    public Set<Pattern> getPatterns() {
+        return patterns;
+    }
+
+    /**
+     * @param value the value to match
+     * @return the pattern fully matching the value or null if no pattern matches it
+     */
+    public Pattern findMatchingPattern(String value) {
+        if (decisions == null || value.length() > MAX_CACHED_VALUE_LENGTH) {
+            return match(value);
+        }
+        Optional<Pattern> decision = decisions.get(value);
+        if (decision == null) {
+            decision = Optional.ofNullable(match(value));
+            if (decisions.size() >= MAX_CACHED_DECISIONS) {
+                decisions.clear();
+            }
+            decisions.putIfAbsent(value, decision);
+        }
+        return decision.orElse(null);
+    }
+
+    /**
+     * @param value the value to match
+     * @return true if any pattern fully matches the value
+     */
+    public boolean matches(String value) {
+        return findMatchingPattern(value) != null;
+    }
+
+    int getCachedDecisionsCount() {
+        return decisions == null ? 0 : decisions.size();
+    }
+
+    boolean isCombined() {
+        return combined != null;
+    }
+
+    private Pattern match(String value) {
+        if (combined != null && !combined.matcher(value).matches()) {
+            return null;
+        }
+        for (Pattern pattern : patterns) {
+            if (pattern.matcher(value).matches()) {
+                return pattern;
+            }
+        }
+        return null;
+    }
+}
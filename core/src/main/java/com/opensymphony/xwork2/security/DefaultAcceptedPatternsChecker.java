@@ -52,6 +52,7 @@ public class DefaultAcceptedPatternsChecker implements AcceptedPatternsChecker {
     };
 
     protected Set<Pattern> acceptedPatterns;
+    private CombinedPatterns combinedPatterns;
 
     public DefaultAcceptedPatternsChecker() {
         setAcceptedPatterns(ACCEPTED_PATTERNS);
@@ -121,13 +122,22 @@ public class DefaultAcceptedPatternsChecker implements AcceptedPatternsChecker {
 
     @Override
     public IsAccepted isAccepted(String value) {
-        for (Pattern acceptedPattern : acceptedPatterns) {
-            if (acceptedPattern.matcher(value).matches()) {
-                LOG.trace("[{}] matches accepted pattern [{}]", value, acceptedPattern);
-                return IsAccepted.yes(acceptedPattern.toString());
-            }
+        CombinedPatterns combined = getCombinedPatterns();
+        Pattern acceptedPattern = combined.findMatchingPattern(value);
+        if (acceptedPattern != null) {
+            LOG.trace("[{}] matches accepted pattern [{}]", value, acceptedPattern);
+            return IsAccepted.yes(acceptedPattern.toString());
+        }
+        return IsAccepted.no(combined.getPatterns().toString());
+    }
+
+    private CombinedPatterns getCombinedPatterns() {
+        CombinedPatterns combined = combinedPatterns;
+        if (combined == null || combined.getPatterns() != acceptedPatterns) {
+            combined = new CombinedPatterns(acceptedPatterns, true);
+            combinedPatterns = combined;
         }
-        return IsAccepted.no(acceptedPatterns.toString());
+        return combined;
     }
 
     @Override
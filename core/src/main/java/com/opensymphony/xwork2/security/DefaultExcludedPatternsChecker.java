@@ -42,6 +42,9 @@ public class DefaultExcludedPatternsChecker implements ExcludedPatternsChecker {
     };
 
     private Set<Pattern> excludedPatterns;
+    private CombinedPatterns combinedPatterns;
+    private IsExcluded notExcluded;
+    private Set<Pattern> notExcludedPatterns;
 
     public DefaultExcludedPatternsChecker() {
         setExcludedPatterns(EXCLUDED_PATTERNS);
@@ -104,13 +107,29 @@ public class DefaultExcludedPatternsChecker implements ExcludedPatternsChecker {
 
     @Override
     public IsExcluded isExcluded(String value) {
-        for (Pattern excludedPattern : excludedPatterns) {
-            if (excludedPattern.matcher(value).matches()) {
-                LOG.trace("[{}] matches excluded pattern [{}]", value, excludedPattern);
-                return IsExcluded.yes(excludedPattern);
-            }
+        CombinedPatterns combined = getCombinedPatterns();
+        Pattern excludedPattern = combined.findMatchingPattern(value);
+        if (excludedPattern != null) {
+            LOG.trace("[{}] matches excluded pattern [{}]", value, excludedPattern);
+            return IsExcluded.yes(excludedPattern);
+        }
+        // the description of all the patterns is only built once, as most values aren't excluded
+        IsExcluded result = notExcluded;
+        if (result == null || notExcludedPatterns != combined.getPatterns()) {
+            result = IsExcluded.no(combined.getPatterns());
+            notExcluded = result;
+            notExcludedPatterns = combined.getPatterns();
+        }
+        return result;
+    }
+
+    private CombinedPatterns getCombinedPatterns() {
+        CombinedPatterns combined = combinedPatterns;
+        if (combined == null || combined.getPatterns() != excludedPatterns) {
+            combined = new CombinedPatterns(excludedPatterns, true);
+            combinedPatterns = combined;
         }
-        return IsExcluded.no(excludedPatterns);
+        return combined;
     }
 
     @Override
@@ -42,6 +42,7 @@ import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
 
 abstract class AbstractLocalizedTextProvider implements LocalizedTextProvider {
 
@@ -56,16 +57,23 @@ abstract class AbstractLocalizedTextProvider implements LocalizedTextProvider {
     private static final String TOMCAT_WEBAPP_CLASSLOADER_BASE = "org.apache.catalina.loader.WebappClassLoaderBase";
     private static final String RELOADED = "com.opensymphony.xwork2.util.LocalizedTextProvider.reloaded";
 
-    protected final ConcurrentMap<String, ResourceBundle> bundlesMap = new ConcurrentHashMap<>();
+    protected final ConcurrentMap<BundleKey, ResourceBundle> bundlesMap = new ConcurrentHashMap<>();
     protected boolean devMode = false;
     protected boolean reloadBundles = false;
     protected boolean searchDefaultBundlesFirst = false;  // Search default resource bundles first.  Note: This flag may not be meaningful to all implementations.
 
     private final ConcurrentMap<MessageFormatKey, MessageFormat> messageFormats = new ConcurrentHashMap<>();
     private final ConcurrentMap<Integer, List<String>> classLoaderMap = new ConcurrentHashMap<>();
-    private final Set<String> missingBundles = ConcurrentHashMap.newKeySet();
+    private final Set<BundleKey> missingBundles = ConcurrentHashMap.newKeySet();
     private final ConcurrentMap<Integer, ClassLoader> delegatedClassLoaderMap = new ConcurrentHashMap<>();
 
+    private final LongAdder bundleCacheHits = new LongAdder();
+    private final LongAdder bundleCacheMisses = new LongAdder();
+    private final LongAdder messageFormatCacheHits = new LongAdder();
+    private final LongAdder messageFormatCacheMisses = new LongAdder();
+    private final LongAdder missingBundleCacheHits = new LongAdder();
+    private final LongAdder missingBundleCacheMisses = new LongAdder();
+
     /**
      * Adds the bundle to the internal list of default bundles.
      * If the bundle already exists in the list it will be re-added.
@@ -162,8 +170,7 @@ abstract class AbstractLocalizedTextProvider implements LocalizedTextProvider {
     public String findDefaultText(String aTextName, Locale locale, Object[] params) {
         String defaultText = findDefaultText(aTextName, locale);
         if (defaultText != null) {
-            MessageFormat mf = buildMessageFormat(defaultText, locale);
-            return formatWithNullDetection(mf, params);
+            return formatMessage(defaultText, locale, params);
         }
         return null;
     }
@@ -199,9 +206,8 @@ abstract class AbstractLocalizedTextProvider implements LocalizedTextProvider {
             reloadBundles(valueStack.getContext());
 
             String message = TextParseUtil.translateVariables(bundle.getString(aTextName), valueStack);
-            MessageFormat mf = buildMessageFormat(message, locale);
 
-            return formatWithNullDetection(mf, args);
+            return formatMessage(message, locale, args);
         } catch (MissingResourceException ex) {
             if (devMode) {
                 LOG.warn("Missing key [{}] in bundle [{}]!", aTextName, bundle);
@@ -251,9 +257,10 @@ abstract class AbstractLocalizedTextProvider implements LocalizedTextProvider {
      * @since 6.0.0
      */
     protected void clearBundle(final String bundleName, Locale locale) {
-        final String key = createMissesKey(String.valueOf(getCurrentThreadContextClassLoader().hashCode()), bundleName, locale);
+        final BundleKey key = new BundleKey(getCurrentThreadContextClassLoader().hashCode(), bundleName, locale);
         final ResourceBundle removedBundle = bundlesMap.remove(key);
         LOG.debug("Clearing resource bundle [{}], locale [{}], result: [{}].", bundleName, locale, Boolean.valueOf(removedBundle != null));
+        bundlesChanged();
     }
 
     /**
@@ -271,6 +278,17 @@ abstract class AbstractLocalizedTextProvider implements LocalizedTextProvider {
     protected void clearMissingBundlesCache() {
         missingBundles.clear();
         LOG.debug("Cleared the missing bundles cache.");
+        bundlesChanged();
+    }
+
+    /**
+     * Called when cached bundles have been cleared or reloaded. Descendants caching where messages
+     * have been found must clear these caches, as the bundles may have changed.
+     *
+     * @since 7.0.0
+     */
+    protected void bundlesChanged() {
+        // no-op
     }
 
     protected void reloadBundles() {
@@ -288,6 +306,7 @@ abstract class AbstractLocalizedTextProvider implements LocalizedTextProvider {
                 }
                 if (!reloaded) {
                     bundlesMap.clear();
+                    bundlesChanged();
                     clearResourceBundleClassloaderCaches();
 
                     // now, for the true and utter hack, if we're running in tomcat, clear
@@ -401,15 +420,35 @@ abstract class AbstractLocalizedTextProvider implements LocalizedTextProvider {
         MessageFormatKey key = new MessageFormatKey(pattern, locale);
         MessageFormat format = messageFormats.get(key);
         if (format == null) {
+            messageFormatCacheMisses.increment();
             format = new MessageFormat(pattern);
             format.setLocale(locale);
             format.applyPattern(pattern);
             messageFormats.put(key, format);
+        } else {
+            messageFormatCacheHits.increment();
         }
 
         return format;
     }
 
+    /**
+     * Formats the message with the given arguments. A message without arguments, quotes and format elements
+     * is returned as is, as formatting it with a {@link MessageFormat} would return the same text.
+     *
+     * @param message the message pattern
+     * @param locale  the locale used to format the arguments
+     * @param args    the arguments, may be null
+     * @return the formatted message, or null if the message has been formatted to "null"
+     * @since 7.0.0
+     */
+    protected String formatMessage(String message, Locale locale, Object[] args) {
+        if ((args == null || args.length == 0) && message.indexOf('\'') == -1 && message.indexOf('{') == -1) {
+            return "null".equals(message) ? null : message;
+        }
+        return formatWithNullDetection(buildMessageFormat(message, locale), args);
+    }
+
     protected String formatWithNullDetection(MessageFormat mf, Object[] args) {
         String message = mf.format(args);
         if ("null".equals(message)) {
@@ -456,29 +495,30 @@ abstract class AbstractLocalizedTextProvider implements LocalizedTextProvider {
     @Override
     public ResourceBundle findResourceBundle(String aBundleName, Locale locale) {
         ClassLoader classLoader = getCurrentThreadContextClassLoader();
-        String key = createMissesKey(String.valueOf(classLoader.hashCode()), aBundleName, locale);
+        BundleKey key = new BundleKey(classLoader.hashCode(), aBundleName, locale);
 
         if (missingBundles.contains(key)) {
+            missingBundleCacheHits.increment();
             return null;
         }
+        missingBundleCacheMisses.increment();
+
+        ResourceBundle bundle = bundlesMap.get(key);
+        if (bundle != null) {
+            bundleCacheHits.increment();
+            return bundle;
+        }
+        bundleCacheMisses.increment();
 
-        ResourceBundle bundle = null;
         try {
-            if (bundlesMap.containsKey(key)) {
-                bundle = bundlesMap.get(key);
-            } else {
-                bundle = ResourceBundle.getBundle(aBundleName, locale, classLoader);
-                bundlesMap.putIfAbsent(key, bundle);
-            }
+            bundle = ResourceBundle.getBundle(aBundleName, locale, classLoader);
+            bundlesMap.putIfAbsent(key, bundle);
         } catch (MissingResourceException ex) {
-            if (delegatedClassLoaderMap.containsKey(classLoader.hashCode())) {
+            ClassLoader delegatedClassLoader = delegatedClassLoaderMap.get(classLoader.hashCode());
+            if (delegatedClassLoader != null) {
                 try {
-                    if (bundlesMap.containsKey(key)) {
-                        bundle = bundlesMap.get(key);
-                    } else {
-                        bundle = ResourceBundle.getBundle(aBundleName, locale, delegatedClassLoaderMap.get(classLoader.hashCode()));
-                        bundlesMap.putIfAbsent(key, bundle);
-                    }
+                    bundle = ResourceBundle.getBundle(aBundleName, locale, delegatedClassLoader);
+                    bundlesMap.putIfAbsent(key, bundle);
                 } catch (MissingResourceException e) {
                     LOG.debug("Missing resource bundle [{}]!", aBundleName, e);
                     missingBundles.add(key);
@@ -491,6 +531,54 @@ abstract class AbstractLocalizedTextProvider implements LocalizedTextProvider {
         return bundle;
     }
 
+    /**
+     * @return the number of lookups of resource bundles found in the bundles cache
+     * @since 7.0.0
+     */
+    public long getBundleCacheHits() {
+        return bundleCacheHits.sum();
+    }
+
+    /**
+     * @return the number of lookups of resource bundles which had to be loaded, including missing ones
+     * @since 7.0.0
+     */
+    public long getBundleCacheMisses() {
+        return bundleCacheMisses.sum();
+    }
+
+    /**
+     * @return the number of message formats found in the message formats cache
+     * @since 7.0.0
+     */
+    public long getMessageFormatCacheHits() {
+        return messageFormatCacheHits.sum();
+    }
+
+    /**
+     * @return the number of message formats which had to be created
+     * @since 7.0.0
+     */
+    public long getMessageFormatCacheMisses() {
+        return messageFormatCacheMisses.sum();
+    }
+
+    /**
+     * @return the number of lookups of resource bundles known to be missing
+     * @since 7.0.0
+     */
+    public long getMissingBundleCacheHits() {
+        return missingBundleCacheHits.sum();
+    }
+
+    /**
+     * @return the number of lookups of resource bundles not known to be missing
+     * @since 7.0.0
+     */
+    public long getMissingBundleCacheMisses() {
+        return missingBundleCacheMisses.sum();
+    }
+
     /**
      * Clears all the internal lists.
      *
@@ -521,18 +609,6 @@ abstract class AbstractLocalizedTextProvider implements LocalizedTextProvider {
         return true;
     }
 
-    /**
-     * Creates a key to used for lookup/storing in the bundle misses cache.
-     *
-     * @param prefix      the prefix for the returning String - it is supposed to be the ClassLoader hash code.
-     * @param aBundleName the name of the bundle (usually it's FQN classname).
-     * @param locale      the locale.
-     * @return the key to use for lookup/storing in the bundle misses cache.
-     */
-    private String createMissesKey(String prefix, String aBundleName, Locale locale) {
-        return prefix + aBundleName + "_" + locale.toString();
-    }
-
     /**
      * @return the default message.
      */
@@ -551,9 +627,7 @@ abstract class AbstractLocalizedTextProvider implements LocalizedTextProvider {
 
             // defaultMessage may be null
             if (message != null) {
-                MessageFormat mf = buildMessageFormat(TextParseUtil.translateVariables(message, valueStack), locale);
-
-                String msg = formatWithNullDetection(mf, args);
+                String msg = formatMessage(TextParseUtil.translateVariables(message, valueStack), locale, args);
                 result = new GetDefaultMessageReturnArg(msg, found);
             }
         }
@@ -613,8 +687,7 @@ abstract class AbstractLocalizedTextProvider implements LocalizedTextProvider {
             if (valueStack != null) {
                 message = TextParseUtil.translateVariables(bundle.getString(key), valueStack);
             }
-            MessageFormat mf = buildMessageFormat(message, locale);
-            return formatWithNullDetection(mf, args);
+            return formatMessage(message, locale, args);
         } catch (MissingResourceException e) {
             LOG.debug("Missing key [{}] in bundle [{}]!", key, bundleName);
             return null;
@@ -718,6 +791,56 @@ abstract class AbstractLocalizedTextProvider implements LocalizedTextProvider {
         }
     }
 
+    /**
+     * Key used for lookup/storing in the bundles and the bundle misses caches, the keys of {@link #bundlesMap}.
+     *
+     * @since 7.0.0
+     */
+    protected static final class BundleKey {
+        private final int classLoaderHash;
+        private final String bundleName;
+        private final Locale locale;
+        private final int hash;
+
+        /**
+         * @param classLoaderHash hash code of the class loader the bundle has been loaded with
+         * @param bundleName      the name of the bundle (usually it's FQN classname)
+         * @param locale          the locale
+         */
+        public BundleKey(int classLoaderHash, String bundleName, Locale locale) {
+            this.classLoaderHash = classLoaderHash;
+            this.bundleName = bundleName;
+            this.locale = locale;
+            this.hash = 31 * (31 * classLoaderHash + bundleName.hashCode()) + locale.hashCode();
+        }
+
+        public int getClassLoaderHash() {
+            return classLoaderHash;
+        }
+
+        public String getBundleName() {
+            return bundleName;
+        }
+
+        public Locale getLocale() {
+            return locale;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof BundleKey)) return false;
+
+            BundleKey that = (BundleKey) o;
+            return classLoaderHash == that.classLoaderHash && bundleName.equals(that.bundleName) && locale.equals(that.locale);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
     static class GetDefaultMessageReturnArg {
         String message;
         boolean foundInBundle;
@@ -70,6 +70,15 @@ public class NamedVariablePatternMatcher implements PatternMatcher<NamedVariable
         return (pattern == null || pattern.indexOf('{') == -1);
     }
 
+    @Override
+    public String literalPrefix(String pattern) {
+        if (pattern == null) {
+            return "";
+        }
+        int index = pattern.indexOf('{');
+        return index < 0 ? pattern : pattern.substring(0, index);
+    }
+
     /**
      * Compiles the pattern.
      *
@@ -20,82 +20,245 @@ package com.opensymphony.xwork2.util;
 
 import org.apache.commons.lang3.StringUtils;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * OGNL implementation of {@link TextParser}
+ * <p>
+ * Expressions are compiled once into a template holding the positions of the variables to evaluate for the first
+ * open char, so following evaluations of the same expression only evaluate the variables instead of scanning
+ * the expression again. Evaluation follows exactly the same steps as scanning the expression, when a substituted
+ * value changes the way the rest of the expression would be scanned, the expression is scanned as before.
+ * </p>
  */
 public class OgnlTextParser implements TextParser {
 
+    static final int MAX_CACHED_TEMPLATES = 10000;
+
+    private final Map<Character, Map<String, CompiledTemplate>> templates = new ConcurrentHashMap<>();
+
     public Object evaluate(char[] openChars, String expression, TextParseUtil.ParsedValueEvaluator evaluator, int maxLoopCount) {
         // deal with the "pure" expressions first!
         //expression = expression.trim();
-        Object result = expression = (expression == null) ? "" : expression;
-        int pos = 0;
+        ParserState state = new ParserState((expression == null) ? "" : expression);
+
+        int first = 0;
+        if (openChars.length > 0 && maxLoopCount == 1) {
+            getTemplate(openChars[0], state.expression).evaluate(state, evaluator);
+            first = 1;
+        }
+        for (int i = first; i < openChars.length; i++) {
+            parse(openChars[i], state, evaluator, maxLoopCount);
+        }
+        return state.result;
+    }
+
+    private CompiledTemplate getTemplate(char open, String expression) {
+        Map<String, CompiledTemplate> cache = templates.computeIfAbsent(open, c -> new ConcurrentHashMap<>());
+        CompiledTemplate template = cache.get(expression);
+        if (template == null) {
+            template = new CompiledTemplate(open, expression);
+            if (cache.size() >= MAX_CACHED_TEMPLATES) {
+                cache.clear();
+            }
+            cache.putIfAbsent(expression, template);
+        }
+        return template;
+    }
+
+    /**
+     * Subclasses changing the way expressions are evaluated must return false.
+     */
+    @Override
+    public boolean supportsSingleExpressionShortcut() {
+        return true;
+    }
+
+    int getCachedTemplatesCount() {
+        int count = 0;
+        for (Map<String, CompiledTemplate> cache : templates.values()) {
+            count += cache.size();
+        }
+        return count;
+    }
+
+    /**
+     * Scans the expression for variables starting with the given open char, from the current state
+     */
+    private static void parse(char open, ParserState state, TextParseUtil.ParsedValueEvaluator evaluator, int maxLoopCount) {
+        int loopCount = 1;
+        //this creates an implicit StringBuffer and shouldn't be used in the inner loop
+        final String lookupChars = open + "{";
+
+        while (true) {
+            String expression = state.expression;
+            int start = expression.indexOf(lookupChars, state.pos);
+            if (start == -1) {
+                loopCount++;
+                start = expression.indexOf(lookupChars);
+            }
+            if (loopCount > maxLoopCount) {
+                // translateVariables prevent infinite loop / expression recursive evaluation
+                break;
+            }
+            int length = expression.length();
+            int x = start + 2;
+            int end;
+            char c;
+            int count = 1;
+            while (start != -1 && x < length && count != 0) {
+                c = expression.charAt(x++);
+                if (c == '{') {
+                    count++;
+                } else if (c == '}') {
+                    count--;
+                }
+            }
+            end = x - 1;
+
+            if ((start != -1) && (end != -1) && (count == 0)) {
+                String var = expression.substring(start + 2, end);
+                state.substitute(start, end, evaluator.evaluate(var));
+            } else {
+                break;
+            }
+        }
+    }
 
-        for (char open : openChars) {
-            int loopCount = 1;
-            //this creates an implicit StringBuffer and shouldn't be used in the inner loop
-            final String lookupChars = open + "{";
+    private static class ParserState {
+        private String expression;
+        private Object result;
+        private int pos = 0;
 
+        private ParserState(String expression) {
+            this.expression = expression;
+            this.result = expression;
+        }
+
+        /**
+         * Replaces the variable between start and end with its value
+         *
+         * @return the length of the expression before the variable plus the length of the value
+         */
+        private int substitute(int start, int end, Object o) {
+            String left = expression.substring(0, start);
+            String right = expression.substring(end + 1);
+            String middle = null;
+            if (o != null) {
+                middle = o.toString();
+                if (StringUtils.isEmpty(left)) {
+                    result = o;
+                } else {
+                    result = left.concat(middle);
+                }
+
+                if (StringUtils.isNotEmpty(right)) {
+                    result = result.toString().concat(right);
+                }
+
+                expression = left.concat(middle).concat(right);
+            } else {
+                // the variable doesn't exist, so don't display anything
+                expression = left.concat(right);
+                result = expression;
+            }
+            pos = (left != null && left.length() > 0 ? left.length() - 1: 0) +
+                    (middle != null && middle.length() > 0 ? middle.length() - 1: 0) +
+                    1;
+            pos = Math.max(pos, 1);
+            return left.length() + (middle != null ? middle.length() : 0);
+        }
+    }
+
+    /**
+     * Positions of the variables of an expression for a given open char, found the same way
+     * as {@link #parse(char, ParserState, TextParseUtil.ParsedValueEvaluator, int)} does.
+     */
+    private static class CompiledTemplate {
+        private final String lookupChars;
+        private final int length;
+        private final int[] starts;
+        private final int[] ends;
+        private final String[] vars;
+
+        private CompiledTemplate(char open, String expression) {
+            lookupChars = open + "{";
+            length = expression.length();
+            List<int[]> positions = new ArrayList<>();
+            int from = 0;
             while (true) {
-                int start = expression.indexOf(lookupChars, pos);
+                int start = expression.indexOf(lookupChars, from);
                 if (start == -1) {
-                    loopCount++;
-                    start = expression.indexOf(lookupChars);
-                }
-                if (loopCount > maxLoopCount) {
-                    // translateVariables prevent infinite loop / expression recursive evaluation
                     break;
                 }
-                int length = expression.length();
                 int x = start + 2;
-                int end;
-                char c;
                 int count = 1;
-                while (start != -1 && x < length && count != 0) {
-                    c = expression.charAt(x++);
+                while (x < length && count != 0) {
+                    char c = expression.charAt(x++);
                     if (c == '{') {
                         count++;
                     } else if (c == '}') {
                         count--;
                     }
                 }
-                end = x - 1;
-
-                if ((start != -1) && (end != -1) && (count == 0)) {
-                    String var = expression.substring(start + 2, end);
-
-                    Object o = evaluator.evaluate(var);
-
-                    String left = expression.substring(0, start);
-                    String right = expression.substring(end + 1);
-                    String middle = null;
-                    if (o != null) {
-                        middle = o.toString();
-                        if (StringUtils.isEmpty(left)) {
-                            result = o;
-                        } else {
-                            result = left.concat(middle);
-                        }
-
-                        if (StringUtils.isNotEmpty(right)) {
-                            result = result.toString().concat(right);
-                        }
-
-                        expression = left.concat(middle).concat(right);
-                    } else {
-                        // the variable doesn't exist, so don't display anything
-                        expression = left.concat(right);
-                        result = expression;
-                    }
-                    pos = (left != null && left.length() > 0 ? left.length() - 1: 0) +
-                            (middle != null && middle.length() > 0 ? middle.length() - 1: 0) +
-                            1;
-                    pos = Math.max(pos, 1);
-                } else {
+                if (count != 0) {
+                    // unbalanced braces, the scan stops here
                     break;
                 }
+                positions.add(new int[]{start, x - 1});
+                from = x;
+            }
+            starts = new int[positions.size()];
+            ends = new int[positions.size()];
+            vars = new String[positions.size()];
+            for (int i = 0; i < positions.size(); i++) {
+                starts[i] = positions.get(i)[0];
+                ends[i] = positions.get(i)[1];
+                vars[i] = expression.substring(starts[i] + 2, ends[i]);
+            }
+        }
+
+        /**
+         * Evaluates the variables in order, as long as the rest of the expression is still scanned from
+         * the position where it starts, otherwise goes on scanning the expression from the current state.
+         */
+        private void evaluate(ParserState state, TextParseUtil.ParsedValueEvaluator evaluator) {
+            // offset between positions in the current expression and positions in the compiled one
+            int offset = 0;
+            int next = 0;
+            for (int i = 0; i < vars.length; i++) {
+                if (!scansFrom(state, next + offset)) {
+                    parse(lookupChars.charAt(0), state, evaluator, 1);
+                    return;
+                }
+                int rest = state.substitute(starts[i] + offset, ends[i] + offset, evaluator.evaluate(vars[i]));
+                next = ends[i] + 1;
+                offset = rest - next;
+            }
+            if (vars.length > 0 && !scansFrom(state, next + offset)) {
+                parse(lookupChars.charAt(0), state, evaluator, 1);
+            }
+        }
+
+        /**
+         * @return true if scanning the current expression from the current position finds the same variables
+         * as scanning it from the given position
+         */
+        private boolean scansFrom(ParserState state, int position) {
+            int pos = state.pos;
+            if (pos == position) {
+                return true;
+            }
+            if (pos == position - 1) {
+                return !state.expression.startsWith(lookupChars, pos);
+            }
+            if (pos == position + 1) {
+                return !state.expression.startsWith(lookupChars, position);
             }
+            return false;
         }
-        return result;
     }
 }
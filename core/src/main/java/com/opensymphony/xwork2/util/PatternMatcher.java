@@ -54,5 +54,17 @@ public interface PatternMatcher<E extends Object> {
      * @throws NullPointerException If any parameters are null
      */
     boolean match(Map<String,String> map, String data, E expr);
-    
+
+    /**
+     * Returns the literal beginning of the pattern, any value matched by the pattern must start with it.
+     * It is used to quickly skip patterns which cannot match a given value.
+     *
+     * @param pattern The string pattern
+     * @return The literal prefix of the pattern, an empty string if it cannot be determined
+     * @since 7.0.0
+     */
+    default String literalPrefix(String pattern) {
+        return "";
+    }
+
 }
\ No newline at end of file
@@ -28,16 +28,29 @@ import org.apache.logging.log4j.Logger;
 
 import java.beans.PropertyDescriptor;
 import java.util.Locale;
+import java.util.Objects;
 import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Provides support for localization in the framework, it can be used to read only default bundles,
  * or it can search the class hierarchy to find proper bundles.
+ * <p>
+ * The bundle and key in which a message has been found in the class or package hierarchy of a class are cached
+ * per class, key and locale, as well as the fact that no message exists, so the hierarchies are only searched once.
+ * The message itself is still evaluated on each call. The cache isn't used when bundles are reloaded and is cleared
+ * when bundles are cleared, it is also cleared when it reaches {@link #MAX_CACHED_MESSAGE_LOCATIONS} entries.
+ * </p>
  */
 public class StrutsLocalizedTextProvider extends AbstractLocalizedTextProvider {
 
     private static final Logger LOG = LogManager.getLogger(StrutsLocalizedTextProvider.class);
 
+    static final int MAX_CACHED_MESSAGE_LOCATIONS = 10000;
+
+    private final ConcurrentMap<MessageLookup, MessageLocation> messageLocations = new ConcurrentHashMap<>();
+
     /**
      * Clears the internal list of resource bundles.
      *
@@ -257,7 +270,7 @@ public class StrutsLocalizedTextProvider extends AbstractLocalizedTextProvider {
         }
 
         // search up class hierarchy
-        String msg = findMessage(aClass, aTextName, indexedTextName, locale, args, null, valueStack);
+        String msg = findClassHierarchyMessage(aClass, aTextName, indexedTextName, locale, args, valueStack);
 
         if (msg != null) {
             return msg;
@@ -274,7 +287,7 @@ public class StrutsLocalizedTextProvider extends AbstractLocalizedTextProvider {
                 if (action instanceof ModelDriven) {
                     Object model = ((ModelDriven) action).getModel();
                     if (model != null) {
-                        msg = findMessage(model.getClass(), aTextName, indexedTextName, locale, args, null, valueStack);
+                        msg = findClassHierarchyMessage(model.getClass(), aTextName, indexedTextName, locale, args, valueStack);
                         if (msg != null) {
                             return msg;
                         }
@@ -284,28 +297,10 @@ public class StrutsLocalizedTextProvider extends AbstractLocalizedTextProvider {
         }
 
         // nothing still? alright, search the package hierarchy now
-        for (Class clazz = aClass;
-             (clazz != null) && !clazz.equals(Object.class);
-             clazz = clazz.getSuperclass()) {
-
-            String basePackageName = clazz.getName();
-            while (basePackageName.lastIndexOf('.') != -1) {
-                basePackageName = basePackageName.substring(0, basePackageName.lastIndexOf('.'));
-                String packageName = basePackageName + ".package";
-                msg = getMessage(packageName, locale, aTextName, valueStack, args);
-
-                if (msg != null) {
-                    return msg;
-                }
-
-                if (indexedTextName != null) {
-                    msg = getMessage(packageName, locale, indexedTextName, valueStack, args);
+        msg = findPackageHierarchyMessage(aClass, aTextName, indexedTextName, locale, args, valueStack);
 
-                    if (msg != null) {
-                        return msg;
-                    }
-                }
-            }
+        if (msg != null) {
+            return msg;
         }
 
         // see if it's a child property
@@ -377,6 +372,154 @@ public class StrutsLocalizedTextProvider extends AbstractLocalizedTextProvider {
         return result != null ? result.message : null;
     }
 
+    /**
+     * Traverses up the class hierarchy looking for the message, the same way as {@link #findMessage},
+     * starting with the bundle in which the message has been found before, unless it is known to be missing.
+     */
+    private String findClassHierarchyMessage(Class clazz, String key, String indexedKey, Locale locale, Object[] args,
+                                             ValueStack valueStack) {
+        MessageLocation location = findMessageLocation(clazz, key, indexedKey, locale, false);
+        if (location == MessageLocation.NOT_FOUND) {
+            return null;
+        }
+        if (location != null) {
+            String msg = getMessage(location.bundleName, locale, location.key, valueStack, args);
+            if (msg != null) {
+                return msg;
+            }
+        }
+        return findMessage(clazz, key, indexedKey, locale, args, null, valueStack);
+    }
+
+    /**
+     * Traverses up the package hierarchy of the class and of its superclasses looking for the message,
+     * starting with the bundle in which the message has been found before, unless it is known to be missing.
+     */
+    private String findPackageHierarchyMessage(Class aClass, String key, String indexedKey, Locale locale, Object[] args,
+                                               ValueStack valueStack) {
+        MessageLocation location = findMessageLocation(aClass, key, indexedKey, locale, true);
+        if (location == MessageLocation.NOT_FOUND) {
+            return null;
+        }
+        String msg;
+        if (location != null) {
+            msg = getMessage(location.bundleName, locale, location.key, valueStack, args);
+            if (msg != null) {
+                return msg;
+            }
+        }
+
+        for (Class clazz = aClass;
+             (clazz != null) && !clazz.equals(Object.class);
+             clazz = clazz.getSuperclass()) {
+
+            String basePackageName = clazz.getName();
+            while (basePackageName.lastIndexOf('.') != -1) {
+                basePackageName = basePackageName.substring(0, basePackageName.lastIndexOf('.'));
+                String packageName = basePackageName + ".package";
+                msg = getMessage(packageName, locale, key, valueStack, args);
+
+                if (msg != null) {
+                    return msg;
+                }
+
+                if (indexedKey != null) {
+                    msg = getMessage(packageName, locale, indexedKey, valueStack, args);
+
+                    if (msg != null) {
+                        return msg;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the bundle in which the message has been found before, {@link MessageLocation#NOT_FOUND} if the hierarchy
+     * doesn't contain the message or null if the hierarchy must be searched, as locations aren't cached when bundles are reloaded
+     */
+    private MessageLocation findMessageLocation(Class clazz, String key, String indexedKey, Locale locale, boolean packageHierarchy) {
+        if (reloadBundles) {
+            return null;
+        }
+        MessageLookup lookup = new MessageLookup(clazz, key, locale, getCurrentThreadContextClassLoader(), packageHierarchy);
+        MessageLocation location = messageLocations.get(lookup);
+        if (location == null) {
+            location = packageHierarchy
+                    ? locateInPackageHierarchy(clazz, key, indexedKey, locale)
+                    : locateInClassHierarchy(clazz, key, indexedKey, locale);
+            if (messageLocations.size() >= MAX_CACHED_MESSAGE_LOCATIONS) {
+                messageLocations.clear();
+            }
+            messageLocations.putIfAbsent(lookup, location);
+        }
+        return location;
+    }
+
+    private MessageLocation locateInClassHierarchy(Class clazz, String key, String indexedKey, Locale locale) {
+        MessageLocation location = locateInBundle(clazz.getName(), key, indexedKey, locale);
+        if (location != null) {
+            return location;
+        }
+
+        Class[] interfaces = clazz.getInterfaces();
+        for (Class anInterface : interfaces) {
+            location = locateInBundle(anInterface.getName(), key, indexedKey, locale);
+            if (location != null) {
+                return location;
+            }
+        }
+
+        if (clazz.isInterface()) {
+            for (Class anInterface : interfaces) {
+                location = locateInClassHierarchy(anInterface, key, indexedKey, locale);
+                if (location != MessageLocation.NOT_FOUND) {
+                    return location;
+                }
+            }
+        } else if (!clazz.equals(Object.class) && !clazz.isPrimitive()) {
+            return locateInClassHierarchy(clazz.getSuperclass(), key, indexedKey, locale);
+        }
+        return MessageLocation.NOT_FOUND;
+    }
+
+    private MessageLocation locateInPackageHierarchy(Class aClass, String key, String indexedKey, Locale locale) {
+        for (Class clazz = aClass; (clazz != null) && !clazz.equals(Object.class); clazz = clazz.getSuperclass()) {
+            String className = clazz.getName();
+            for (int index = className.lastIndexOf('.'); index != -1; index = className.lastIndexOf('.', index - 1)) {
+                MessageLocation location = locateInBundle(className.substring(0, index) + ".package", key, indexedKey, locale);
+                if (location != null) {
+                    return location;
+                }
+            }
+        }
+        return MessageLocation.NOT_FOUND;
+    }
+
+    private MessageLocation locateInBundle(String bundleName, String key, String indexedKey, Locale locale) {
+        ResourceBundle bundle = findResourceBundle(bundleName, locale);
+        if (bundle == null) {
+            return null;
+        }
+        if (bundle.containsKey(key)) {
+            return new MessageLocation(bundleName, key);
+        }
+        if (indexedKey != null && bundle.containsKey(indexedKey)) {
+            return new MessageLocation(bundleName, indexedKey);
+        }
+        return null;
+    }
+
+    @Override
+    protected void bundlesChanged() {
+        messageLocations.clear();
+    }
+
+    int getCachedMessageLocationsCount() {
+        return messageLocations.size();
+    }
+
     /**
      * <p>
      * Finds a localized text message for the given key, aTextName, in the specified resource bundle
@@ -427,4 +570,56 @@ public class StrutsLocalizedTextProvider extends AbstractLocalizedTextProvider {
         return findText(bundle, aTextName, locale, defaultMessage, args, valueStack);
     }
 
+    private static final class MessageLookup {
+
+        private final Class<?> clazz;
+        private final String key;
+        private final Locale locale;
+        private final ClassLoader classLoader;
+        private final boolean packageHierarchy;
+        private final int hash;
+
+        private MessageLookup(Class<?> clazz, String key, Locale locale, ClassLoader classLoader, boolean packageHierarchy) {
+            this.clazz = clazz;
+            this.key = key;
+            this.locale = locale;
+            this.classLoader = classLoader;
+            this.packageHierarchy = packageHierarchy;
+            this.hash = Objects.hash(clazz, key, locale, classLoader, packageHierarchy);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof MessageLookup)) {
+                return false;
+            }
+            MessageLookup that = (MessageLookup) o;
+            return clazz == that.clazz
+                    && classLoader == that.classLoader
+                    && packageHierarchy == that.packageHierarchy
+                    && key.equals(that.key)
+                    && Objects.equals(locale, that.locale);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static final class MessageLocation {
+
+        private static final MessageLocation NOT_FOUND = new MessageLocation(null, null);
+
+        private final String bundleName;
+        private final String key;
+
+        private MessageLocation(String bundleName, String key) {
+            this.bundleName = bundleName;
+            this.key = key;
+        }
+    }
 }
@@ -28,4 +28,16 @@ public interface TextParser {
 
     Object evaluate(char[] openChars, String expression, TextParseUtil.ParsedValueEvaluator evaluator, int maxLoopCount);
 
+    /**
+     * Tells if an expression made of a single variable, e.g. %{foo}, evaluates to the value of the variable
+     * found on the value stack as a String, or to an empty String when there is no such value. Callers can then
+     * find the value directly instead of parsing the expression.
+     *
+     * @return true if single variable expressions can be evaluated without parsing them, false by default
+     * @since 7.0.0
+     */
+    default boolean supportsSingleExpressionShortcut() {
+        return false;
+    }
+
 }
@@ -63,6 +63,20 @@ public class WildcardHelper implements PatternMatcher<int[]> {
         return (pattern == null || pattern.indexOf('*') == -1);
     }
 
+    @Override
+    public String literalPrefix(String pattern) {
+        if (pattern == null) {
+            return "";
+        }
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c == '*' || c == '\\') {
+                return pattern.substring(0, i);
+            }
+        }
+        return pattern;
+    }
+
     /**
      * <p> Translate the given <code>String</code> into a <code>int []</code>
      * representing the pattern matchable by this class. <br> This function
@@ -35,13 +35,11 @@ import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
-
-import static java.util.Collections.synchronizedMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * <p>
@@ -67,8 +65,15 @@ public class DefaultActionValidatorManager implements ActionValidatorManager {
      */
     protected static final String VALIDATION_CONFIG_SUFFIX = "-validation.xml";
 
-    protected final Map<String, List<ValidatorConfig>> validatorCache = synchronizedMap(new HashMap<>());
-    protected final Map<String, List<ValidatorConfig>> validatorFileCache = synchronizedMap(new HashMap<>());
+    protected final Map<String, List<ValidatorConfig>> validatorCache = new ConcurrentHashMap<>();
+    protected final Map<String, List<ValidatorConfig>> validatorFileCache = new ConcurrentHashMap<>();
+    static final int MAX_VALIDATOR_PLANS = 10000;
+    /**
+     * Immutable validator configs of each validator key and method, so validation plans are resolved once
+     * and can be read without locking. As the method may come from the request, the cache is cleared
+     * once it holds {@link #MAX_VALIDATOR_PLANS} plans.
+     */
+    protected final Map<String, List<ValidatorConfig>> validatorPlanCache = new ConcurrentHashMap<>();
     private static final Logger LOG = LogManager.getLogger(DefaultActionValidatorManager.class);
 
     protected ValidatorFactory validatorFactory;
@@ -137,31 +142,72 @@ public class DefaultActionValidatorManager implements ActionValidatorManager {
     }
 
     @Override
-    public synchronized List<Validator> getValidators(Class<?> clazz, String context, String method) {
-        String validatorKey = buildValidatorKey(clazz, context);
-
-        if (!validatorCache.containsKey(validatorKey)) {
-            validatorCache.put(validatorKey, buildValidatorConfigs(clazz, context, false, null));
-        } else if (reloadingConfigs) {
-            validatorCache.put(validatorKey, buildValidatorConfigs(clazz, context, true, null));
-        }
+    public List<Validator> getValidators(Class<?> clazz, String context, String method) {
+        List<ValidatorConfig> configs = getValidatorPlan(clazz, context, method);
 
+        // validators hold the value stack and the validator context of the current request, so they cannot be shared
         ValueStack stack = ActionContext.getContext().getValueStack();
-        List<ValidatorConfig> configs = validatorCache.get(validatorKey);
-        List<Validator> validators = new ArrayList<>();
+        List<Validator> validators = new ArrayList<>(configs.size());
         for (ValidatorConfig config : configs) {
-            if (method == null || method.equals(config.getParams().get("methodName"))) {
-                validators.add(getValidatorFromValidatorConfig(config, stack));
-            }
+            validators.add(getValidatorFromValidatorConfig(config, stack));
         }
         return validators;
     }
 
     @Override
-    public synchronized List<Validator> getValidators(Class<?> clazz, String context) {
+    public List<Validator> getValidators(Class<?> clazz, String context) {
         return getValidators(clazz, context, null);
     }
 
+    /**
+     * Returns the configs of the validators to apply to the given class, context and method.
+     * Plans are cached unless configuration reloading is enabled, in which case the validation files
+     * are checked for changes on each call.
+     *
+     * @param clazz   the class to validate
+     * @param context the context of the validation
+     * @param method  the method to validate, or null to get the validators of all the methods
+     * @return an immutable list of validator configs
+     */
+    protected List<ValidatorConfig> getValidatorPlan(Class<?> clazz, String context, String method) {
+        String validatorKey = buildValidatorKey(clazz, context);
+
+        if (reloadingConfigs) {
+            List<ValidatorConfig> configs;
+            synchronized (this) {
+                configs = buildValidatorConfigs(clazz, context, validatorCache.containsKey(validatorKey), null);
+                validatorCache.put(validatorKey, configs);
+            }
+            return filterValidatorConfigs(configs, method);
+        }
+
+        String planKey = method == null ? validatorKey : validatorKey + "#" + method;
+        List<ValidatorConfig> plan = validatorPlanCache.get(planKey);
+        if (plan == null) {
+            List<ValidatorConfig> configs = validatorCache.get(validatorKey);
+            if (configs == null) {
+                configs = buildValidatorConfigs(clazz, context, false, null);
+                validatorCache.putIfAbsent(validatorKey, configs);
+            }
+            plan = filterValidatorConfigs(configs, method);
+            if (validatorPlanCache.size() >= MAX_VALIDATOR_PLANS) {
+                validatorPlanCache.clear();
+            }
+            validatorPlanCache.putIfAbsent(planKey, plan);
+        }
+        return plan;
+    }
+
+    private List<ValidatorConfig> filterValidatorConfigs(List<ValidatorConfig> configs, String method) {
+        List<ValidatorConfig> filtered = new ArrayList<>(configs.size());
+        for (ValidatorConfig config : configs) {
+            if (method == null || method.equals(config.getParams().get("methodName"))) {
+                filtered.add(config);
+            }
+        }
+        return Collections.unmodifiableList(filtered);
+    }
+
     @Override
     public void validate(Object object, String context, ValidatorContext validatorContext, String method) throws ValidationException {
         List<Validator> validators = getValidators(object.getClass(), context, method);
@@ -50,6 +50,22 @@ public final class StrutsConstants {
     /** Whether to reload the XML configuration or not */
     public static final String STRUTS_CONFIGURATION_XML_RELOAD = "struts.configuration.xml.reload";
 
+    /**
+     * Minimal interval in milliseconds between two checks if the XML configuration must be reloaded, used only when
+     * {@link #STRUTS_CONFIGURATION_XML_RELOAD} is enabled, defaults to 0 (check on each access)
+     *
+     * @since 7.0.0
+     */
+    public static final String STRUTS_CONFIGURATION_XML_RELOAD_INTERVAL = "struts.configuration.xml.reload.interval";
+
+    /**
+     * Whether the container injects fields and methods through method handles compiled once per class
+     * instead of through reflection, defaults to true
+     *
+     * @since 7.0.0
+     */
+    public static final String STRUTS_CONTAINER_COMPILED_INJECTION = "struts.container.compiledInjection";
+
     /** The URL extension to use to determine if the request is meant for a Struts action */
     public static final String STRUTS_ACTION_EXTENSION = "struts.action.extension";
 
@@ -214,6 +230,14 @@ public final class StrutsConstants {
     /** If static content served by the Struts filter should set browser caching header properties or not */
     public static final String STRUTS_SERVE_STATIC_BROWSER_CACHE = "struts.serve.static.browserCache";
 
+    /**
+     * If static content served by the Struts filter should be kept in memory, with an ETag and gzipped copy,
+     * defaults to true, always disabled in devMode
+     *
+     * @since 7.0.0
+     */
+    public static final String STRUTS_SERVE_STATIC_MEMORY_CACHE = "struts.serve.static.memoryCache";
+
     /** Allows one to disable dynamic method invocation from the URL */
     public static final String STRUTS_ENABLE_DYNAMIC_METHOD_INVOCATION = "struts.enable.DynamicMethodInvocation";
 
@@ -516,4 +540,20 @@ public final class StrutsConstants {
 
     /** See {@link org.apache.struts2.interceptor.exec.ExecutorProvider} */
     public static final String STRUTS_EXECUTOR_PROVIDER = "struts.executor.provider";
+
+    /**
+     * The maximum number of tasks executed at the same time by {@link org.apache.struts2.interceptor.exec.StrutsExecutorProvider},
+     * defaults to 0 (no limit)
+     *
+     * @since 7.0.0
+     */
+    public static final String STRUTS_EXECUTOR_MAX_CONCURRENT_TASKS = "struts.executor.maxConcurrentTasks";
+
+    /**
+     * Whether {@link org.apache.struts2.interceptor.exec.StrutsExecutorProvider} executes tasks in virtual threads
+     * when supported by the JVM, defaults to false
+     *
+     * @since 7.0.0
+     */
+    public static final String STRUTS_EXECUTOR_VIRTUAL_THREADS = "struts.executor.virtualThreads";
 }
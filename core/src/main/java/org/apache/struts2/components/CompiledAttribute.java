@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.components;
+
+import org.apache.struts2.util.ComponentUtils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Attribute value of a tag analysed once, the same tag site renders the same attribute values on each request.
+ * <p>
+ * An attribute is either a literal, a single <code>%{...}</code> expression or a template mixing both,
+ * which allows to evaluate only the dynamic attributes when rendering a tag.
+ * </p>
+ * <p>
+ * Attributes are cached by value, the cache is cleared when it reaches {@link #MAX_CACHED_ATTRIBUTES} entries,
+ * the same way as OGNL caches.
+ * </p>
+ */
+final class CompiledAttribute {
+
+    static final int MAX_CACHED_ATTRIBUTES = 10000;
+
+    private static final Map<String, CompiledAttribute> ATTRIBUTES = new ConcurrentHashMap<>();
+
+    enum Kind {
+        LITERAL,
+        EXPRESSION,
+        TEMPLATE
+    }
+
+    private final Kind kind;
+    private final String expression;
+    private final Boolean booleanLiteral;
+
+    private CompiledAttribute(String value) {
+        if (isSingleExpression(value)) {
+            kind = Kind.EXPRESSION;
+            expression = value.substring(2, value.length() - 1);
+        } else {
+            kind = ComponentUtils.containsExpression(value) ? Kind.TEMPLATE : Kind.LITERAL;
+            expression = null;
+        }
+        if ("true".equals(value) || "false".equals(value)) {
+            booleanLiteral = Boolean.valueOf(value);
+        } else {
+            booleanLiteral = null;
+        }
+    }
+
+    static CompiledAttribute of(String value) {
+        CompiledAttribute attribute = ATTRIBUTES.get(value);
+        if (attribute == null) {
+            attribute = new CompiledAttribute(value);
+            if (ATTRIBUTES.size() >= MAX_CACHED_ATTRIBUTES) {
+                ATTRIBUTES.clear();
+            }
+            ATTRIBUTES.putIfAbsent(value, attribute);
+        }
+        return attribute;
+    }
+
+    static int size() {
+        return ATTRIBUTES.size();
+    }
+
+    /**
+     * Checks if the whole value is a single <code>%{...}</code> expression, matching braces the same way
+     * as {@link com.opensymphony.xwork2.util.OgnlTextParser} does.
+     */
+    private static boolean isSingleExpression(String value) {
+        if (!value.startsWith("%{")) {
+            return false;
+        }
+        int count = 1;
+        int length = value.length();
+        for (int i = 2; i < length; i++) {
+            char c = value.charAt(i);
+            if (c == '{') {
+                count++;
+            } else if (c == '}') {
+                count--;
+                if (count == 0) {
+                    return i == length - 1;
+                }
+            }
+        }
+        return false;
+    }
+
+    Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * @return the expression without the surrounding <code>%{</code> and <code>}</code>, only for single expressions
+     */
+    String getExpression() {
+        return expression;
+    }
+
+    /**
+     * @return the boolean value of a <code>true</code> or <code>false</code> literal, null otherwise
+     */
+    Boolean getBooleanLiteral() {
+        return booleanLiteral;
+    }
+}
@@ -23,6 +23,7 @@ import com.opensymphony.xwork2.ActionInvocation;
 import com.opensymphony.xwork2.inject.Inject;
 import com.opensymphony.xwork2.security.NotExcludedAcceptedPatternsChecker;
 import com.opensymphony.xwork2.util.TextParseUtil;
+import com.opensymphony.xwork2.util.TextParser;
 import com.opensymphony.xwork2.util.ValueStack;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -76,6 +77,7 @@ public class Component {
     protected boolean throwExceptionOnELFailure;
     protected boolean performClearTagStateForTagPoolingServers = false;
     private UrlHelper urlHelper;
+    private TextParser textParser;
 
     private NotExcludedAcceptedPatternsChecker notExcludedAcceptedPatterns;
 
@@ -123,6 +125,11 @@ public class Component {
         this.escapeHtmlBody = BooleanUtils.toBoolean(escapeHtmlBody);
     }
 
+    @Inject
+    public void setTextParser(TextParser textParser) {
+        this.textParser = textParser;
+    }
+
     @Inject
     public void setUrlHelper(UrlHelper urlHelper) {
         this.urlHelper = urlHelper;
@@ -378,15 +385,29 @@ public class Component {
      * @return the Object found, or <tt>null</tt> if not found.
      */
     protected Object findValue(String expression, Class<?> toType) {
+        if (expression == null) {
+            return toType == String.class ? null : getStack().findValue(null, toType, throwExceptionOnELFailure);
+        }
+        CompiledAttribute attribute = CompiledAttribute.of(expression);
         if (toType == String.class) {
-            if (ComponentUtils.containsExpression(expression)) {
-                return TextParseUtil.translateVariables('%', expression, stack);
-            } else {
-                return expression;
+            switch (attribute.getKind()) {
+                case LITERAL:
+                    return expression;
+                case EXPRESSION:
+                    if (textParser != null && textParser.supportsSingleExpressionShortcut()) {
+                        // same result as the default text parser, without scanning the expression again
+                        Object value = getStack().findValue(attribute.getExpression(), String.class);
+                        return value != null ? value : "";
+                    }
+                    return TextParseUtil.translateVariables('%', expression, stack);
+                default:
+                    return TextParseUtil.translateVariables('%', expression, stack);
             }
         } else {
-            String strippedExpression = stripExpression(expression);
-            return getStack().findValue(strippedExpression, toType, throwExceptionOnELFailure);
+            if (toType == Boolean.class && attribute.getBooleanLiteral() != null) {
+                return attribute.getBooleanLiteral();
+            }
+            return getStack().findValue(stripExpression(expression), toType, throwExceptionOnELFailure);
         }
     }
 
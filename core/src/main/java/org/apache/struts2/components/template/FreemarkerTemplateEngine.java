@@ -25,19 +25,24 @@ import com.opensymphony.xwork2.util.ClassLoaderUtil;
 import com.opensymphony.xwork2.util.ValueStack;
 import freemarker.core.ParseException;
 import freemarker.template.Configuration;
+import freemarker.template.ObjectWrapper;
 import freemarker.template.SimpleHash;
+import org.apache.commons.lang3.BooleanUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.apache.struts2.ServletActionContext;
+import org.apache.struts2.StrutsConstants;
 import org.apache.struts2.views.freemarker.FreemarkerManager;
+import org.apache.struts2.views.freemarker.ScopesHashModel;
 
 import jakarta.servlet.ServletContext;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.Writer;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Freemarker based template engine.
@@ -60,6 +65,20 @@ public class FreemarkerTemplateEngine extends BaseTemplateEngine {
 
     private static final Logger LOG = LogManager.getLogger(FreemarkerTemplateEngine.class);
 
+    private static final String ATTR_SHARED_TEMPLATE_MODEL = FreemarkerTemplateEngine.class.getName() + ".sharedTemplateModel";
+    static final int MAX_RESOLVED_TEMPLATES = 10000;
+
+    /**
+     * Templates resolved through the theme hierarchy, keyed by template and locale
+     */
+    private final Map<String, ResolvedTemplate> resolvedTemplates = new ConcurrentHashMap<>();
+    private boolean devMode;
+
+    @Inject(value = StrutsConstants.STRUTS_DEVMODE, required = false)
+    public void setDevMode(String devMode) {
+        this.devMode = BooleanUtils.toBoolean(devMode);
+    }
+
     @Inject
     public void setFreemarkerManager(FreemarkerManager mgr) {
         this.freemarkerManager = mgr;
@@ -79,12 +98,27 @@ public class FreemarkerTemplateEngine extends BaseTemplateEngine {
         // get the list of templates we can use
         List<Template> templates = templateContext.getTemplate().getPossibleTemplates(this);
 
-        // find the right template
+        // find the right template, using the previously resolved one if any
+        String cacheKey = templateContext.getTemplate() + "|" + config.getLocale();
+        ResolvedTemplate resolved = devMode ? null : resolvedTemplates.get(cacheKey);
+        String templateName = resolved != null ? resolved.name : null;
         freemarker.template.Template template = null;
-        String templateName = null;
         Exception exception = null;
-        for (Template t : templates) {
-            templateName = getFinalTemplateName(t);
+        if (resolved != null && resolved.notFound != null) {
+            exception = resolved.notFound;
+        } else if (templateName != null) {
+            try {
+                template = config.getTemplate(templateName);
+            } catch (IOException e) {
+                LOG.debug("Resolved template [{}] cannot be loaded anymore, resolving it again", templateName, e);
+                resolvedTemplates.remove(cacheKey);
+            }
+        }
+
+        if (template == null && exception == null) {
+            boolean notFound = true;
+            for (Template t : templates) {
+                templateName = getFinalTemplateName(t);
                 try {
                     // try to load, and if it works, stop at the first one
                     template = config.getTemplate(templateName);
@@ -98,7 +132,15 @@ public class FreemarkerTemplateEngine extends BaseTemplateEngine {
                     if (exception == null) {
                         exception = e;
                     }
+                    notFound &= e instanceof FileNotFoundException;
                 }
+            }
+            // other errors, like a template which cannot be parsed or read, are not cached and reported again
+            if (!devMode && template != null) {
+                cacheResolvedTemplate(cacheKey, new ResolvedTemplate(templateName, null));
+            } else if (!devMode && notFound && exception instanceof FileNotFoundException) {
+                cacheResolvedTemplate(cacheKey, new ResolvedTemplate(null, (FileNotFoundException) exception));
+            }
         }
 
         if (template == null) {
@@ -125,7 +167,7 @@ public class FreemarkerTemplateEngine extends BaseTemplateEngine {
             LOG.warn("Rendering tag {} out of Action scope, accessing directly JSPs is not recommended! " +
                     "Please read https://struts.apache.org/security/#never-expose-jsp-files-directly", templateName);
         }
-        SimpleHash model = freemarkerManager.buildTemplateModel(stack, action, servletContext, req, res, config.getObjectWrapper());
+        SimpleHash model = buildTemplateModel(stack, action, servletContext, req, res, config.getObjectWrapper());
 
         model.put("tag", templateContext.getTag());
         model.put("themeProperties", getThemeProps(templateContext.getTemplate()));
@@ -158,6 +200,71 @@ public class FreemarkerTemplateEngine extends BaseTemplateEngine {
         }
     }
 
+    private static class SharedTemplateModel {
+        private final ValueStack stack;
+        private final Object action;
+        private final ObjectWrapper wrapper;
+        private final boolean sessionCreated;
+        private final ScopesHashModel model;
+
+        private SharedTemplateModel(ValueStack stack, Object action, ObjectWrapper wrapper, boolean sessionCreated, ScopesHashModel model) {
+            this.stack = stack;
+            this.action = action;
+            this.wrapper = wrapper;
+            this.sessionCreated = sessionCreated;
+            this.model = model;
+        }
+
+        private boolean isFor(ValueStack stack, Object action, ObjectWrapper wrapper, boolean sessionCreated) {
+            return this.stack == stack && this.action == action && this.wrapper == wrapper && this.sessionCreated == sessionCreated;
+        }
+    }
+
+    /**
+     * Returns the model used to render a template. The model built by the {@link FreemarkerManager} is shared
+     * by all the tags rendered within the same request and for the same value stack, and each tag gets its own
+     * model on top of it to hold the tag specific entries.
+     *
+     * @param stack          the value stack
+     * @param action         the current action
+     * @param servletContext the servlet context
+     * @param req            the current request
+     * @param res            the current response
+     * @param wrapper        the object wrapper
+     * @return the model used to render the template of a tag
+     */
+    protected SimpleHash buildTemplateModel(ValueStack stack, Object action, ServletContext servletContext,
+                                            HttpServletRequest req, HttpServletResponse res, ObjectWrapper wrapper) {
+        boolean sessionCreated = req.getSession(false) != null;
+        SharedTemplateModel shared = (SharedTemplateModel) req.getAttribute(ATTR_SHARED_TEMPLATE_MODEL);
+        if (shared == null || !shared.isFor(stack, action, wrapper, sessionCreated)) {
+            ScopesHashModel model = freemarkerManager.buildTemplateModel(stack, action, servletContext, req, res, wrapper);
+            shared = new SharedTemplateModel(stack, action, wrapper, sessionCreated, model);
+            req.setAttribute(ATTR_SHARED_TEMPLATE_MODEL, shared);
+        }
+        return new ScopesHashModel(shared.model);
+    }
+
+    private void cacheResolvedTemplate(String cacheKey, ResolvedTemplate resolved) {
+        if (resolvedTemplates.size() >= MAX_RESOLVED_TEMPLATES) {
+            resolvedTemplates.clear();
+        }
+        resolvedTemplates.put(cacheKey, resolved);
+    }
+
+    /**
+     * Final name of a template found in the theme hierarchy, or the exception reported when it wasn't found in any theme
+     */
+    private static final class ResolvedTemplate {
+        private final String name;
+        private final FileNotFoundException notFound;
+
+        private ResolvedTemplate(String name, FileNotFoundException notFound) {
+            this.name = name;
+            this.notFound = notFound;
+        }
+    }
+
     protected String getSuffix() {
         return "ftl";
     }
@@ -36,6 +36,8 @@ public class ConstantConfig {
     private Boolean i18nReload;
     private String i18nEncoding;
     private Boolean configurationXmlReload;
+    private Long configurationXmlReloadInterval;
+    private Boolean containerCompiledInjection;
     private List<String> actionExtension;
     private List<Pattern> actionExcludePattern;
     private Integer urlHttpPort;
@@ -83,6 +85,7 @@ public class ConstantConfig {
     private List<String> mapperPrefixMapping;
     private Boolean serveStatic;
     private Boolean serveStaticBrowserCache;
+    private Boolean serveStaticMemoryCache;
     private Boolean enableDynamicMethodInvocation;
     private Boolean enableSlashesInActionNames;
     private List<String> mapperComposite;
@@ -175,6 +178,8 @@ public class ConstantConfig {
         map.put(StrutsConstants.STRUTS_I18N_RELOAD, Objects.toString(i18nReload, null));
         map.put(StrutsConstants.STRUTS_I18N_ENCODING, i18nEncoding);
         map.put(StrutsConstants.STRUTS_CONFIGURATION_XML_RELOAD, Objects.toString(configurationXmlReload, null));
+        map.put(StrutsConstants.STRUTS_CONFIGURATION_XML_RELOAD_INTERVAL, Objects.toString(configurationXmlReloadInterval, null));
+        map.put(StrutsConstants.STRUTS_CONTAINER_COMPILED_INJECTION, Objects.toString(containerCompiledInjection, null));
         map.put(StrutsConstants.STRUTS_ACTION_EXTENSION, StringUtils.join(actionExtension, ','));
         map.put(StrutsConstants.STRUTS_ACTION_EXCLUDE_PATTERN, StringUtils.join(actionExcludePattern, ','));
         map.put(StrutsConstants.STRUTS_URL_HTTP_PORT, Objects.toString(urlHttpPort, null));
@@ -220,6 +225,7 @@ public class ConstantConfig {
         map.put(StrutsConstants.PREFIX_BASED_MAPPER_CONFIGURATION, StringUtils.join(mapperPrefixMapping, ','));
         map.put(StrutsConstants.STRUTS_SERVE_STATIC_CONTENT, Objects.toString(serveStatic, null));
         map.put(StrutsConstants.STRUTS_SERVE_STATIC_BROWSER_CACHE, Objects.toString(serveStaticBrowserCache, null));
+        map.put(StrutsConstants.STRUTS_SERVE_STATIC_MEMORY_CACHE, Objects.toString(serveStaticMemoryCache, null));
         map.put(StrutsConstants.STRUTS_ENABLE_DYNAMIC_METHOD_INVOCATION, Objects.toString(enableDynamicMethodInvocation, null));
         map.put(StrutsConstants.STRUTS_ENABLE_SLASHES_IN_ACTION_NAMES, Objects.toString(enableSlashesInActionNames, null));
         map.put(StrutsConstants.STRUTS_MAPPER_COMPOSITE, StringUtils.join(mapperComposite, ','));
@@ -324,6 +330,22 @@ public class ConstantConfig {
         this.configurationXmlReload = configurationXmlReload;
     }
 
+    public Long getConfigurationXmlReloadInterval() {
+        return configurationXmlReloadInterval;
+    }
+
+    public void setConfigurationXmlReloadInterval(Long configurationXmlReloadInterval) {
+        this.configurationXmlReloadInterval = configurationXmlReloadInterval;
+    }
+
+    public Boolean getContainerCompiledInjection() {
+        return containerCompiledInjection;
+    }
+
+    public void setContainerCompiledInjection(Boolean containerCompiledInjection) {
+        this.containerCompiledInjection = containerCompiledInjection;
+    }
+
     public List<String> getActionExtension() {
         return actionExtension;
     }
@@ -752,6 +774,14 @@ public class ConstantConfig {
         this.serveStaticBrowserCache = serveStaticBrowserCache;
     }
 
+    public Boolean getServeStaticMemoryCache() {
+        return serveStaticMemoryCache;
+    }
+
+    public void setServeStaticMemoryCache(Boolean serveStaticMemoryCache) {
+        this.serveStaticMemoryCache = serveStaticMemoryCache;
+    }
+
     public Boolean getEnableDynamicMethodInvocation() {
         return enableDynamicMethodInvocation;
     }
@@ -21,12 +21,13 @@ package org.apache.struts2.conversion;
 import com.opensymphony.xwork2.conversion.TypeConverter;
 import com.opensymphony.xwork2.conversion.TypeConverterHolder;
 
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Default implementation of {@link TypeConverterHolder}
+ * Default implementation of {@link TypeConverterHolder}, all the mappings are stored in concurrent collections
+ * so they can be read without locking.
  */
 public class StrutsTypeConverterHolder implements TypeConverterHolder {
 
@@ -37,7 +38,7 @@ public class StrutsTypeConverterHolder implements TypeConverterHolder {
      * - TypeConverter - instance of TypeConverter
      * </pre>
      */
-    private HashMap<String, TypeConverter> defaultMappings = new HashMap<>();  // non-action (eg. returned value)
+    private final Map<String, TypeConverter> defaultMappings = new ConcurrentHashMap<>();  // non-action (eg. returned value)
 
     /**
      * Target class conversion Mappings.
@@ -58,12 +59,12 @@ public class StrutsTypeConverterHolder implements TypeConverterHolder {
      *                    Element_property=foo.bar.MyObject
      * </pre>
      */
-    private HashMap<Class, Map<String, Object>> mappings = new HashMap<>(); // action
+    private final Map<Class, Map<String, Object>> mappings = new ConcurrentHashMap<>(); // action
 
     /**
      * Unavailable target class conversion mappings, serves as a simple cache.
      */
-    private HashSet<Class> noMapping = new HashSet<>(); // action
+    private final Set<Class> noMapping = ConcurrentHashMap.newKeySet(); // action
 
     /**
      * Record classes that doesn't have conversion mapping defined.
@@ -71,13 +72,11 @@ public class StrutsTypeConverterHolder implements TypeConverterHolder {
      * - String -&gt; classname as String
      * </pre>
      */
-    protected HashSet<String> unknownMappings = new HashSet<>();     // non-action (eg. returned value)
+    protected Set<String> unknownMappings = ConcurrentHashMap.newKeySet();     // non-action (eg. returned value)
 
     public void addDefaultMapping(String className, TypeConverter typeConverter) {
         defaultMappings.put(className, typeConverter);
-        if (unknownMappings.contains(className)) {
-            unknownMappings.remove(className);
-        }
+        unknownMappings.remove(className);
     }
 
     public boolean containsDefaultMapping(String className) {
@@ -22,24 +22,35 @@ import com.opensymphony.xwork2.inject.Inject;
 import com.opensymphony.xwork2.util.ClassLoaderUtil;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.struts2.StrutsConstants;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.SequenceInputStream;
 import java.io.UnsupportedEncodingException;
 import java.net.URL;
 import java.net.URLDecoder;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collections;
+import java.util.HexFormat;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.StringTokenizer;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * <p>
@@ -67,6 +78,14 @@ import java.util.StringTokenizer;
  * careful</b>, however, to expose any packages that may have sensitive information, such as properties file with
  * database access credentials.
  * </p>
+ *
+ * <p>
+ * Unless in devMode or disabled with {@link StrutsConstants#STRUTS_SERVE_STATIC_MEMORY_CACHE}, resources up to
+ * {@link #MAX_CACHED_RESOURCE_SIZE} bytes are kept in memory once found, together with a strong ETag and a gzipped
+ * copy for compressible content types. Cached resources answer <code>If-None-Match</code> requests with
+ * <code>304 Not Modified</code> and are sent gzipped to clients accepting it. Larger resources are streamed
+ * on each request as before.
+ * </p>
  */
 public class DefaultStaticContentLoader implements StaticContentLoader {
 
@@ -75,6 +94,19 @@ public class DefaultStaticContentLoader implements StaticContentLoader {
      */
     private final Logger LOG = LogManager.getLogger(DefaultStaticContentLoader.class);
 
+    /**
+     * Resources larger than this number of bytes are never kept in memory
+     */
+    protected static final int MAX_CACHED_RESOURCE_SIZE = 512 * 1024;
+
+    /**
+     * The memory cache is cleared when the total size of the cached resources exceeds this number of bytes
+     */
+    protected static final long MAX_CACHED_RESOURCES_SIZE = 16 * 1024 * 1024;
+
+    private final Map<String, StaticResource> cachedResources = new ConcurrentHashMap<>();
+    private final AtomicLong cachedResourcesSize = new AtomicLong();
+
     /**
      * Store set of path prefixes to use with static resources.
      */
@@ -107,6 +139,11 @@ public class DefaultStaticContentLoader implements StaticContentLoader {
 
     protected boolean devMode;
 
+    /**
+     * Store state of {@link StrutsConstants#STRUTS_SERVE_STATIC_MEMORY_CACHE} setting.
+     */
+    protected boolean serveStaticMemoryCache = true;
+
     /**
      * Modify state of StrutsConstants.STRUTS_SERVE_STATIC_CONTENT setting.
      *
@@ -148,6 +185,16 @@ public class DefaultStaticContentLoader implements StaticContentLoader {
         this.devMode = Boolean.parseBoolean(devMode);
     }
 
+    /**
+     * Modify state of {@link StrutsConstants#STRUTS_SERVE_STATIC_MEMORY_CACHE} setting.
+     *
+     * @param serveStaticMemoryCache New setting
+     */
+    @Inject(value = StrutsConstants.STRUTS_SERVE_STATIC_MEMORY_CACHE, required = false)
+    public void setServeStaticMemoryCache(String serveStaticMemoryCache) {
+        this.serveStaticMemoryCache = BooleanUtils.toBoolean(serveStaticMemoryCache);
+    }
+
     /*
      * (non-Javadoc)
      *
@@ -209,6 +256,14 @@ public class DefaultStaticContentLoader implements StaticContentLoader {
     public void findStaticResource(String path, HttpServletRequest request, HttpServletResponse response)
         throws IOException {
         String name = cleanupPath(path);
+        boolean useMemoryCache = isMemoryCacheEnabled();
+        if (useMemoryCache) {
+            StaticResource cached = cachedResources.get(name);
+            if (cached != null) {
+                process(cached, path, request, response);
+                return;
+            }
+        }
         for (String pathPrefix : pathPrefixes) {
             URL resourceUrl = findResource(buildPath(name, pathPrefix));
             if (resourceUrl != null) {
@@ -225,7 +280,11 @@ public class DefaultStaticContentLoader implements StaticContentLoader {
 
                 //not inside the try block, as this could throw IOExceptions also
                 if (is != null) {
-                    process(is, path, request, response);
+                    if (useMemoryCache) {
+                        processAndCache(is, name, path, request, response);
+                    } else {
+                        process(is, path, request, response);
+                    }
                     return;
                 }
             }
@@ -242,23 +301,158 @@ public class DefaultStaticContentLoader implements StaticContentLoader {
         }
     }
 
+    protected boolean isMemoryCacheEnabled() {
+        return serveStaticMemoryCache && !devMode;
+    }
+
+    private void processAndCache(InputStream is, String name, String path, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        byte[] content;
+        try {
+            content = is.readNBytes(MAX_CACHED_RESOURCE_SIZE + 1);
+        } catch (IOException e) {
+            is.close();
+            throw e;
+        }
+        if (content.length > MAX_CACHED_RESOURCE_SIZE) {
+            LOG.debug("Resource [{}] is too large to be cached, it will be streamed", name);
+            process(new SequenceInputStream(new ByteArrayInputStream(content), is), path, request, response);
+            return;
+        }
+        is.close();
+
+        StaticResource resource = new StaticResource(content, getContentType(path));
+        long size = cachedResourcesSize.addAndGet(resource.getSize());
+        if (size > MAX_CACHED_RESOURCES_SIZE) {
+            LOG.debug("Static resources cache exceeded {} bytes, clearing it", MAX_CACHED_RESOURCES_SIZE);
+            cachedResources.clear();
+            cachedResourcesSize.set(resource.getSize());
+        }
+        cachedResources.put(name, resource);
+        process(resource, path, request, response);
+    }
+
+    /**
+     * Sends a resource kept in memory, honouring <code>If-None-Match</code> and <code>If-Modified-Since</code>
+     * headers and sending the gzipped content when accepted by the client.
+     *
+     * @param resource the cached resource
+     * @param path     requested path
+     * @param request  the current request
+     * @param response the current response
+     * @throws IOException if the content cannot be written
+     */
+    protected void process(StaticResource resource, String path, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Calendar cal = Calendar.getInstance();
+        long now = cal.getTimeInMillis();
+        cal.add(Calendar.DAY_OF_MONTH, 1);
+        long expires = cal.getTimeInMillis();
+
+        boolean gzip = resource.getGzippedContent() != null && acceptsGzip(request);
+        String etag = gzip ? resource.getGzipETag() : resource.getETag();
+        if (resource.getGzippedContent() != null) {
+            response.setHeader("Vary", "Accept-Encoding");
+        }
+
+        String ifNoneMatch = request.getHeader("If-None-Match");
+        boolean notModified;
+        if (ifNoneMatch != null) {
+            // If-None-Match takes precedence over If-Modified-Since
+            notModified = matchesETag(ifNoneMatch, etag);
+        } else {
+            notModified = isNotModifiedSince(request);
+        }
+        if (notModified) {
+            response.setHeader("ETag", etag);
+            response.setDateHeader("Expires", expires);
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        if (resource.getContentType() != null) {
+            response.setContentType(resource.getContentType());
+        }
+        setCacheHeaders(response, now, expires);
+        response.setHeader("ETag", etag);
+
+        byte[] content = gzip ? resource.getGzippedContent() : resource.getContent();
+        if (gzip) {
+            response.setHeader("Content-Encoding", "gzip");
+        }
+        response.setContentLength(content.length);
+        OutputStream output = response.getOutputStream();
+        output.write(content);
+        output.flush();
+    }
+
+    protected boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader("Accept-Encoding");
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : StringUtils.split(acceptEncoding, ',')) {
+            String[] parts = StringUtils.split(coding, ';');
+            if (parts.length > 0 && ("gzip".equalsIgnoreCase(parts[0].trim()) || "*".equals(parts[0].trim()))) {
+                for (int i = 1; i < parts.length; i++) {
+                    String param = StringUtils.deleteWhitespace(parts[i]);
+                    if (param.startsWith("q=") && NumberUtils.toDouble(param.substring(2), 1) == 0) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean matchesETag(String ifNoneMatch, String etag) {
+        for (String candidate : StringUtils.split(ifNoneMatch, ',')) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                // weak comparison is used for If-None-Match
+                value = value.substring(2);
+            }
+            if ("*".equals(value) || etag.equals(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isNotModifiedSince(HttpServletRequest request) {
+        long ifModifiedSince = 0;
+        try {
+            ifModifiedSince = request.getDateHeader("If-Modified-Since");
+        } catch (Exception e) {
+            LOG.warn("Invalid If-Modified-Since header value: '{}', ignoring", request.getHeader("If-Modified-Since"));
+        }
+        return ifModifiedSince > 0 && ifModifiedSince <= lastModifiedCal.getTimeInMillis();
+    }
+
+    private void setCacheHeaders(HttpServletResponse response, long now, long expires) {
+        if (serveStaticBrowserCache) {
+            // set heading information for caching static content
+            response.setDateHeader("Date", now);
+            response.setDateHeader("Expires", expires);
+            response.setDateHeader("Retry-After", expires);
+            response.setHeader("Cache-Control", "public");
+            response.setDateHeader("Last-Modified", lastModifiedCal.getTimeInMillis());
+        } else {
+            response.setHeader("Cache-Control", "no-cache");
+            response.setHeader("Pragma", "no-cache");
+            response.setHeader("Expires", "-1");
+        }
+    }
+
     protected void process(InputStream is, String path, HttpServletRequest request, HttpServletResponse response) throws IOException {
         if (is != null) {
             Calendar cal = Calendar.getInstance();
 
-            // check for if-modified-since, prior to any other headers
-            long ifModifiedSince = 0;
-            try {
-                ifModifiedSince = request.getDateHeader("If-Modified-Since");
-            } catch (Exception e) {
-                LOG.warn("Invalid If-Modified-Since header value: '{}', ignoring", request.getHeader("If-Modified-Since"));
-            }
-            long lastModifiedMillis = lastModifiedCal.getTimeInMillis();
             long now = cal.getTimeInMillis();
             cal.add(Calendar.DAY_OF_MONTH, 1);
             long expires = cal.getTimeInMillis();
 
-            if (ifModifiedSince > 0 && ifModifiedSince <= lastModifiedMillis) {
+            // check for if-modified-since, prior to any other headers
+            if (isNotModifiedSince(request)) {
                 // not modified, content is not sent - only basic
                 // headers and status SC_NOT_MODIFIED
                 response.setDateHeader("Expires", expires);
@@ -273,18 +467,7 @@ public class DefaultStaticContentLoader implements StaticContentLoader {
                 response.setContentType(contentType);
             }
 
-            if (serveStaticBrowserCache) {
-                // set heading information for caching static content
-                response.setDateHeader("Date", now);
-                response.setDateHeader("Expires", expires);
-                response.setDateHeader("Retry-After", expires);
-                response.setHeader("Cache-Control", "public");
-                response.setDateHeader("Last-Modified", lastModifiedMillis);
-            } else {
-                response.setHeader("Cache-Control", "no-cache");
-                response.setHeader("Pragma", "no-cache");
-                response.setHeader("Expires", "-1");
-            }
+            setCacheHeaders(response, now, expires);
 
             try {
                 copy(is, response.getOutputStream());
@@ -382,4 +565,68 @@ public class DefaultStaticContentLoader implements StaticContentLoader {
             return path;
         }
     }
+
+    /**
+     * A static resource kept in memory with its strong ETag and, for compressible content types,
+     * its gzipped content when smaller than the original one.
+     */
+    protected static class StaticResource {
+
+        private final byte[] content;
+        private final byte[] gzippedContent;
+        private final String contentType;
+        private final String etag;
+
+        protected StaticResource(byte[] content, String contentType) throws IOException {
+            this.content = content;
+            this.contentType = contentType;
+            this.etag = "\"" + digest(content) + "\"";
+            this.gzippedContent = isCompressible(contentType) ? gzip(content) : null;
+        }
+
+        private static String digest(byte[] content) {
+            try {
+                byte[] hash = MessageDigest.getInstance("SHA-256").digest(content);
+                return HexFormat.of().formatHex(hash, 0, 16);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 is not available", e);
+            }
+        }
+
+        private static boolean isCompressible(String contentType) {
+            return contentType != null && (contentType.startsWith("text/") || contentType.endsWith("javascript"));
+        }
+
+        private static byte[] gzip(byte[] content) throws IOException {
+            ByteArrayOutputStream output = new ByteArrayOutputStream(content.length / 2 + 32);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(output)) {
+                gzip.write(content);
+            }
+            return output.size() < content.length ? output.toByteArray() : null;
+        }
+
+        public byte[] getContent() {
+            return content;
+        }
+
+        public byte[] getGzippedContent() {
+            return gzippedContent;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getETag() {
+            return etag;
+        }
+
+        public String getGzipETag() {
+            return etag.substring(0, etag.length() - 1) + "-gzip\"";
+        }
+
+        long getSize() {
+            return content.length + (gzippedContent != null ? gzippedContent.length : 0);
+        }
+    }
 }
@@ -22,20 +22,42 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
 
+/**
+ * Parameters of a request, names are case-insensitive.
+ * <p>
+ * Parameters built from other parameters share the same underlying map until one of them is modified,
+ * so passing parameters through the interceptors doesn't copy them again.
+ * </p>
+ */
 @SuppressWarnings("unchecked")
 public class HttpParameters implements Map<String, Parameter> {
 
-    final private Map<String, Parameter> parameters;
+    private TreeMap<String, Parameter> parameters;
+    private boolean copyOnWrite;
+
+    private Set<String> keySet;
+    private Collection<Parameter> values;
+    private Set<Entry<String, Parameter>> entrySet;
 
-    private HttpParameters(Map<String, Parameter> parameters) {
-        this.parameters = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
-        this.parameters.putAll(parameters);
+    private HttpParameters(TreeMap<String, Parameter> parameters, boolean copyOnWrite) {
+        this.parameters = parameters;
+        this.copyOnWrite = copyOnWrite;
+    }
+
+    private Map<String, Parameter> writableParameters() {
+        if (copyOnWrite) {
+            parameters = new TreeMap<>(parameters);
+            copyOnWrite = false;
+            values = null;
+            entrySet = null;
+        }
+        keySet = null;
+        return parameters;
     }
 
     @SuppressWarnings("rawtypes")
@@ -48,16 +70,18 @@ public class HttpParameters implements Map<String, Parameter> {
     }
 
     public HttpParameters remove(Set<String> paramsToRemove) {
+        if (paramsToRemove.isEmpty()) {
+            return this;
+        }
+        Map<String, Parameter> writable = writableParameters();
         for (String paramName : paramsToRemove) {
-            parameters.remove(paramName);
+            writable.remove(paramName);
         }
         return this;
     }
 
     public HttpParameters remove(final String paramToRemove) {
-        return remove(new HashSet<String>() {{
-            add(paramToRemove);
-        }});
+        return remove(Collections.singleton(paramToRemove));
     }
 
     public boolean contains(String name) {
@@ -85,7 +109,9 @@ public class HttpParameters implements Map<String, Parameter> {
      * @return a current instance of {@link HttpParameters}
      */
     public HttpParameters appendAll(Map<String, Parameter> newParams) {
-        parameters.putAll(newParams);
+        if (!newParams.isEmpty()) {
+            writableParameters().putAll(newParams);
+        }
         return this;
     }
 
@@ -140,17 +166,26 @@ public class HttpParameters implements Map<String, Parameter> {
 
     @Override
     public Set<String> keySet() {
-        return Collections.unmodifiableSet(new TreeSet<>(parameters.keySet()));
+        if (keySet == null) {
+            keySet = Collections.unmodifiableSet(new TreeSet<>(parameters.keySet()));
+        }
+        return keySet;
     }
 
     @Override
     public Collection<Parameter> values() {
-        return Collections.unmodifiableCollection(parameters.values());
+        if (values == null) {
+            values = Collections.unmodifiableCollection(parameters.values());
+        }
+        return values;
     }
 
     @Override
     public Set<Entry<String, Parameter>> entrySet() {
-        return Collections.unmodifiableSet(parameters.entrySet());
+        if (entrySet == null) {
+            entrySet = Collections.unmodifiableSet(parameters.entrySet());
+        }
+        return entrySet;
     }
 
     @Override
@@ -159,12 +194,13 @@ public class HttpParameters implements Map<String, Parameter> {
     }
 
     public static class Builder {
-        private Map<String, Object> requestParameterMap;
+        private Map<String, ?> requestParameterMap;
+        private boolean requestParameterMapCopied;
         private HttpParameters parent;
 
         protected Builder(Map<String, ?> requestParameterMap) {
-            this.requestParameterMap = new HashMap<>();
-            this.requestParameterMap.putAll(requestParameterMap);
+            // the given map is only read when building the parameters, unless extra params are added
+            this.requestParameterMap = requestParameterMap;
         }
 
         public Builder withParent(HttpParameters parentParams) {
@@ -176,22 +212,33 @@ public class HttpParameters implements Map<String, Parameter> {
 
         public Builder withExtraParams(Map<String, ?> params) {
             if (params != null) {
-                requestParameterMap.putAll(params);
+                if (!requestParameterMapCopied) {
+                    requestParameterMap = new HashMap<>(requestParameterMap);
+                    requestParameterMapCopied = true;
+                }
+                ((Map<String, Object>) requestParameterMap).putAll(params);
             }
             return this;
         }
 
         public Builder withComparator(Comparator<String> orderedComparator) {
             requestParameterMap = new TreeMap<>(orderedComparator);
+            requestParameterMapCopied = true;
             return this;
         }
 
         public HttpParameters build() {
-            Map<String, Parameter> parameters = (parent == null)
-                ? new HashMap<>()
-                : new HashMap<>(parent.parameters);
+            if (parent != null && requestParameterMap.isEmpty()) {
+                // nothing to add, shares the parameters of the parent until one of them is modified
+                parent.copyOnWrite = true;
+                return new HttpParameters(parent.parameters, true);
+            }
 
-            for (Map.Entry<String, Object> entry : requestParameterMap.entrySet()) {
+            TreeMap<String, Parameter> parameters = (parent == null)
+                ? new TreeMap<>(String.CASE_INSENSITIVE_ORDER)
+                : new TreeMap<>(parent.parameters);
+
+            for (Map.Entry<String, ?> entry : requestParameterMap.entrySet()) {
                 String name = entry.getKey();
                 Object value = entry.getValue();
                 if (value instanceof Parameter) {
@@ -201,7 +248,7 @@ public class HttpParameters implements Map<String, Parameter> {
                 }
             }
 
-            return new HttpParameters(parameters);
+            return new HttpParameters(parameters, false);
         }
 
         /**
@@ -212,20 +259,7 @@ public class HttpParameters implements Map<String, Parameter> {
          */
         @Deprecated
         public HttpParameters buildNoNestedWrapping() {
-            Map<String, Parameter> parameters = (parent == null)
-                    ? new HashMap<>()
-                    : new HashMap<>(parent.parameters);
-
-            for (Map.Entry<String, Object> entry : requestParameterMap.entrySet()) {
-                String name = entry.getKey();
-                Object value = entry.getValue();
-                Parameter parameterValue = (value instanceof Parameter)
-                        ? (Parameter) value
-                        : new Parameter.Request(name, value);
-                parameters.put(name, parameterValue);
-            }
-
-            return new HttpParameters(parameters);
+            return build();
         }
     }
 }
@@ -44,6 +44,7 @@ public interface Parameter {
 
         private final String name;
         private final Object value;
+        private String[] stringValues;
 
         public Request(String name, Object value) {
             this.name = name;
@@ -61,7 +62,17 @@ public interface Parameter {
             return values.length > 0 ? values[0] : null;
         }
 
+        /**
+         * Converts the value once, the returned array must not be modified.
+         */
         private String[] toStringArray() {
+            if (stringValues == null) {
+                stringValues = convertToStringArray();
+            }
+            return stringValues;
+        }
+
+        private String[] convertToStringArray() {
             if (value == null) {
                 LOG.trace("The value is null, empty array of string will be returned!");
                 return new String[]{};
@@ -94,7 +105,7 @@ public interface Parameter {
 
         @Override
         public String[] getMultipleValues() {
-            return toStringArray();
+            return toStringArray().clone();
         }
 
         @Override
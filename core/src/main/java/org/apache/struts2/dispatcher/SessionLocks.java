@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.dispatcher;
+
+import jakarta.servlet.http.HttpSession;
+
+import java.io.Serializable;
+
+/**
+ * Locks used to synchronise access to the attributes of an HTTP session.
+ * <p>
+ * Sessions are mapped by id to a fixed array of lock objects, so all the requests of a session use the same lock
+ * without interning the session id into the JVM-wide string table on each access. As unrelated sessions may share
+ * a lock, it must only guard short sections accessing the session, never the execution of an action.
+ * </p>
+ * <p>
+ * Requests of a session which must be serialised across an action invocation use {@link #invocationLockFor(HttpSession)},
+ * a lock object stored in the session itself.
+ * </p>
+ *
+ * @since 7.0.0
+ */
+public final class SessionLocks {
+
+    static final int STRIPES = 1024;
+
+    static final String INVOCATION_LOCK_ATTRIBUTE = SessionLocks.class.getName() + ".invocationLock";
+
+    private static final Object[] LOCKS = new Object[STRIPES];
+
+    static {
+        for (int i = 0; i < STRIPES; i++) {
+            LOCKS[i] = new Object();
+        }
+    }
+
+    private SessionLocks() {
+    }
+
+    /**
+     * @param session the HTTP session
+     * @return the lock to synchronise on to access the attributes of the session
+     */
+    public static Object lockFor(HttpSession session) {
+        return lockFor(session.getId());
+    }
+
+    /**
+     * @param sessionId id of the HTTP session
+     * @return the lock to synchronise on to access the attributes of the session
+     */
+    public static Object lockFor(String sessionId) {
+        int hash = sessionId.hashCode();
+        return LOCKS[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+    }
+
+    /**
+     * Returns the lock of the session to hold while executing an action, it isn't shared with any other session.
+     * The lock is stored as an attribute of the session, which keeps it when its id changes.
+     *
+     * @param session the HTTP session
+     * @return the lock to synchronise on while invoking an action of the session
+     */
+    public static Object invocationLockFor(HttpSession session) {
+        synchronized (lockFor(session)) {
+            Object lock = session.getAttribute(INVOCATION_LOCK_ATTRIBUTE);
+            if (lock == null) {
+                lock = new InvocationLock();
+                session.setAttribute(INVOCATION_LOCK_ATTRIBUTE, lock);
+            }
+            return lock;
+        }
+    }
+
+    private static final class InvocationLock implements Serializable {
+        private static final long serialVersionUID = 1L;
+    }
+}
@@ -63,7 +63,7 @@ public class SessionMap extends AbstractMap<String, Object> implements Serializa
             return;
         }
 
-        synchronized (session.getId().intern()) {
+        synchronized (SessionLocks.lockFor(session)) {
             session.invalidate();
             session = null;
             entries = null;
@@ -72,7 +72,7 @@ public class SessionMap extends AbstractMap<String, Object> implements Serializa
 
     /**
      * Removes all attributes from the session as well as clears entries in this
-     * map.
+     * map. The lock used by {@link SessionLocks#invocationLockFor(HttpSession)} is kept.
      */
     @Override
     public void clear() {
@@ -80,18 +80,22 @@ public class SessionMap extends AbstractMap<String, Object> implements Serializa
             return;
         }
 
-        synchronized (session.getId().intern()) {
+        synchronized (SessionLocks.lockFor(session)) {
             entries = null;
             final Enumeration<String> attributeNamesEnum = session.getAttributeNames();
             while (attributeNamesEnum.hasMoreElements()) {
-                session.removeAttribute(attributeNamesEnum.nextElement());
+                final String key = attributeNamesEnum.nextElement();
+                if (!SessionLocks.INVOCATION_LOCK_ATTRIBUTE.equals(key)) {
+                    session.removeAttribute(key);
+                }
             }
         }
 
     }
 
     /**
-     * Returns a Set of attributes from the http session.
+     * Returns a Set of attributes from the http session, without the lock used by
+     * {@link SessionLocks#invocationLockFor(HttpSession)}.
      *
      * @return a Set of attributes from the http session.
      */
@@ -101,7 +105,7 @@ public class SessionMap extends AbstractMap<String, Object> implements Serializa
             return Collections.emptySet();
         }
 
-        synchronized (session.getId().intern()) {
+        synchronized (SessionLocks.lockFor(session)) {
             if (entries == null) {
                 entries = new HashSet<>();
 
@@ -109,6 +113,9 @@ public class SessionMap extends AbstractMap<String, Object> implements Serializa
 
                 while (enumeration.hasMoreElements()) {
                     final String key = enumeration.nextElement();
+                    if (SessionLocks.INVOCATION_LOCK_ATTRIBUTE.equals(key)) {
+                        continue;
+                    }
                     final Object value = session.getAttribute(key);
                     entries.add(new StringObjectEntry(key, value) {
                         @Override
@@ -140,7 +147,7 @@ public class SessionMap extends AbstractMap<String, Object> implements Serializa
             return null;
         }
 
-        synchronized (session.getId().intern()) {
+        synchronized (SessionLocks.lockFor(session)) {
             return session.getAttribute(key != null ? key.toString() : null);
         }
     }
@@ -159,7 +166,7 @@ public class SessionMap extends AbstractMap<String, Object> implements Serializa
                 session = request.getSession(true);
             }
         }
-        synchronized (session.getId().intern()) {
+        synchronized (SessionLocks.lockFor(session)) {
             final Object oldValue = get(key);
             entries = null;
             session.setAttribute(key, value);
@@ -182,7 +189,7 @@ public class SessionMap extends AbstractMap<String, Object> implements Serializa
             return null;
         }
 
-        synchronized (session.getId().intern()) {
+        synchronized (SessionLocks.lockFor(session)) {
             entries = null;
 
             final String keyAsString = (key != null ? key.toString() : null);
@@ -209,7 +216,7 @@ public class SessionMap extends AbstractMap<String, Object> implements Serializa
             return false;
         }
 
-        synchronized (session.getId().intern()) {
+        synchronized (SessionLocks.lockFor(session)) {
             final String keyAsString = (key != null ? key.toString() : null);
             return (session.getAttribute(keyAsString) != null);
         }
@@ -21,6 +21,8 @@ package org.apache.struts2.dispatcher.mapper;
 import com.opensymphony.xwork2.ActionContext;
 import com.opensymphony.xwork2.config.Configuration;
 import com.opensymphony.xwork2.config.ConfigurationManager;
+import com.opensymphony.xwork2.config.NamespaceIndex;
+import com.opensymphony.xwork2.config.RuntimeConfiguration;
 import com.opensymphony.xwork2.config.entities.ActionConfig;
 import com.opensymphony.xwork2.config.entities.PackageConfig;
 import com.opensymphony.xwork2.inject.Container;
@@ -369,16 +371,22 @@ public class DefaultActionMapper implements ActionMapper {
             String prefix = uri.substring(0, lastSlash);
             actionNamespace = "";
             boolean rootAvailable = false;
-            // Find the longest matching namespace, defaulting to the default
-            for (PackageConfig cfg : config.getPackageConfigs().values()) {
-                String ns = cfg.getNamespace();
-                if (ns != null && prefix.startsWith(ns) && (prefix.length() == ns.length() || prefix.charAt(ns.length()) == '/')) {
-                    if (ns.length() > actionNamespace.length()) {
-                        actionNamespace = ns;
+            NamespaceIndex index = getNamespaceIndex(config);
+            if (index != null) {
+                actionNamespace = index.findLongestNamespace(prefix);
+                rootAvailable = index.isRootNamespaceAvailable();
+            } else {
+                // Find the longest matching namespace, defaulting to the default
+                for (PackageConfig cfg : config.getPackageConfigs().values()) {
+                    String ns = cfg.getNamespace();
+                    if (ns != null && prefix.startsWith(ns) && (prefix.length() == ns.length() || prefix.charAt(ns.length()) == '/')) {
+                        if (ns.length() > actionNamespace.length()) {
+                            actionNamespace = ns;
+                        }
+                    }
+                    if ("/".equals(ns)) {
+                        rootAvailable = true;
                     }
-                }
-                if ("/".equals(ns)) {
-                    rootAvailable = true;
                 }
             }
 
@@ -461,22 +469,48 @@ public class DefaultActionMapper implements ActionMapper {
             return;
         }
         String methodName = null;
-        for (PackageConfig cfg : configurationManager.getConfiguration().getPackageConfigs().values()) {
-            if (cfg.getNamespace().equals(mapping.getNamespace())) {
-                ActionConfig actionCfg = cfg.getActionConfigs().get(mapping.getName());
+        Configuration config = configurationManager.getConfiguration();
+        NamespaceIndex index = getNamespaceIndex(config);
+        if (index != null) {
+            if (index.hasNamespace(mapping.getNamespace())) {
+                ActionConfig actionCfg = index.getActionConfig(mapping.getNamespace(), mapping.getName());
                 if (actionCfg != null) {
                     methodName = actionCfg.getMethodName();
                     LOG.trace("Using method: {} for action mapping: {}", methodName, mapping);
                 } else {
                     LOG.debug("No action config for action mapping: {}", mapping);
                 }
-                break;
+            }
+        } else {
+            for (PackageConfig cfg : config.getPackageConfigs().values()) {
+                if (cfg.getNamespace().equals(mapping.getNamespace())) {
+                    ActionConfig actionCfg = cfg.getActionConfigs().get(mapping.getName());
+                    if (actionCfg != null) {
+                        methodName = actionCfg.getMethodName();
+                        LOG.trace("Using method: {} for action mapping: {}", methodName, mapping);
+                    } else {
+                        LOG.debug("No action config for action mapping: {}", mapping);
+                    }
+                    break;
+                }
             }
         }
 
         mapping.setMethod(methodName);
     }
 
+    /**
+     * Returns the namespace index built together with the runtime configuration, if available. The index is not
+     * available when the runtime configuration hasn't been built yet, in such case all the package configs are scanned.
+     *
+     * @param config current configuration
+     * @return the namespace index or null
+     */
+    protected NamespaceIndex getNamespaceIndex(Configuration config) {
+        RuntimeConfiguration runtimeConfiguration = config.getRuntimeConfiguration();
+        return runtimeConfiguration != null ? runtimeConfiguration.getNamespaceIndex() : null;
+    }
+
     /**
      * Drops the extension from the action name, storing it in the mapping for later use
      *
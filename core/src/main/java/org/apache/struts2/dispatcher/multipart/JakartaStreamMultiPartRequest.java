@@ -28,16 +28,16 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.struts2.dispatcher.LocalizedMessage;
 
-import java.io.BufferedOutputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
@@ -47,6 +47,10 @@ import java.util.UUID;
  * leverages the streaming API rather than the traditional non-streaming API.
  * <p>
  * For more details see WW-3025
+ * <p>
+ * Files are transferred straight from the request into temporary files through NIO channels, without buffering
+ * them in memory. Subclasses can consume a file part directly, without saving it to disk, by overriding
+ * {@link #consumeFileItem(FileItemInput, ReadableByteChannel)}.
  *
  * @since 2.3.18
  */
@@ -54,6 +58,11 @@ public class JakartaStreamMultiPartRequest extends AbstractMultiPartRequest {
 
     private static final Logger LOG = LogManager.getLogger(JakartaStreamMultiPartRequest.class);
 
+    /**
+     * Running total of the size of the already uploaded files
+     */
+    private long uploadedFilesSize;
+
     /**
      * Processes the upload.
      *
@@ -97,12 +106,7 @@ public class JakartaStreamMultiPartRequest extends AbstractMultiPartRequest {
     }
 
     private String readStream(InputStream inputStream) throws IOException {
-        ByteArrayOutputStream result = new ByteArrayOutputStream();
-        byte[] buffer = new byte[1024];
-        for (int length; (length = inputStream.read(buffer)) != -1; ) {
-            result.write(buffer, 0, length);
-        }
-        return result.toString(StandardCharsets.UTF_8);
+        return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
     }
 
     /**
@@ -132,9 +136,7 @@ public class JakartaStreamMultiPartRequest extends AbstractMultiPartRequest {
      * @return actual size of already uploaded files
      */
     protected Long actualSizeOfUploadedFiles() {
-        return uploadedFiles.values().stream()
-                .map(files -> files.stream().map(UploadedFile::length).reduce(0L, Long::sum))
-                .reduce(0L, Long::sum);
+        return uploadedFilesSize;
     }
 
     private boolean exceedsMaxFiles(FileItemInput fileItemInput) {
@@ -191,6 +193,11 @@ public class JakartaStreamMultiPartRequest extends AbstractMultiPartRequest {
             return;
         }
 
+        if (consumeFileItem(fileItemInput, Channels.newChannel(fileItemInput.getInputStream()))) {
+            LOG.debug(() -> "File has been consumed without saving it: " + sanitizeNewlines(fileItemInput.getName()));
+            return;
+        }
+
         if (exceedsMaxFiles(fileItemInput)) {
             return;
         }
@@ -198,14 +205,30 @@ public class JakartaStreamMultiPartRequest extends AbstractMultiPartRequest {
         File file = createTemporaryFile(fileItemInput.getName(), location);
         streamFileToDisk(fileItemInput, file);
 
+        long fileSize = file.length();
         Long currentFilesSize = maxSizeOfFiles != null ? actualSizeOfUploadedFiles() : null;
-        if (maxSizeOfFiles != null && currentFilesSize + file.length() >= maxSizeOfFiles) {
+        if (maxSizeOfFiles != null && currentFilesSize + fileSize >= maxSizeOfFiles) {
             exceedsMaxSizeOfFiles(fileItemInput, file, currentFilesSize);
         } else {
             createUploadedFile(fileItemInput, file);
+            uploadedFilesSize += fileSize;
         }
     }
 
+    /**
+     * Allows to consume a file part directly from the request instead of saving it into a temporary file,
+     * e.g. to forward a large upload somewhere else. A consumed part isn't available as an uploaded file
+     * and isn't counted in the limits of uploaded files.
+     *
+     * @param fileItemInput file item representing upload file
+     * @param channel       channel reading the content of the file part, must not be used when returning false
+     * @return true if the part has been consumed, false to save it into a temporary file, the default
+     * @throws IOException if the part cannot be consumed
+     */
+    protected boolean consumeFileItem(FileItemInput fileItemInput, ReadableByteChannel channel) throws IOException {
+        return false;
+    }
+
     /**
      * Creates a temporary file based on the given filename and location.
      *
@@ -227,12 +250,13 @@ public class JakartaStreamMultiPartRequest extends AbstractMultiPartRequest {
      * @param file          the file
      */
     protected void streamFileToDisk(FileItemInput fileItemInput, File file) throws IOException {
-        InputStream input = fileItemInput.getInputStream();
-        try (OutputStream output = new BufferedOutputStream(Files.newOutputStream(file.toPath()), bufferSize)) {
-            byte[] buffer = new byte[bufferSize];
+        ReadableByteChannel input = Channels.newChannel(fileItemInput.getInputStream());
+        try (FileChannel output = FileChannel.open(file.toPath(),
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
             LOG.debug("Streaming file: {} using buffer size: {}", fileItemInput.getName(), bufferSize);
-            for (int length; ((length = input.read(buffer)) > 0); ) {
-                output.write(buffer, 0, length);
+            long position = 0;
+            for (long transferred; (transferred = output.transferFrom(input, position, bufferSize)) > 0; ) {
+                position += transferred;
             }
         }
     }
@@ -262,4 +286,13 @@ public class JakartaStreamMultiPartRequest extends AbstractMultiPartRequest {
         }
     }
 
+    @Override
+    public void cleanUp() {
+        try {
+            super.cleanUp();
+        } finally {
+            uploadedFilesSize = 0;
+        }
+    }
+
 }
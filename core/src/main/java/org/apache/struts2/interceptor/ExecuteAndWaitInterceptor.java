@@ -38,6 +38,7 @@ import org.apache.struts2.views.freemarker.FreemarkerResult;
 
 import jakarta.servlet.http.HttpSession;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * <!-- START SNIPPET: description -->
@@ -96,7 +97,8 @@ import java.util.Map;
  *
  * <li>threadPriority (optional) - the priority to assign the thread. Default is <code>Thread.NORM_PRIORITY</code>.</li>
  * <li>delay (optional) - an initial delay in millis to wait before the wait page is shown (returning <code>wait</code> as result code). Default is no initial delay.</li>
- * <li>delaySleepInterval (optional) - only used with delay. Used for waking up at certain intervals to check if the background process is already done. Default is 100 millis.</li>
+ * <li>delaySleepInterval (optional) - only used with delay. Used for waking up at certain intervals to check if the background process is already done. Default is 100 millis.
+ * The default background process signals its completion, so the delay ends as soon as it is done.</li>
  *
  * </ul>
  * <p>
@@ -334,26 +336,29 @@ public class ExecuteAndWaitInterceptor extends MethodFilterInterceptor {
      * <p>
      * When this interceptor is executed for the first time this methods handles any provided initial delay.
      * An initial delay is a time in milliseconds we let the server wait before we continue.
-     * <br> During the wait this interceptor will wake every 100 millis to check if the background
-     * process is done premature, thus if the job for some reason doesn't take to long the wait
-     * page is not shown to the user.
+     * <br> The wait ends as soon as the background process signals it's done through
+     * {@link BackgroundProcess#waitUntilDone(long)}, thus if the job for some reason doesn't take to long
+     * the wait page is not shown to the user. The completion is checked at least every
+     * <code>delaySleepInterval</code> millis for processes which don't signal it.
      * </p>
      *
      * @param bp the background process
-     * @throws InterruptedException is thrown by Thread.sleep
+     * @throws InterruptedException is thrown if the current thread is interrupted while waiting
      */
     protected void performInitialDelay(BackgroundProcess bp) throws InterruptedException {
         if (delay <= 0 || delaySleepInterval <= 0) {
             return;
         }
 
-        int steps = delay / delaySleepInterval;
-        LOG.debug("Delaying for {} millis. (using {} steps)", delay, steps);
-        int step;
-        for (step = 0; step < steps && !bp.isDone(); step++) {
-            Thread.sleep(delaySleepInterval);
+        LOG.debug("Delaying for {} millis. (checking at least every {} millis)", delay, delaySleepInterval);
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(delay);
+        for (long remaining = delay; remaining > 0 && !bp.isDone(); ) {
+            bp.waitUntilDone(Math.min(remaining, delaySleepInterval));
+            remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
         }
-        LOG.debug("Sleeping ended after {} steps and the background process is {}", step, (bp.isDone() ? " done" : " not done"));
+        LOG.debug("Waiting ended after {} millis and the background process is {}",
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), (bp.isDone() ? " done" : " not done"));
     }
 
     /**
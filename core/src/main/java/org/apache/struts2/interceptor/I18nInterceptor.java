@@ -30,6 +30,7 @@ import org.apache.logging.log4j.message.ParameterizedMessage;
 import org.apache.struts2.ServletActionContext;
 import org.apache.struts2.dispatcher.HttpParameters;
 import org.apache.struts2.dispatcher.Parameter;
+import org.apache.struts2.dispatcher.SessionLocks;
 
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletResponse;
@@ -323,7 +324,7 @@ public class I18nInterceptor extends AbstractInterceptor {
 
             if (session != null) {
                 String sessionId = ServletActionContext.getRequest().getSession().getId();
-                synchronized (sessionId.intern()) {
+                synchronized (SessionLocks.lockFor(sessionId)) {
                     session.put(attributeName, locale);
                 }
             }
@@ -340,7 +341,7 @@ public class I18nInterceptor extends AbstractInterceptor {
 
             if (session != null) {
                 String sessionId = session.getId();
-                synchronized (sessionId.intern()) {
+                synchronized (SessionLocks.lockFor(sessionId)) {
                     Object sessionLocale = invocation.getInvocationContext().getSession().get(attributeName);
                     if (sessionLocale instanceof Locale) {
                         locale = (Locale) sessionLocale;
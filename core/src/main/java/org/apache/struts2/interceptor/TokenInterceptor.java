@@ -27,6 +27,7 @@ import com.opensymphony.xwork2.interceptor.MethodFilterInterceptor;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.struts2.ServletActionContext;
+import org.apache.struts2.dispatcher.SessionLocks;
 import org.apache.struts2.util.TokenHelper;
 
 import jakarta.servlet.http.HttpSession;
@@ -143,7 +144,7 @@ public class TokenInterceptor extends MethodFilterInterceptor {
         //see WW-2902: we need to use the real HttpSession here, as opposed to the map
         //that wraps the session, because a new wrap is created on every request
         HttpSession session = ServletActionContext.getRequest().getSession(true);
-        synchronized (session.getId().intern()) {
+        synchronized (SessionLocks.lockFor(session)) {
             if (!TokenHelper.validToken()) {
                 return handleInvalidToken(invocation);
             }
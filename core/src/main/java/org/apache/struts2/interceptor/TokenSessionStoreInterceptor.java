@@ -24,6 +24,7 @@ import com.opensymphony.xwork2.Result;
 import com.opensymphony.xwork2.util.ValueStack;
 import org.apache.struts2.ServletActionContext;
 import org.apache.struts2.dispatcher.HttpParameters;
+import org.apache.struts2.dispatcher.SessionLocks;
 import org.apache.struts2.util.InvocationSessionStore;
 import org.apache.struts2.util.TokenHelper;
 
@@ -104,8 +105,13 @@ public class TokenSessionStoreInterceptor extends TokenInterceptor {
         //see WW-2902: we need to use the real HttpSession here, as opposed to the map
         //that wraps the session, because a new wrap is created on every request
         HttpSession session = ServletActionContext.getRequest().getSession(true);
-        synchronized (session.getId().intern()) {
-            if (!TokenHelper.validToken()) {
+        // the lock is held while the action is executed, so a duplicate request renders its stored result
+        synchronized (SessionLocks.invocationLockFor(session)) {
+            boolean validToken;
+            synchronized (SessionLocks.lockFor(session)) {
+                validToken = TokenHelper.validToken();
+            }
+            if (!validToken) {
                 return handleInvalidToken(invocation);
             }
             return handleValidToken(invocation);
@@ -38,4 +38,20 @@ public interface BackgroundProcess extends Runnable {
     Exception getException();
 
     boolean isDone();
+
+    /**
+     * Waits at most the given time for the process to be done. Implementations should return as soon as
+     * the process is done, the default implementation sleeps the given time if the process isn't done yet.
+     *
+     * @param timeoutMillis the maximum time to wait in milliseconds
+     * @return true if the process is done
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     * @since 7.0.0
+     */
+    default boolean waitUntilDone(long timeoutMillis) throws InterruptedException {
+        if (!isDone()) {
+            Thread.sleep(timeoutMillis);
+        }
+        return isDone();
+    }
 }
@@ -24,9 +24,15 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.io.Serializable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 /**
- * Background thread to be executed by the ExecuteAndWaitInterceptor.
+ * Background process to be executed by the ExecuteAndWaitInterceptor
+ * in a thread of the {@link ExecutorProvider}.
  */
 public class StrutsBackgroundProcess implements BackgroundProcess, Serializable {
 
@@ -37,13 +43,17 @@ public class StrutsBackgroundProcess implements BackgroundProcess, Serializable
     private final String threadName;
     private final int threadPriority;
 
-    private transient Thread processThread;
+    private static final MethodHandle IS_VIRTUAL = findIsVirtual();
+
+    private transient boolean prepared;
     //WW-4900 transient since 2.5.15
     protected transient ActionInvocation invocation;
     protected transient Exception exception;
 
     protected String result;
-    protected boolean done;
+    protected volatile boolean done;
+
+    private final transient CountDownLatch doneLatch = new CountDownLatch(1);
 
     /**
      * Constructs a background process
@@ -60,43 +70,79 @@ public class StrutsBackgroundProcess implements BackgroundProcess, Serializable
 
     @Override
     public BackgroundProcess prepare() {
-        try {
-            processThread = new Thread(() -> {
-                try {
-                    beforeInvocation();
-                    result = invocation.invokeActionOnly();
-                } catch (Exception e) {
-                    LOG.warn("Exception during invokeActionOnly() execution", e);
-                    exception = e;
-                } finally {
-                    try {
-                        afterInvocation();
-                    } catch (Exception ex) {
-                        if (exception == null) {
-                            exception = ex;
-                        }
-                        LOG.warn("Exception during afterInvocation() execution", ex);
-                    }
-                    done = true;
-                }
-            });
-            processThread.setName(threadName);
-            processThread.setPriority(threadPriority);
-        } catch (Exception e) {
-            done = true;
-            exception = e;
-        }
+        prepared = true;
         return this;
     }
 
+    /**
+     * Executes the action in the thread provided by the {@link ExecutorProvider}, so its limits apply to the process.
+     * A platform thread is renamed and gets the priority of the process while the action is executed,
+     * virtual threads are left as they are.
+     */
     @Override
     public void run() {
-        if (processThread == null) {
-            done = true;
+        if (!prepared) {
             exception = new IllegalStateException("Background thread " + threadName + " has not been prepared!");
+            markDone();
             return;
         }
-        processThread.start();
+
+        Thread currentThread = Thread.currentThread();
+        boolean platformThread = !isVirtual(currentThread);
+        String previousName = currentThread.getName();
+        int previousPriority = currentThread.getPriority();
+        try {
+            if (platformThread) {
+                currentThread.setName(threadName);
+                currentThread.setPriority(threadPriority);
+            }
+            executeInvocation();
+        } finally {
+            if (platformThread) {
+                currentThread.setName(previousName);
+                currentThread.setPriority(previousPriority);
+            }
+        }
+    }
+
+    private void executeInvocation() {
+        try {
+            beforeInvocation();
+            result = invocation.invokeActionOnly();
+        } catch (Exception e) {
+            LOG.warn("Exception during invokeActionOnly() execution", e);
+            exception = e;
+        } finally {
+            try {
+                afterInvocation();
+            } catch (Exception ex) {
+                if (exception == null) {
+                    exception = ex;
+                }
+                LOG.warn("Exception during afterInvocation() execution", ex);
+            }
+            markDone();
+        }
+    }
+
+    private static boolean isVirtual(Thread thread) {
+        if (IS_VIRTUAL == null) {
+            return false;
+        }
+        try {
+            return (boolean) IS_VIRTUAL.invokeExact(thread);
+        } catch (Throwable e) {
+            return false;
+        }
+    }
+
+    private static MethodHandle findIsVirtual() {
+        try {
+            // Thread.isVirtual() is only available since Java 21
+            return MethodHandles.publicLookup().findVirtual(Thread.class, "isVirtual", MethodType.methodType(boolean.class));
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
     }
 
     /**
@@ -170,8 +216,33 @@ public class StrutsBackgroundProcess implements BackgroundProcess, Serializable
         return done;
     }
 
+    /**
+     * Waits on the completion of the background thread instead of sleeping, so it returns as soon as
+     * the process is done.
+     */
+    @Override
+    public boolean waitUntilDone(long timeoutMillis) throws InterruptedException {
+        if (doneLatch == null) {
+            // de-serialized process, there is no background thread to wait for
+            return BackgroundProcess.super.waitUntilDone(timeoutMillis);
+        }
+        return doneLatch.await(timeoutMillis, TimeUnit.MILLISECONDS) || done;
+    }
+
+    /**
+     * Marks the process as done and wakes up threads waiting for its completion.
+     *
+     * @since 7.0.0
+     */
+    protected void markDone() {
+        done = true;
+        if (doneLatch != null) {
+            doneLatch.countDown();
+        }
+    }
+
     @Override
     public String toString() {
-        return "StrutsBackgroundProcess { name = " + processThread.getName() + " }";
+        return "StrutsBackgroundProcess { name = " + threadName + " }";
     }
 }
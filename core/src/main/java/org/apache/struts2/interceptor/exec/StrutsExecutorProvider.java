@@ -18,36 +18,226 @@
  */
 package org.apache.struts2.interceptor.exec;
 
+import com.opensymphony.xwork2.inject.Inject;
+import org.apache.commons.lang3.BooleanUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.struts2.StrutsConstants;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * Default {@link ExecutorProvider}, each task is executed as soon as it is submitted unless
+ * {@link StrutsConstants#STRUTS_EXECUTOR_MAX_CONCURRENT_TASKS} is set, in which case at most that many tasks
+ * are executed at the same time and further tasks are queued.
+ * <p>
+ * When {@link StrutsConstants#STRUTS_EXECUTOR_VIRTUAL_THREADS} is enabled and the JVM supports virtual threads
+ * (Java 21 and above), each task gets its own virtual thread and, when limited, waits on a semaphore until it may run.
+ * Otherwise, the tasks are executed by a pool of daemon platform threads released after {@link #KEEP_ALIVE_SECONDS}
+ * of idleness. The threads are created once the first task is executed.
+ * </p>
+ */
 public class StrutsExecutorProvider implements ExecutorProvider {
 
     private static final Logger LOG = LogManager.getLogger(StrutsExecutorProvider.class);
 
-    private final ExecutorService executor;
+    /**
+     * No limit of tasks executed at the same time
+     */
+    public static final int UNLIMITED_CONCURRENT_TASKS = 0;
+    public static final long KEEP_ALIVE_SECONDS = 60;
+
+    private static final String THREAD_NAME_PREFIX = "struts-executor-";
+
+    private int maxConcurrentTasks = UNLIMITED_CONCURRENT_TASKS;
+    private boolean virtualThreadsEnabled;
+
+    private volatile ExecutorService executor;
+    private volatile Semaphore permits;
+    private volatile boolean virtualThreads;
+    private volatile boolean shutdown;
+
+    private final AtomicLong submittedTasks = new AtomicLong();
+    private final AtomicLong startedTasks = new AtomicLong();
+    private final AtomicLong completedTasks = new AtomicLong();
+
+    @Inject(value = StrutsConstants.STRUTS_EXECUTOR_MAX_CONCURRENT_TASKS, required = false)
+    public void setMaxConcurrentTasks(String maxConcurrentTasks) {
+        int maxTasks = Integer.parseInt(maxConcurrentTasks.trim());
+        if (maxTasks < 0) {
+            throw new IllegalArgumentException("Max concurrent tasks must not be negative but was: " + maxTasks);
+        }
+        this.maxConcurrentTasks = maxTasks;
+    }
+
+    @Inject(value = StrutsConstants.STRUTS_EXECUTOR_VIRTUAL_THREADS, required = false)
+    public void setVirtualThreads(String virtualThreads) {
+        this.virtualThreadsEnabled = BooleanUtils.toBoolean(virtualThreads);
+    }
+
+    private ExecutorService getExecutor() {
+        ExecutorService result = executor;
+        if (result == null) {
+            synchronized (this) {
+                result = executor;
+                if (result == null) {
+                    result = createExecutor();
+                    executor = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    private ExecutorService createExecutor() {
+        ExecutorService result = virtualThreadsEnabled ? createVirtualThreadPerTaskExecutor() : null;
+        boolean limited = maxConcurrentTasks != UNLIMITED_CONCURRENT_TASKS;
+        if (result != null) {
+            LOG.debug("Executing {} tasks at the same time using virtual threads", limited ? "at most " + maxConcurrentTasks : "all");
+            if (limited) {
+                permits = new Semaphore(maxConcurrentTasks);
+            }
+            virtualThreads = true;
+            return result;
+        }
+
+        LOG.debug("Executing {} tasks at the same time using platform threads", limited ? "at most " + maxConcurrentTasks : "all");
+        if (!limited) {
+            return new ThreadPoolExecutor(0, Integer.MAX_VALUE, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                    new SynchronousQueue<>(), createPlatformThreadFactory());
+        }
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(maxConcurrentTasks, maxConcurrentTasks, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), createPlatformThreadFactory());
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    private static ExecutorService createVirtualThreadPerTaskExecutor() {
+        try {
+            // virtual threads are only available since Java 21
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, THREAD_NAME_PREFIX, 0L);
+            ThreadFactory threadFactory = (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+            return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class).invoke(null, threadFactory);
+        } catch (ReflectiveOperationException e) {
+            LOG.warn("Virtual threads aren't supported by this JVM, platform threads will be used instead");
+            return null;
+        }
+    }
 
-    public StrutsExecutorProvider() {
-        this.executor = Executors.newFixedThreadPool(2);
+    private static ThreadFactory createPlatformThreadFactory() {
+        AtomicLong counter = new AtomicLong();
+        return task -> {
+            Thread thread = new Thread(task, THREAD_NAME_PREFIX + counter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
     }
 
     @Override
     public void execute(Runnable task) {
+        if (shutdown) {
+            throw new RejectedExecutionException("Executor has been shut down, cannot execute task: " + task);
+        }
         LOG.debug("Executing task: {}", task);
-        executor.execute(task);
+        ExecutorService current = getExecutor();
+        submittedTasks.incrementAndGet();
+        try {
+            current.execute(() -> runTask(task));
+        } catch (RejectedExecutionException e) {
+            submittedTasks.decrementAndGet();
+            throw e;
+        }
+    }
+
+    private void runTask(Runnable task) {
+        Semaphore currentPermits = permits;
+        if (currentPermits != null) {
+            // a submitted task is always executed, the executor is never shut down abruptly
+            currentPermits.acquireUninterruptibly();
+        }
+        startedTasks.incrementAndGet();
+        try {
+            task.run();
+        } finally {
+            completedTasks.incrementAndGet();
+            if (currentPermits != null) {
+                currentPermits.release();
+            }
+        }
     }
 
     @Override
     public boolean isShutdown() {
-        return executor.isShutdown();
+        return shutdown;
     }
 
     @Override
-    public void shutdown() {
+    public synchronized void shutdown() {
         LOG.debug("Shutting down executor");
-        executor.shutdown();
+        shutdown = true;
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * @return true if tasks are executed in virtual threads, known once the first task has been executed
+     * @since 7.0.0
+     */
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * @return the maximum number of tasks executed at the same time, {@link #UNLIMITED_CONCURRENT_TASKS} if not limited
+     * @since 7.0.0
+     */
+    public int getMaxConcurrentTasks() {
+        return maxConcurrentTasks;
+    }
+
+    /**
+     * @return the approximate number of tasks being executed
+     * @since 7.0.0
+     */
+    public int getActiveTasks() {
+        long completed = completedTasks.get();
+        return (int) (startedTasks.get() - completed);
+    }
+
+    /**
+     * @return the approximate number of tasks waiting to be executed
+     * @since 7.0.0
+     */
+    public int getQueuedTasks() {
+        long started = startedTasks.get();
+        return (int) Math.max(0, submittedTasks.get() - started);
+    }
+
+    /**
+     * @return the total number of tasks submitted to this executor
+     * @since 7.0.0
+     */
+    public long getSubmittedTasks() {
+        return submittedTasks.get();
+    }
+
+    /**
+     * @return the total number of tasks which have completed execution
+     * @since 7.0.0
+     */
+    public long getCompletedTasks() {
+        return completedTasks.get();
     }
 }
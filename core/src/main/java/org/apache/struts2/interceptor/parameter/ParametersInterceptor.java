@@ -25,6 +25,7 @@ import com.opensymphony.xwork2.inject.Inject;
 import com.opensymphony.xwork2.interceptor.MethodFilterInterceptor;
 import com.opensymphony.xwork2.interceptor.ValidationAware;
 import com.opensymphony.xwork2.security.AcceptedPatternsChecker;
+import com.opensymphony.xwork2.security.CombinedPatterns;
 import com.opensymphony.xwork2.security.DefaultAcceptedPatternsChecker;
 import com.opensymphony.xwork2.security.ExcludedPatternsChecker;
 import com.opensymphony.xwork2.util.ClearableValueStack;
@@ -97,6 +98,8 @@ public class ParametersInterceptor extends MethodFilterInterceptor {
     private AcceptedPatternsChecker acceptedPatterns;
     private Set<Pattern> excludedValuePatterns = null;
     private Set<Pattern> acceptedValuePatterns = null;
+    private CombinedPatterns combinedExcludedValuePatterns = null;
+    private CombinedPatterns combinedAcceptedValuePatterns = null;
 
     @Inject
     public void setValueStackFactory(ValueStackFactory valueStackFactory) {
@@ -652,17 +655,16 @@ public class ParametersInterceptor extends MethodFilterInterceptor {
             LOG.debug("'excludedValuePatterns' not defined so anything is allowed");
             return false;
         }
-        for (Pattern excludedValuePattern : excludedValuePatterns) {
-            if (excludedValuePattern.matcher(value).matches()) {
-                if (devMode) {
-                    LOG.warn("Parameter value [{}] matches excluded pattern [{}]! See Accepting/Excluding parameter values at\n" +
-                            "https://struts.apache.org/core-developers/parameters-interceptor#excluding-parameter-values",
-                        value, excludedValuePatterns);
-                } else {
-                    LOG.debug("Parameter value [{}] matches excluded pattern [{}]", value, excludedValuePattern);
-                }
-                return true;
+        Pattern excludedValuePattern = combinedExcludedValuePatterns.findMatchingPattern(value);
+        if (excludedValuePattern != null) {
+            if (devMode) {
+                LOG.warn("Parameter value [{}] matches excluded pattern [{}]! See Accepting/Excluding parameter values at\n" +
+                        "https://struts.apache.org/core-developers/parameters-interceptor#excluding-parameter-values",
+                    value, excludedValuePatterns);
+            } else {
+                LOG.debug("Parameter value [{}] matches excluded pattern [{}]", value, excludedValuePattern);
             }
+            return true;
         }
         return false;
     }
@@ -672,10 +674,8 @@ public class ParametersInterceptor extends MethodFilterInterceptor {
             LOG.debug("'acceptedValuePatterns' not defined so anything is allowed");
             return true;
         }
-        for (Pattern acceptedValuePattern : acceptedValuePatterns) {
-            if (acceptedValuePattern.matcher(value).matches()) {
-                return true;
-            }
+        if (combinedAcceptedValuePatterns.matches(value)) {
+            return true;
         }
         if (devMode) {
             LOG.warn("Parameter value [{}] didn't match accepted pattern [{}]! See Accepting/Excluding parameter values at\n" +
@@ -759,6 +759,7 @@ public class ParametersInterceptor extends MethodFilterInterceptor {
             }
         } finally {
             acceptedValuePatterns = unmodifiableSet(acceptedValuePatterns);
+            combinedAcceptedValuePatterns = new CombinedPatterns(acceptedValuePatterns, false);
         }
     }
 
@@ -784,6 +785,7 @@ public class ParametersInterceptor extends MethodFilterInterceptor {
             }
         } finally {
             excludedValuePatterns = unmodifiableSet(excludedValuePatterns);
+            combinedExcludedValuePatterns = new CombinedPatterns(excludedValuePatterns, false);
         }
     }
 }
@@ -172,6 +172,7 @@ public class FreemarkerManager {
     protected boolean nocache;
     protected boolean debug;
     protected Configuration config;
+    private volatile Configuration initializedConfig;
     protected ObjectWrapper wrapper;
     protected String contentType = null;
     protected boolean noCharsetInContentType = true;
@@ -259,7 +260,15 @@ public class FreemarkerManager {
         return contentType;
     }
 
-    public synchronized Configuration getConfiguration(ServletContext servletContext) {
+    public Configuration getConfiguration(ServletContext servletContext) {
+        Configuration configuration = initializedConfig;
+        if (configuration == null) {
+            configuration = initConfiguration(servletContext);
+        }
+        return configuration;
+    }
+
+    private synchronized Configuration initConfiguration(ServletContext servletContext) {
         if (config == null) {
             try {
                 init(servletContext);
@@ -269,6 +278,8 @@ public class FreemarkerManager {
             // store this configuration in the servlet context
             servletContext.setAttribute(CONFIG_SERVLET_CONTEXT_KEY, config);
         }
+        // publish the configuration only once fully initialised
+        initializedConfig = config;
         return config;
     }
 
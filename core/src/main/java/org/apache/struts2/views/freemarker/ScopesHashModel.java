@@ -44,6 +44,11 @@ import java.util.Map;
  * <p>
  * Updated to subclass AllHttpScopesHashModel.java to incorporate invisible scopes and compatibility with freemarker.
  * </p>
+ *
+ * <p>
+ * A model can be created on top of a parent model, in such case keys which don't exist in this hash are first
+ * resolved within the entries of the parent, which allows to share a model built once between several templates.
+ * </p>
  */
 public class ScopesHashModel extends SimpleHash implements TemplateModel {
 
@@ -54,6 +59,7 @@ public class ScopesHashModel extends SimpleHash implements TemplateModel {
     private ValueStack stack;
     private final Map<String, TemplateModel> unlistedModels = new HashMap<>();
     private volatile Object parametersCache;
+    private ScopesHashModel parent;
 
     public ScopesHashModel(ObjectWrapper objectWrapper, ServletContext context, HttpServletRequest request, ValueStack stack) {
         super(objectWrapper);
@@ -62,6 +68,18 @@ public class ScopesHashModel extends SimpleHash implements TemplateModel {
         this.stack = stack;
     }
 
+    /**
+     * Creates an empty model using the scopes of the given parent model and resolving keys
+     * which don't exist in this hash within the entries of the parent.
+     *
+     * @param parent the parent model
+     * @since 7.0.0
+     */
+    public ScopesHashModel(ScopesHashModel parent) {
+        this(parent.getObjectWrapper(), parent.servletContext, parent.request, parent.stack);
+        this.parent = parent;
+    }
+
     // This constructor is for Freemarker Sitemesh integration where the model is somehow lost...
     public ScopesHashModel(ObjectWrapper objectWrapper, ServletContext context, HttpServletRequest request) {
          super(objectWrapper);
@@ -88,6 +106,13 @@ public class ScopesHashModel extends SimpleHash implements TemplateModel {
             return model;
         }
 
+        if (parent != null) {
+            model = parent.getEntry(key);
+            if (model != null) {
+                return model;
+            }
+        }
+
 
         if (stack != null) {
             Object obj = findValueOnStack(key);
@@ -134,6 +159,9 @@ public class ScopesHashModel extends SimpleHash implements TemplateModel {
 
         // Look in unlisted models
         model = unlistedModels.get(key);
+        if (model == null && parent != null) {
+            model = parent.unlistedModels.get(key);
+        }
         if(model != null) {
             return wrap(model);
         }
@@ -142,6 +170,14 @@ public class ScopesHashModel extends SimpleHash implements TemplateModel {
         return null;
     }
 
+    private TemplateModel getEntry(String key) throws TemplateModelException {
+        TemplateModel model = super.get(key);
+        if (model == null && parent != null) {
+            model = parent.getEntry(key);
+        }
+        return model;
+    }
+
     private Object findValueOnStack(final String key) {
         if ("parameters".equals(key)) {
             if (parametersCache != null) {
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.opensymphony.xwork2;
+
+import com.opensymphony.xwork2.util.ValueStack;
+import com.opensymphony.xwork2.util.ValueStackFactory;
+import ognl.MemberAccess;
+import ognl.OgnlContext;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Member;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ActionMethodResolverTest extends XWorkTestCase {
+
+    private ActionMethodResolver resolver;
+    private ValueStack stack;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        resolver = container.getInstance(ActionMethodResolver.class);
+        stack = container.getInstance(ValueStackFactory.class).createValueStack();
+    }
+
+    public void testResolvePublicMethod() throws Throwable {
+        SimpleAction action = new SimpleAction();
+
+        MethodHandle handle = resolver.resolve(action, "commandMethod", stack.getContext());
+
+        assertNotNull(handle);
+        assertSame(handle, resolver.resolve(new SimpleAction(), "commandMethod", stack.getContext()));
+        assertEquals(SimpleAction.COMMAND_RETURN_CODE, handle.invoke(action));
+    }
+
+    public void testResolveVoidMethod() throws Throwable {
+        SimpleAction action = new SimpleAction();
+
+        MethodHandle handle = resolver.resolve(action, "validate", stack.getContext());
+
+        assertNotNull(handle);
+        assertNull(handle.invoke(action));
+    }
+
+    public void testMissingMethodIsNotResolved() {
+        assertNull(resolver.resolve(new SimpleAction(), "notExists", stack.getContext()));
+        assertNull(resolver.resolve(new SimpleAction(), "notExists", stack.getContext()));
+    }
+
+    public void testOnlyResolvedMethodsAreCached() {
+        AtomicInteger resolutions = new AtomicInteger();
+        ActionMethodResolver countingResolver = new ActionMethodResolver() {
+            @Override
+            protected ResolvedMethod createResolvedMethod(Object action, String methodName) {
+                resolutions.incrementAndGet();
+                return super.createResolvedMethod(action, methodName);
+            }
+        };
+
+        assertNull(countingResolver.resolve(new SimpleAction(), "notExists", stack.getContext()));
+        assertNull(countingResolver.resolve(new SimpleAction(), "notExists", stack.getContext()));
+        assertEquals(2, resolutions.get());
+
+        assertNotNull(countingResolver.resolve(new SimpleAction(), "commandMethod", stack.getContext()));
+        assertNotNull(countingResolver.resolve(new SimpleAction(), "commandMethod", stack.getContext()));
+        assertEquals(3, resolutions.get());
+    }
+
+    public void testMethodOfNonPublicClassIsNotResolved() {
+        SimpleAction action = new SimpleAction() {
+            @Override
+            public String execute() {
+                return SUCCESS;
+            }
+        };
+
+        assertNull(resolver.resolve(action, "execute", stack.getContext()));
+    }
+
+    public void testMethodRejectedByMemberAccessIsNotResolved() {
+        assertNull(resolver.resolve(new SimpleAction(), "commandMethod", createDenyAllContext()));
+    }
+
+    public void testMemberAccessIsCheckedOnEachInvocation() {
+        MethodHandle handle = resolver.resolve(new SimpleAction(), "commandMethod", stack.getContext());
+        assertNotNull(handle);
+
+        assertNull(resolver.resolve(new SimpleAction(), "commandMethod", createDenyAllContext()));
+        assertSame(handle, resolver.resolve(new SimpleAction(), "commandMethod", stack.getContext()));
+    }
+
+    private OgnlContext createDenyAllContext() {
+        MemberAccess denyAll = new MemberAccess() {
+            @Override
+            public Object setup(Map context, Object target, Member member, String propertyName) {
+                return null;
+            }
+
+            @Override
+            public void restore(Map context, Object target, Member member, String propertyName, Object state) {
+            }
+
+            @Override
+            public boolean isAccessible(Map context, Object target, Member member, String propertyName) {
+                return false;
+            }
+        };
+        return new OgnlContext(null, null, denyAll);
+    }
+
+    public void testNonOgnlContextIsNotResolved() {
+        assertNull(resolver.resolve(new SimpleAction(), "commandMethod", new HashMap<>()));
+    }
+}
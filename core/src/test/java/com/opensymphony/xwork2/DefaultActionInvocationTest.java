@@ -254,6 +254,54 @@ public class DefaultActionInvocationTest extends XWorkTestCase {
         assertTrue(actual instanceof IllegalArgumentException);
     }
 
+    public void testInvokingResolvedActionMethod() throws Exception {
+        // given
+        DefaultActionInvocation dai = new DefaultActionInvocation(ActionContext.getContext().getContextMap(), false);
+        container.inject(dai);
+
+        SimpleAction action = new SimpleAction();
+        MockActionProxy proxy = new MockActionProxy();
+        proxy.setMethod("commandMethod");
+
+        dai.stack = container.getInstance(ValueStackFactory.class).createValueStack();
+        dai.proxy = proxy;
+
+        // when
+        String result = dai.invokeAction(action, null);
+
+        // then
+        assertEquals(SimpleAction.COMMAND_RETURN_CODE, result);
+        assertNotNull(dai.resolveActionMethod(action, "commandMethod"));
+    }
+
+    public void testInvokingResolvedActionMethodThatThrowsException() {
+        // given
+        DefaultActionInvocation dai = new DefaultActionInvocation(ActionContext.getContext().getContextMap(), false);
+        container.inject(dai);
+
+        SimpleAction action = new SimpleAction();
+        action.setThrowException(true);
+        MockActionProxy proxy = new MockActionProxy();
+        proxy.setMethod("exceptionMethod");
+
+        dai.stack = container.getInstance(ValueStackFactory.class).createValueStack();
+        dai.proxy = proxy;
+
+        // when
+        Throwable actual = null;
+        try {
+            dai.invokeAction(action, null);
+        } catch (Exception e) {
+            actual = e;
+        }
+
+        // then
+        assertNotNull(dai.resolveActionMethod(action, "exceptionMethod"));
+        assertNotNull(actual);
+        assertEquals(Exception.class, actual.getClass());
+        assertEquals("We're supposed to throw this", actual.getMessage());
+    }
+
     public void testUnknownHandlerManagerThatThrowsException() {
         // given
         DefaultActionInvocation dai = new DefaultActionInvocation(ActionContext.getContext().getContextMap(), false);
@@ -25,9 +25,20 @@ import com.opensymphony.xwork2.config.providers.StrutsDefaultConfigurationProvid
 import com.opensymphony.xwork2.conversion.TypeConverterHolder;
 import com.opensymphony.xwork2.inject.Container;
 import com.opensymphony.xwork2.inject.ContainerBuilder;
+import com.opensymphony.xwork2.test.StubConfigurationProvider;
 import com.opensymphony.xwork2.util.location.LocatableProperties;
+import org.apache.struts2.StrutsConstants;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -173,4 +184,175 @@ public class ConfigurationManagerTest extends XWorkTestCase {
         assertTrue("java.io.File mapping should being putted by DefaultConversionPropertiesProcessor.init()",
                 converterHolder.containsDefaultMapping("java.io.File"));
     }
+
+    public void testGetConfigurationUnderContention() throws Exception {
+        ConfigurationManager manager = new ConfigurationManager(Container.DEFAULT_NAME);
+        manager.addContainerProvider(new StrutsDefaultConfigurationProvider());
+        Configuration expected = manager.getConfiguration();
+
+        int threads = 64;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < 10_000; j++) {
+                        if (manager.getConfiguration() != expected) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            start.countDown();
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+            manager.destroyConfiguration();
+        }
+    }
+
+    public void testReloadCheckIsRateLimited() {
+        ReloadCountingProvider provider = new ReloadCountingProvider("60000");
+        ConfigurationManager manager = new ConfigurationManager(Container.DEFAULT_NAME);
+        manager.addContainerProvider(new StrutsDefaultConfigurationProvider());
+        manager.addContainerProvider(provider);
+        Configuration expected = manager.getConfiguration();
+        int checksAfterInit = provider.checks.get();
+
+        for (int i = 0; i < 100; i++) {
+            assertSame(expected, manager.getConfiguration());
+        }
+
+        assertEquals(checksAfterInit + 1, provider.checks.get());
+        manager.destroyConfiguration();
+    }
+
+    public void testReloadCheckOnEachAccessByDefault() {
+        ReloadCountingProvider provider = new ReloadCountingProvider(null);
+        ConfigurationManager manager = new ConfigurationManager(Container.DEFAULT_NAME);
+        manager.addContainerProvider(new StrutsDefaultConfigurationProvider());
+        manager.addContainerProvider(provider);
+        manager.getConfiguration();
+        int checksAfterInit = provider.checks.get();
+
+        for (int i = 0; i < 100; i++) {
+            manager.getConfiguration();
+        }
+
+        assertEquals(checksAfterInit + 100, provider.checks.get());
+        manager.destroyConfiguration();
+    }
+
+    public void testReadersDoNotWaitForReloadCheck() throws Exception {
+        AtomicBoolean blockCheck = new AtomicBoolean();
+        CountDownLatch checkStarted = new CountDownLatch(1);
+        CountDownLatch finishCheck = new CountDownLatch(1);
+        ConfigurationManager manager = new ConfigurationManager(Container.DEFAULT_NAME);
+        manager.addContainerProvider(new StrutsDefaultConfigurationProvider());
+        manager.addContainerProvider(new ReloadCountingProvider(null) {
+            @Override
+            public boolean needsReload() {
+                if (blockCheck.get()) {
+                    checkStarted.countDown();
+                    try {
+                        finishCheck.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return super.needsReload();
+            }
+        });
+        Configuration expected = manager.getConfiguration();
+        blockCheck.set(true);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Configuration> checking = executor.submit(manager::getConfiguration);
+            assertTrue(checkStarted.await(5, TimeUnit.SECONDS));
+
+            Future<Configuration> reader = executor.submit(manager::getConfiguration);
+            assertSame("Configuration must be read while the providers are checked", expected, reader.get(5, TimeUnit.SECONDS));
+
+            finishCheck.countDown();
+            assertSame(expected, checking.get(5, TimeUnit.SECONDS));
+        } finally {
+            finishCheck.countDown();
+            executor.shutdownNow();
+            manager.destroyConfiguration();
+        }
+    }
+
+    public void testReadersWaitForReloadToComplete() throws Exception {
+        CountDownLatch reloadStarted = new CountDownLatch(1);
+        CountDownLatch finishReload = new CountDownLatch(1);
+        AtomicInteger registrations = new AtomicInteger();
+        ConfigurationManager manager = new ConfigurationManager(Container.DEFAULT_NAME);
+        manager.addContainerProvider(new StrutsDefaultConfigurationProvider());
+        manager.addContainerProvider(new StubConfigurationProvider() {
+            @Override
+            public void register(ContainerBuilder builder, LocatableProperties props) throws ConfigurationException {
+                if (registrations.incrementAndGet() > 1) {
+                    reloadStarted.countDown();
+                    try {
+                        finishReload.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }
+        });
+        manager.getConfiguration();
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> reload = executor.submit(manager::reload);
+            assertTrue(reloadStarted.await(5, TimeUnit.SECONDS));
+
+            Future<Configuration> reader = executor.submit(manager::getConfiguration);
+            Thread.sleep(200);
+            assertFalse("Configuration must not be read while it is being reloaded", reader.isDone());
+
+            finishReload.countDown();
+            reload.get(5, TimeUnit.SECONDS);
+            assertNotNull(reader.get(5, TimeUnit.SECONDS).getRuntimeConfiguration());
+        } finally {
+            finishReload.countDown();
+            executor.shutdownNow();
+            manager.destroyConfiguration();
+        }
+    }
+
+    private static class ReloadCountingProvider implements ContainerProvider {
+
+        private final String interval;
+        private final AtomicInteger checks = new AtomicInteger();
+
+        ReloadCountingProvider(String interval) {
+            this.interval = interval;
+        }
+
+        public void destroy() {
+        }
+
+        public void init(Configuration configuration) throws ConfigurationException {
+        }
+
+        public boolean needsReload() {
+            checks.incrementAndGet();
+            return false;
+        }
+
+        public void register(ContainerBuilder builder, LocatableProperties props) throws ConfigurationException {
+            props.setProperty(StrutsConstants.STRUTS_CONFIGURATION_XML_RELOAD, "true");
+            if (interval != null) {
+                props.setProperty(StrutsConstants.STRUTS_CONFIGURATION_XML_RELOAD_INTERVAL, interval);
+            }
+        }
+    }
 }
@@ -27,6 +27,7 @@ import com.opensymphony.xwork2.util.WildcardHelper;
 import org.apache.struts2.util.RegexPatternMatcher;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 public class ActionConfigMatcherTest extends XWorkTestCase {
@@ -216,6 +217,66 @@ public class ActionConfigMatcherTest extends XWorkTestCase {
         assertEquals("paramOne", matched.getResults().get("successparamOne").getParams().get("first"));
     }
 
+    public void testMatchAmongManyPatterns() {
+        Map<String, ActionConfig> map = new LinkedHashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            String name = "entity" + i + "_*";
+            map.put(name, new ActionConfig.Builder("package", name, "foo.bar.Entity" + i + "Action")
+                    .methodName("{1}")
+                    .setStrictMethodInvocation(false)
+                    .build());
+        }
+        map.put("*_*", new ActionConfig.Builder("package", "*_*", "foo.bar.{1}Action")
+                .methodName("{2}")
+                .setStrictMethodInvocation(false)
+                .build());
+        ActionConfigMatcher manyMatcher = new ActionConfigMatcher(new WildcardHelper(), map, false);
+
+        for (int i = 0; i < 10_000; i++) {
+            ActionConfig m = manyMatcher.match("entity" + (i % 1000) + "_edit");
+            assertEquals("foo.bar.Entity" + (i % 1000) + "Action", m.getClassName());
+            assertEquals("edit", m.getMethodName());
+        }
+
+        ActionConfig m = manyMatcher.match("person_list");
+        assertEquals("foo.bar.personAction", m.getClassName());
+        assertEquals("list", m.getMethodName());
+        assertNull(manyMatcher.match("person"));
+    }
+
+    public void testMatchKeepsPatternsOrder() {
+        Map<String, ActionConfig> map = new LinkedHashMap<>();
+        map.put("*/list", new ActionConfig.Builder("package", "*/list", "foo.bar.ListAction")
+                .setStrictMethodInvocation(false)
+                .build());
+        map.put("foo/*", new ActionConfig.Builder("package", "foo/*", "foo.bar.FooAction")
+                .setStrictMethodInvocation(false)
+                .build());
+        ActionConfigMatcher orderedMatcher = new ActionConfigMatcher(new WildcardHelper(), map, false);
+
+        assertEquals("foo.bar.ListAction", orderedMatcher.match("foo/list").getClassName());
+        assertEquals("foo.bar.FooAction", orderedMatcher.match("foo/edit").getClassName());
+        assertEquals("foo.bar.ListAction", orderedMatcher.match("bar/list").getClassName());
+        assertNull(orderedMatcher.match("bar/edit"));
+    }
+
+    public void testMatchIsCached() {
+        ActionConfig first = matcher.match("foo/class/method");
+        ActionConfig second = matcher.match("foo/class/method");
+        ActionConfig other = matcher.match("foo/class/other");
+
+        assertSame(first, second);
+        assertNotSame(first, other);
+        assertEquals("doother", other.getMethodName());
+
+        for (int i = 0; i <= ActionConfigMatcher.MAX_CACHED_MATCHES; i++) {
+            assertNotNull(matcher.match("foo/class" + i + "/method"));
+        }
+        ActionConfig afterEviction = matcher.match("foo/class/method");
+        assertNotSame(first, afterEviction);
+        assertEquals(first.getClassName(), afterEviction.getClassName());
+    }
+
     private Map<String,ActionConfig> buildActionConfigMap() {
         Map<String, ActionConfig> map = new HashMap<>();
 
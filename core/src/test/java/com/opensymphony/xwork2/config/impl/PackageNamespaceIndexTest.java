@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.opensymphony.xwork2.config.impl;
+
+import com.opensymphony.xwork2.config.entities.ActionConfig;
+import com.opensymphony.xwork2.config.entities.PackageConfig;
+import junit.framework.TestCase;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+public class PackageNamespaceIndexTest extends TestCase {
+
+    public void testFindLongestNamespace() {
+        PackageNamespaceIndex index = new PackageNamespaceIndex(Arrays.asList(
+                new PackageConfig.Builder("default").namespace("").build(),
+                new PackageConfig.Builder("foo").namespace("/foo").build(),
+                new PackageConfig.Builder("foobar").namespace("/foo/bar").build(),
+                new PackageConfig.Builder("fo").namespace("/fo").build()
+        ));
+
+        assertEquals("/foo", index.findLongestNamespace("/foo"));
+        assertEquals("/foo/bar", index.findLongestNamespace("/foo/bar"));
+        assertEquals("/foo/bar", index.findLongestNamespace("/foo/bar/baz"));
+        assertEquals("/foo", index.findLongestNamespace("/foo/ba"));
+        assertEquals("/foo", index.findLongestNamespace("/foo/barbaz"));
+        assertEquals("", index.findLongestNamespace("/food"));
+        assertEquals("", index.findLongestNamespace("/other"));
+        assertEquals("", index.findLongestNamespace("relative/foo"));
+        assertFalse(index.isRootNamespaceAvailable());
+    }
+
+    public void testRootNamespace() {
+        PackageNamespaceIndex index = new PackageNamespaceIndex(Arrays.asList(
+                new PackageConfig.Builder("root").namespace("/").build(),
+                new PackageConfig.Builder("foo").namespace("/foo").build()
+        ));
+
+        assertTrue(index.isRootNamespaceAvailable());
+        assertEquals("", index.findLongestNamespace("/bar"));
+        assertEquals("/foo", index.findLongestNamespace("/foo/bar"));
+    }
+
+    public void testActionConfigFromFirstPackageWithNamespace() {
+        ActionConfig first = new ActionConfig.Builder("first", "list", "FirstAction").methodName("list").build();
+        ActionConfig second = new ActionConfig.Builder("second", "edit", "SecondAction").methodName("edit").build();
+        PackageNamespaceIndex index = new PackageNamespaceIndex(Arrays.asList(
+                new PackageConfig.Builder("first").namespace("/crud").addActionConfig("list", first).build(),
+                new PackageConfig.Builder("second").namespace("/crud").addActionConfig("edit", second).build()
+        ));
+
+        assertTrue(index.hasNamespace("/crud"));
+        assertFalse(index.hasNamespace("/other"));
+        assertSame(first, index.getActionConfig("/crud", "list"));
+        assertNull(index.getActionConfig("/crud", "edit"));
+        assertNull(index.getActionConfig("/other", "list"));
+    }
+
+    public void testEmpty() {
+        PackageNamespaceIndex index = new PackageNamespaceIndex(Collections.emptyList());
+
+        assertEquals("", index.findLongestNamespace("/foo/bar"));
+        assertFalse(index.isRootNamespaceAvailable());
+        assertFalse(index.hasNamespace(""));
+    }
+}
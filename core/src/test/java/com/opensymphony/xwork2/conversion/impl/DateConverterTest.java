@@ -31,10 +31,18 @@ import java.text.DateFormat;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Calendar;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 public class DateConverterTest extends StrutsInternalTestCase {
 
@@ -186,6 +194,71 @@ public class DateConverterTest extends StrutsInternalTestCase {
         assertTrue(value.toString().startsWith(LOCALTIME_STR));
     }
 
+    public void testLocalDateTypeConversionExceptionWhenDateCannotBeResolved() {
+        DateConverter converter = new DateConverter();
+
+        ActionContext context = ActionContext.of();
+
+        try {
+            converter.convertValue(context.getContextMap(), null, null, null, "2020-02-30", LocalDate.class);
+            fail("TypeConversionException expected - Conversion error occurred");
+        } catch (Exception ex) {
+            assertEquals(TypeConversionException.class, ex.getClass());
+            assertEquals(MESSAGE_PARSE_ERROR, ex.getMessage());
+        }
+    }
+
+    public void testFormatsAreCachedPerLocale() {
+        DateConverter converter = new DateConverter();
+        FormatCache.clear();
+
+        ActionContext context = ActionContext.of().withLocale(mxLocale);
+        Object first = converter.convertValue(context.getContextMap(), null, null, null, INPUT_TIME_STAMP_STR, Timestamp.class);
+        int cached = FormatCache.size();
+        Object second = converter.convertValue(context.getContextMap(), null, null, null, INPUT_TIME_STAMP_STR, Timestamp.class);
+
+        assertTrue(cached > 0);
+        assertEquals(cached, FormatCache.size());
+        assertEquals(first, second);
+
+        context = ActionContext.of().withLocale(Locale.US);
+        Object value = converter.convertValue(context.getContextMap(), null, null, null, "03/20/2020", Date.class);
+        assertTrue(value.toString().startsWith(DATE_CONVERTED));
+        assertTrue(FormatCache.size() > cached);
+    }
+
+    public void testConcurrentDateConversion() throws Exception {
+        final DateConverter converter = new DateConverter();
+        final int threads = 16;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Future<Boolean>> results = new ArrayList<>();
+
+        for (int i = 0; i < threads; i++) {
+            final int day = i + 1;
+            results.add(executor.submit(() -> {
+                Map<String, Object> context = ActionContext.of().withLocale(Locale.US).getContextMap();
+                String date = String.format("03/%02d/2020", day);
+                start.await();
+                for (int j = 0; j < 50; j++) {
+                    Date value = (Date) converter.convertValue(context, null, null, null, date, Date.class);
+                    Calendar calendar = Calendar.getInstance();
+                    calendar.setTime(value);
+                    if (calendar.get(Calendar.DAY_OF_MONTH) != day) {
+                        return false;
+                    }
+                }
+                return true;
+            }));
+        }
+
+        start.countDown();
+        for (Future<Boolean> result : results) {
+            assertTrue(result.get(60, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+    }
+
     @Override
     protected void setUp() throws Exception {
         super.setUp();
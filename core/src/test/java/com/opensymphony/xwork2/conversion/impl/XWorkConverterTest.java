@@ -19,6 +19,7 @@
 package com.opensymphony.xwork2.conversion.impl;
 
 import com.opensymphony.xwork2.*;
+import com.opensymphony.xwork2.conversion.TypeConverterHolder;
 import com.opensymphony.xwork2.ognl.OgnlValueStack;
 import com.opensymphony.xwork2.test.ModelDrivenAction2;
 import com.opensymphony.xwork2.test.User;
@@ -46,6 +47,11 @@ import static org.junit.Assert.assertArrayEquals;
 
 import java.util.Date;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 public class XWorkConverterTest extends XWorkTestCase {
 
@@ -762,6 +768,41 @@ public class XWorkConverterTest extends XWorkTestCase {
         assertEquals(converted, Arrays.asList(1, 2, 3));
     }
 
+    public void testConcurrentParameterBinding() throws Exception {
+        final ModelDrivenAction2 action = new ModelDrivenAction2();
+        final int threads = 32;
+        final int iterations = 100;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Future<Integer>> results = new ArrayList<>();
+
+        for (int i = 0; i < threads; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                int converted = 0;
+                for (int j = 0; j < iterations; j++) {
+                    Map<String, Object> threadContext = new HashMap<>();
+                    Bar bar = (Bar) converter.convertValue(threadContext, action.getModel(), null, "barObj", "asdf:" + j, Bar.class);
+                    Object number = converter.convertValue(threadContext, new ListAction(), null, "ints", String.valueOf(j), Integer.class);
+                    if ("asdf".equals(bar.getTitle()) && bar.getSomethingElse() == j && Integer.valueOf(j).equals(number)) {
+                        converted++;
+                    }
+                }
+                return converted;
+            }));
+        }
+
+        start.countDown();
+        for (Future<Integer> result : results) {
+            assertEquals(iterations, result.get(60, TimeUnit.SECONDS).intValue());
+        }
+        executor.shutdown();
+
+        TypeConverterHolder holder = container.getInstance(TypeConverterHolder.class);
+        assertNotNull(holder.getMapping(action.getModel().getClass()));
+        assertTrue(holder.containsNoMapping(ListAction.class));
+    }
+
     public static class Foo1 {
         public Bar1 getBar() {
             return new Bar1Impl();
@@ -180,6 +180,48 @@ public class ContainerImplTest {
         assertEquals(testScopeStrategy.wizardInitializable, initializableCheck3.getWizardInitializable());
     }
 
+    @Test
+    public void testCompiledInjection() throws Exception {
+        Container reflective = createMixedContainer(false);
+        Container compiled = createMixedContainer(true);
+
+        MixedCheck expected = new MixedCheck();
+        reflective.inject(expected);
+        MixedCheck actual = new MixedCheck();
+        compiled.inject(actual);
+
+        assertEquals("Lukasz", actual.name);
+        assertEquals(10, actual.count);
+        assertTrue(actual.enabled);
+        assertEquals("Lukasz", actual.methodName);
+        assertEquals(10, actual.methodCount);
+        assertEquals(expected.toString(), actual.toString());
+
+        MixedCheck created = compiled.inject(MixedCheck.class);
+        assertEquals(expected.toString(), created.toString());
+    }
+
+    @Test
+    public void testCompiledInjectionWrapsMethodFailure() throws Exception {
+        ContainerBuilder cb = new ContainerBuilder();
+        cb.constant("methodCheck.name", "Lukasz");
+        cb.setCompiledInjection(true);
+        Container compiled = cb.create(false);
+
+        RuntimeException e = assertThrows(RuntimeException.class, () -> compiled.inject(new FailingMethodCheck()));
+        assertTrue(e.getCause() instanceof java.lang.reflect.InvocationTargetException);
+        assertEquals("failed", e.getCause().getCause().getMessage());
+    }
+
+    private Container createMixedContainer(boolean compiledInjection) {
+        ContainerBuilder cb = new ContainerBuilder();
+        cb.constant("mixedCheck.name", "Lukasz");
+        cb.constant("mixedCheck.count", 10);
+        cb.constant("mixedCheck.enabled", true);
+        cb.setCompiledInjection(compiledInjection);
+        return cb.create(false);
+    }
+
     public static class FieldCheck {
 
         @Inject("fieldCheck.name")
@@ -205,6 +247,40 @@ public class ContainerImplTest {
 
     }
 
+    public static class MixedCheck {
+
+        @Inject("mixedCheck.name")
+        private String name;
+        @Inject("mixedCheck.count")
+        private int count;
+        @Inject("mixedCheck.enabled")
+        protected boolean enabled;
+        @Inject
+        Container container;
+
+        private String methodName;
+        private int methodCount;
+
+        @Inject
+        public void setValues(@Inject("mixedCheck.name") String methodName, @Inject("mixedCheck.count") int methodCount) {
+            this.methodName = methodName;
+            this.methodCount = methodCount;
+        }
+
+        @Override
+        public String toString() {
+            return name + ":" + count + ":" + enabled + ":" + (container != null) + ":" + methodName + ":" + methodCount;
+        }
+    }
+
+    public static class FailingMethodCheck {
+
+        @Inject("methodCheck.name")
+        public void setName(String name) {
+            throw new IllegalStateException("failed");
+        }
+    }
+
     class InitializableCheck {
 
         private Initializable initializable;
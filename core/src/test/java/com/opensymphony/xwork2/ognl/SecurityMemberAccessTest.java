@@ -40,7 +40,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.regex.Pattern;
 
+import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThrows;
@@ -928,6 +930,58 @@ public class SecurityMemberAccessTest {
         assertTrue(sma.checkAllowlist(bean, method));
     }
 
+    @Test
+    public void accessDecisionIsCached() throws Exception {
+        Method method = FooBar.class.getMethod("getStringField");
+
+        assertTrue(sma.isAccessible(context, target, method, null));
+        assertTrue(sma.isAccessible(context, target, method, "stringField"));
+        assertThat(sma.getCachedDecisionsCount()).isEqualTo(1);
+
+        sma.useExcludedClasses(FooBar.class.getName());
+
+        assertThat(sma.getCachedDecisionsCount()).isZero();
+        assertFalse(sma.isAccessible(context, target, method, null));
+    }
+
+    @Test
+    public void accessDecisionIsCachedPerTargetClass() throws Exception {
+        sma.useExcludedClasses(TestBean2.class.getName());
+        Method method = TestBean.class.getMethod("getName");
+
+        assertTrue(sma.isAccessible(context, new TestBean(), method, null));
+        assertFalse(sma.isAccessible(context, new TestBean2(), method, null));
+        assertThat(sma.getCachedDecisionsCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void threadAllowlistDecisionIsNotCached() throws Exception {
+        SecurityMemberAccess memberAccess = new SecurityMemberAccess(mockedProviderAllowlist, mockedThreadAllowlist);
+        memberAccess.useEnforceAllowlistEnabled(Boolean.TRUE.toString());
+        Method method = FooBar.class.getMethod("getStringField");
+        when(mockedThreadAllowlist.getAllowlist()).thenReturn(new HashSet<>(singletonList(FooBar.class)));
+
+        assertTrue(memberAccess.isAccessible(context, target, method, null));
+        assertThat(memberAccess.getCachedDecisionsCount()).isZero();
+
+        when(mockedThreadAllowlist.getAllowlist()).thenReturn(new HashSet<>());
+
+        assertFalse(memberAccess.isAccessible(context, target, method, null));
+    }
+
+    @Test
+    public void combinedPropertyPatterns() throws Exception {
+        Method method = FooBar.class.getMethod("getStringField");
+        sma.useExcludeProperties(new HashSet<>(Arrays.asList(Pattern.compile("class"), Pattern.compile("string.*"))));
+        sma.useAcceptProperties(new HashSet<>(Arrays.asList(Pattern.compile("string\\w+"), Pattern.compile("int\\w+"))));
+
+        assertFalse(sma.isAccessible(context, target, method, "stringField"));
+        assertFalse(sma.isAccessible(context, target, method, "class"));
+        assertFalse(sma.isAccessible(context, target, method, "doubleField"));
+        assertTrue(sma.isAccessible(context, target, method, "intField"));
+        assertTrue(sma.isAccessible(context, target, method, null));
+    }
+
     private static String formGetterName(String propertyName) {
         return "get" + propertyName.substring(0, 1).toUpperCase() + propertyName.substring(1);
     }
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.opensymphony.xwork2.ognl.accessor;
+
+import com.opensymphony.xwork2.ActionContext;
+import com.opensymphony.xwork2.XWorkTestCase;
+import com.opensymphony.xwork2.ognl.accessor.CompoundRootShapeCache.Lookup;
+import com.opensymphony.xwork2.util.CompoundRoot;
+import com.opensymphony.xwork2.util.ValueStack;
+import ognl.OgnlContext;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class CompoundRootShapeCacheTest extends XWorkTestCase {
+
+    private ValueStack vs;
+    private OgnlContext context;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        CompoundRootShapeCache.clear();
+        vs = ActionContext.getContext().getValueStack();
+        context = (OgnlContext) vs.getContext();
+    }
+
+    public void testObjectsWithoutPropertyAreSkipped() {
+        CompoundRoot root = new CompoundRoot();
+        root.add(new NameHolder());
+        root.add(new ValueHolder());
+
+        assertEquals(1, CompoundRootShapeCache.firstCandidate(context, root, "value", Lookup.GET));
+        assertEquals(0, CompoundRootShapeCache.firstCandidate(context, root, "name", Lookup.GET));
+        assertEquals(2, CompoundRootShapeCache.firstCandidate(context, root, "unknown", Lookup.GET));
+        assertEquals(3, CompoundRootShapeCache.size());
+
+        assertEquals(1, CompoundRootShapeCache.firstCandidate(context, root, "value", Lookup.GET));
+        assertEquals(3, CompoundRootShapeCache.size());
+    }
+
+    public void testMapsAreAlwaysCandidates() {
+        CompoundRoot root = new CompoundRoot();
+        root.add(new NameHolder());
+        root.add(new HashMap<String, String>());
+        root.add(new ValueHolder());
+
+        assertEquals(1, CompoundRootShapeCache.firstCandidate(context, root, "value", Lookup.GET));
+        assertEquals(1, CompoundRootShapeCache.firstCandidate(context, root, "value", Lookup.SET));
+        assertEquals(2, CompoundRootShapeCache.firstCandidate(context, root, "value", Lookup.TARGET));
+    }
+
+    public void testReadOnlyPropertyIsNotSetCandidate() {
+        CompoundRoot root = new CompoundRoot();
+        root.add(new ValueHolder());
+        root.add(new NameHolder());
+
+        assertEquals(0, CompoundRootShapeCache.firstCandidate(context, root, "readOnly", Lookup.GET));
+        assertEquals(2, CompoundRootShapeCache.firstCandidate(context, root, "readOnly", Lookup.SET));
+        assertEquals(1, CompoundRootShapeCache.firstCandidate(context, root, "name", Lookup.SET));
+    }
+
+    public void testStackLookupsUseTheFirstMatchingObject() {
+        Map<String, String> map = new HashMap<>();
+        vs.push(new ValueHolder());
+        vs.push(map);
+        vs.push(new NameHolder());
+
+        assertEquals("holder", vs.findValue("value"));
+
+        map.put("value", "map");
+        assertEquals("map", vs.findValue("value"));
+
+        vs.setValue("name", "changed");
+        assertEquals("changed", vs.findValue("name"));
+        vs.setValue("value", "set");
+        assertEquals("set", map.get("value"));
+    }
+
+    public static class NameHolder {
+        private String name = "name";
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+
+    public static class ValueHolder {
+        private String value = "holder";
+
+        public String getValue() {
+            return value;
+        }
+
+        public void setValue(String value) {
+            this.value = value;
+        }
+
+        public String getReadOnly() {
+            return "readOnly";
+        }
+    }
+}
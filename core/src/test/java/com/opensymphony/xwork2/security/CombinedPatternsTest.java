@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.opensymphony.xwork2.security;
+
+import junit.framework.TestCase;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+public class CombinedPatternsTest extends TestCase {
+
+    public void testMatchesSameValuesAsEachPattern() {
+        // given
+        Set<Pattern> patterns = compile(DefaultExcludedPatternsChecker.EXCLUDED_PATTERNS);
+        patterns.add(Pattern.compile("^(action|method):.*", Pattern.CASE_INSENSITIVE));
+        CombinedPatterns combined = new CombinedPatterns(patterns, false);
+
+        // when
+        String[] values = {
+            "name", "user.name", "%{#session.test}", "class.classLoader", "top['class']", "actionErrors",
+            "action:save", "METHOD:delete", "getClass()", "list[0].name", "Session.x", "", "a.b[1].class"
+        };
+
+        // then
+        assertTrue(combined.isCombined());
+        for (String value : values) {
+            Pattern expected = null;
+            for (Pattern pattern : patterns) {
+                if (pattern.matcher(value).matches()) {
+                    expected = pattern;
+                    break;
+                }
+            }
+            assertSame(value, expected, combined.findMatchingPattern(value));
+        }
+    }
+
+    public void testPatternsWithBackReferencesAreNotCombined() {
+        // given
+        Set<Pattern> patterns = compile("(a+)b\\1", "c+");
+        CombinedPatterns combined = new CombinedPatterns(patterns, false);
+
+        // then
+        assertFalse(combined.isCombined());
+        assertTrue(combined.matches("aabaa"));
+        assertFalse(combined.matches("aaba"));
+        assertTrue(combined.matches("ccc"));
+    }
+
+    public void testPatternsWithDifferentFlagsAreNotCombined() {
+        // given
+        Set<Pattern> patterns = new LinkedHashSet<>();
+        patterns.add(Pattern.compile("abc"));
+        patterns.add(Pattern.compile("def", Pattern.CASE_INSENSITIVE));
+        CombinedPatterns combined = new CombinedPatterns(patterns, false);
+
+        // then
+        assertFalse(combined.isCombined());
+        assertFalse(combined.matches("ABC"));
+        assertTrue(combined.matches("DEF"));
+    }
+
+    public void testDecisionsAreCached() {
+        // given
+        CombinedPatterns combined = new CombinedPatterns(compile("a+", "b+"), true);
+
+        // when
+        assertNotNull(combined.findMatchingPattern("aa"));
+        assertNull(combined.findMatchingPattern("cc"));
+        assertNotNull(combined.findMatchingPattern("aa"));
+
+        // then
+        assertEquals(2, combined.getCachedDecisionsCount());
+    }
+
+    public void testLongValuesAreNotCached() {
+        // given
+        CombinedPatterns combined = new CombinedPatterns(compile("a+", "b+"), true);
+        char[] chars = new char[CombinedPatterns.MAX_CACHED_VALUE_LENGTH + 1];
+        Arrays.fill(chars, 'a');
+
+        // when
+        assertTrue(combined.matches(new String(chars)));
+
+        // then
+        assertEquals(0, combined.getCachedDecisionsCount());
+    }
+
+    public void testCacheIsBounded() {
+        // given
+        CombinedPatterns combined = new CombinedPatterns(Collections.singleton(Pattern.compile("\\d+")), true);
+
+        // when
+        for (int i = 0; i < CombinedPatterns.MAX_CACHED_DECISIONS * 2; i++) {
+            assertTrue(combined.matches(String.valueOf(i)));
+        }
+
+        // then
+        assertTrue(combined.getCachedDecisionsCount() <= CombinedPatterns.MAX_CACHED_DECISIONS);
+    }
+
+    private Set<Pattern> compile(String... patterns) {
+        Set<Pattern> result = new LinkedHashSet<>();
+        for (String pattern : patterns) {
+            result.add(Pattern.compile(pattern, Pattern.CASE_INSENSITIVE));
+        }
+        return result;
+    }
+}
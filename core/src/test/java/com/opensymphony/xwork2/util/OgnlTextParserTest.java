@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.opensymphony.xwork2.util;
+
+import junit.framework.TestCase;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+public class OgnlTextParserTest extends TestCase {
+
+    private static final String[] PARTS = {
+        "a", "/", "{", "}", "$", "%", "${a}", "%{a}", "${b}", "%{n}", "${e}", "${d}", "%{p}", "${o}", "${{x}}", "${"
+    };
+
+    private final Map<String, Object> values = new HashMap<>();
+    private final List<String> evaluated = new ArrayList<>();
+    private final TextParseUtil.ParsedValueEvaluator evaluator = parsedValue -> {
+        evaluated.add(parsedValue);
+        return values.get(parsedValue);
+    };
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        values.put("a", "A");
+        values.put("b", 42);
+        values.put("e", "");
+        values.put("d", "$");
+        values.put("p", "%{a}");
+        values.put("o", "{x}");
+        values.put("{x}", "X");
+    }
+
+    public void testSameResultsAsScanningTheExpression() {
+        OgnlTextParser parser = new OgnlTextParser();
+        Random random = new Random(7);
+        char[][] openChars = {{'$'}, {'%'}, {'$', '%'}, {'%', '$'}};
+
+        for (int i = 0; i < 20000; i++) {
+            StringBuilder builder = new StringBuilder();
+            int parts = random.nextInt(6);
+            for (int j = 0; j < parts; j++) {
+                builder.append(PARTS[random.nextInt(PARTS.length)]);
+            }
+            String expression = builder.toString();
+            char[] open = openChars[random.nextInt(openChars.length)];
+            int maxLoopCount = random.nextInt(4) == 0 ? 2 : 1;
+
+            evaluated.clear();
+            Object expected = scan(open, expression, maxLoopCount);
+            List<String> expectedEvaluated = new ArrayList<>(evaluated);
+
+            for (int run = 0; run < 2; run++) {
+                evaluated.clear();
+                Object actual = parser.evaluate(open, expression, evaluator, maxLoopCount);
+                assertEquals(expression, expected, actual);
+                assertEquals(expression, expectedEvaluated, evaluated);
+            }
+        }
+    }
+
+    public void testTemplatesAreCached() {
+        OgnlTextParser parser = new OgnlTextParser();
+
+        assertEquals("/A/42.jsp", parser.evaluate(new char[]{'$'}, "/${a}/${b}.jsp", evaluator, 1));
+        assertEquals("/A/42.jsp", parser.evaluate(new char[]{'$'}, "/${a}/${b}.jsp", evaluator, 1));
+        assertEquals(42, parser.evaluate(new char[]{'$'}, "${b}", evaluator, 1));
+
+        assertEquals(2, parser.getCachedTemplatesCount());
+    }
+
+    public void testSingleExpressionShortcutIsSupported() {
+        assertTrue(new OgnlTextParser().supportsSingleExpressionShortcut());
+        assertFalse(((TextParser) (openChars, expression, evaluator, maxLoopCount) -> expression).supportsSingleExpressionShortcut());
+    }
+
+    /**
+     * The scanning algorithm used before templates were compiled
+     */
+    private Object scan(char[] openChars, String expression, int maxLoopCount) {
+        Object result = expression = (expression == null) ? "" : expression;
+        int pos = 0;
+
+        for (char open : openChars) {
+            int loopCount = 1;
+            final String lookupChars = open + "{";
+
+            while (true) {
+                int start = expression.indexOf(lookupChars, pos);
+                if (start == -1) {
+                    loopCount++;
+                    start = expression.indexOf(lookupChars);
+                }
+                if (loopCount > maxLoopCount) {
+                    break;
+                }
+                int length = expression.length();
+                int x = start + 2;
+                int end;
+                char c;
+                int count = 1;
+                while (start != -1 && x < length && count != 0) {
+                    c = expression.charAt(x++);
+                    if (c == '{') {
+                        count++;
+                    } else if (c == '}') {
+                        count--;
+                    }
+                }
+                end = x - 1;
+
+                if ((start != -1) && (end != -1) && (count == 0)) {
+                    String var = expression.substring(start + 2, end);
+
+                    Object o = evaluator.evaluate(var);
+
+                    String left = expression.substring(0, start);
+                    String right = expression.substring(end + 1);
+                    String middle = null;
+                    if (o != null) {
+                        middle = o.toString();
+                        if (StringUtils.isEmpty(left)) {
+                            result = o;
+                        } else {
+                            result = left.concat(middle);
+                        }
+
+                        if (StringUtils.isNotEmpty(right)) {
+                            result = result.toString().concat(right);
+                        }
+
+                        expression = left.concat(middle).concat(right);
+                    } else {
+                        expression = left.concat(right);
+                        result = expression;
+                    }
+                    pos = (left != null && left.length() > 0 ? left.length() - 1 : 0) +
+                            (middle != null && middle.length() > 0 ? middle.length() - 1 : 0) +
+                            1;
+                    pos = Math.max(pos, 1);
+                } else {
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+}
@@ -35,8 +35,10 @@ import org.apache.struts2.config.StrutsXmlConfigurationProvider;
 
 import java.text.DateFormat;
 import java.text.ParseException;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.ResourceBundle;
 
@@ -561,6 +563,133 @@ public class StrutsLocalizedTextProviderTest extends XWorkTestCase {
         assertEquals("Result of bean2.name lookup not as expected ?", "Okay! You found Me!", messageResult);
     }
 
+    public void testMessageLocationsAreCachedInDeepHierarchy() {
+        TestStrutsLocalizedTextProvider testStrutsLocalizedTextProvider = new TestStrutsLocalizedTextProvider();
+        assertEquals(0, testStrutsLocalizedTextProvider.getCachedMessageLocationsCount());
+
+        assertEquals("Foo!", testStrutsLocalizedTextProvider.findText(DeepBean.class, "test.foo", Locale.getDefault()));
+        assertEquals("It works!", testStrutsLocalizedTextProvider.findText(DeepBean.class, "package.properties", Locale.getDefault()));
+        assertEquals("missing.key", testStrutsLocalizedTextProvider.findText(DeepBean.class, "missing.key", Locale.getDefault()));
+        int cachedLocations = testStrutsLocalizedTextProvider.getCachedMessageLocationsCount();
+        assertTrue(cachedLocations > 0);
+
+        assertEquals("Foo!", testStrutsLocalizedTextProvider.findText(DeepBean.class, "test.foo", Locale.getDefault()));
+        assertEquals("It works!", testStrutsLocalizedTextProvider.findText(DeepBean.class, "package.properties", Locale.getDefault()));
+        assertEquals("missing.key", testStrutsLocalizedTextProvider.findText(DeepBean.class, "missing.key", Locale.getDefault()));
+        assertEquals(cachedLocations, testStrutsLocalizedTextProvider.getCachedMessageLocationsCount());
+
+        // the same messages are found as in the intermediate classes of the hierarchy
+        assertEquals("Foo!", testStrutsLocalizedTextProvider.findText(MiddleBean.class, "test.foo", Locale.getDefault()));
+        assertEquals("It works!", testStrutsLocalizedTextProvider.findText(TestBean2.class, "package.properties", Locale.getDefault()));
+    }
+
+    public void testMissingMessagesDoNotSearchHierarchiesAgain() {
+        TestStrutsLocalizedTextProvider testStrutsLocalizedTextProvider = new TestStrutsLocalizedTextProvider();
+
+        assertEquals("missingkey", testStrutsLocalizedTextProvider.findText(DeepBean.class, "missingkey", Locale.getDefault()));
+        int firstLookups = testStrutsLocalizedTextProvider.getFindResourceBundleCount();
+        assertTrue(firstLookups > 0);
+
+        testStrutsLocalizedTextProvider.resetFindResourceBundleCount();
+        assertEquals("missingkey", testStrutsLocalizedTextProvider.findText(DeepBean.class, "missingkey", Locale.getDefault()));
+        int secondLookups = testStrutsLocalizedTextProvider.getFindResourceBundleCount();
+
+        testStrutsLocalizedTextProvider.resetFindResourceBundleCount();
+        assertEquals("missingkey", testStrutsLocalizedTextProvider.findText(DeepBean.class, "missingkey", Locale.getDefault()));
+        assertEquals(secondLookups, testStrutsLocalizedTextProvider.getFindResourceBundleCount());
+
+        // neither the class hierarchy nor the package hierarchy is searched again, only the default bundles
+        assertTrue("Expected less than " + firstLookups + " lookups but was " + secondLookups, secondLookups < firstLookups);
+        for (String bundleName : testStrutsLocalizedTextProvider.getFoundBundleNames()) {
+            assertFalse(bundleName, bundleName.endsWith(".package"));
+            assertFalse(bundleName, bundleName.startsWith(TestBean2.class.getName()));
+        }
+    }
+
+    public void testMessageLocationsCacheIsClearedWithBundles() {
+        TestStrutsLocalizedTextProvider testStrutsLocalizedTextProvider = new TestStrutsLocalizedTextProvider();
+
+        assertEquals("Foo!", testStrutsLocalizedTextProvider.findText(DeepBean.class, "test.foo", Locale.getDefault()));
+        assertTrue(testStrutsLocalizedTextProvider.getCachedMessageLocationsCount() > 0);
+        testStrutsLocalizedTextProvider.callClearMissingBundlesCache();
+        assertEquals(0, testStrutsLocalizedTextProvider.getCachedMessageLocationsCount());
+
+        assertEquals("Foo!", testStrutsLocalizedTextProvider.findText(DeepBean.class, "test.foo", Locale.getDefault()));
+        assertTrue(testStrutsLocalizedTextProvider.getCachedMessageLocationsCount() > 0);
+        testStrutsLocalizedTextProvider.callReloadBundlesForceReload();
+        assertEquals(0, testStrutsLocalizedTextProvider.getCachedMessageLocationsCount());
+
+        assertEquals("Foo!", testStrutsLocalizedTextProvider.findText(DeepBean.class, "test.foo", Locale.getDefault()));
+        assertTrue(testStrutsLocalizedTextProvider.getCachedMessageLocationsCount() > 0);
+        testStrutsLocalizedTextProvider.callClearBundleWithLocale(TestBean2.class.getName(), Locale.getDefault());
+        assertEquals(0, testStrutsLocalizedTextProvider.getCachedMessageLocationsCount());
+    }
+
+    public void testMessageLocationsAreNotCachedWhenReloadingBundles() {
+        TestStrutsLocalizedTextProvider testStrutsLocalizedTextProvider = new TestStrutsLocalizedTextProvider();
+        testStrutsLocalizedTextProvider.setReloadBundles(Boolean.TRUE.toString());
+
+        assertEquals("Foo!", testStrutsLocalizedTextProvider.findText(DeepBean.class, "test.foo", Locale.getDefault()));
+        assertEquals("It works!", testStrutsLocalizedTextProvider.findText(DeepBean.class, "package.properties", Locale.getDefault()));
+        assertEquals(0, testStrutsLocalizedTextProvider.getCachedMessageLocationsCount());
+    }
+
+    public void testMessagesWithoutArgumentsAreNotFormatted() {
+        TestStrutsLocalizedTextProvider testStrutsLocalizedTextProvider = new TestStrutsLocalizedTextProvider();
+
+        assertEquals("Baz Field", testStrutsLocalizedTextProvider.findText(SimpleAction.class, "baz", Locale.ENGLISH));
+        assertEquals("Baz Field", testStrutsLocalizedTextProvider.findText(SimpleAction.class, "baz", Locale.ENGLISH, null, new Object[0]));
+        assertEquals(0, testStrutsLocalizedTextProvider.getMessageFormatCacheMisses());
+
+        // quotes must still be unescaped
+        assertEquals("I don't know German", testStrutsLocalizedTextProvider.findText(SimpleAction.class, "foo.range", Locale.GERMAN));
+        assertEquals(1, testStrutsLocalizedTextProvider.getMessageFormatCacheMisses());
+        assertEquals("I don't know German", testStrutsLocalizedTextProvider.findText(SimpleAction.class, "foo.range", Locale.GERMAN));
+        assertEquals(1, testStrutsLocalizedTextProvider.getMessageFormatCacheMisses());
+        assertEquals(1, testStrutsLocalizedTextProvider.getMessageFormatCacheHits());
+
+        // format elements must still be formatted
+        assertEquals("There is no Action mapped for action name AddUser.",
+                testStrutsLocalizedTextProvider.findDefaultText("xwork.exception.missing-action", Locale.getDefault(), new String[]{"AddUser"}));
+        assertEquals(2, testStrutsLocalizedTextProvider.getMessageFormatCacheMisses());
+    }
+
+    public void testBundleCacheCounters() {
+        TestStrutsLocalizedTextProvider testStrutsLocalizedTextProvider = new TestStrutsLocalizedTextProvider();
+        String bundleName = SimpleAction.class.getName();
+        String missingBundleName = "com.opensymphony.xwork2.util.MissingBundle";
+
+        assertNotNull(testStrutsLocalizedTextProvider.findResourceBundle(bundleName, Locale.ENGLISH));
+        assertEquals(0, testStrutsLocalizedTextProvider.getBundleCacheHits());
+        assertEquals(1, testStrutsLocalizedTextProvider.getBundleCacheMisses());
+        assertNotNull(testStrutsLocalizedTextProvider.findResourceBundle(bundleName, Locale.ENGLISH));
+        assertEquals(1, testStrutsLocalizedTextProvider.getBundleCacheHits());
+        assertEquals(1, testStrutsLocalizedTextProvider.getBundleCacheMisses());
+        assertEquals(0, testStrutsLocalizedTextProvider.getMissingBundleCacheHits());
+        assertEquals(2, testStrutsLocalizedTextProvider.getMissingBundleCacheMisses());
+
+        assertNull(testStrutsLocalizedTextProvider.findResourceBundle(missingBundleName, Locale.ENGLISH));
+        assertEquals(2, testStrutsLocalizedTextProvider.getBundleCacheMisses());
+        assertEquals(3, testStrutsLocalizedTextProvider.getMissingBundleCacheMisses());
+        assertNull(testStrutsLocalizedTextProvider.findResourceBundle(missingBundleName, Locale.ENGLISH));
+        assertEquals(2, testStrutsLocalizedTextProvider.getBundleCacheMisses());
+        assertEquals(1, testStrutsLocalizedTextProvider.getMissingBundleCacheHits());
+
+        // the same bundle name with another locale is another bundle
+        assertNotNull(testStrutsLocalizedTextProvider.findResourceBundle(bundleName, Locale.GERMAN));
+        assertEquals(3, testStrutsLocalizedTextProvider.getBundleCacheMisses());
+        assertEquals(2, testStrutsLocalizedTextProvider.currentBundlesMapSize());
+    }
+
+    private static class MiddleBean extends TestBean2 {
+    }
+
+    private static class DeeperBean extends MiddleBean {
+    }
+
+    private static class DeepBean extends DeeperBean {
+    }
+
     @Override
     protected void setUp() throws Exception {
         super.setUp();
@@ -609,6 +738,26 @@ public class StrutsLocalizedTextProviderTest extends XWorkTestCase {
             return super.bundlesMap.size();
         }
 
+        private final List<String> foundBundleNames = new ArrayList<>();
+
+        @Override
+        public ResourceBundle findResourceBundle(String aBundleName, Locale locale) {
+            foundBundleNames.add(aBundleName);
+            return super.findResourceBundle(aBundleName, locale);
+        }
+
+        public int getFindResourceBundleCount() {
+            return foundBundleNames.size();
+        }
+
+        public List<String> getFoundBundleNames() {
+            return foundBundleNames;
+        }
+
+        public void resetFindResourceBundleCount() {
+            foundBundleNames.clear();
+        }
+
         /**
          * Attempt to force the resource bundles to be reloaded, even if configuration would otherwise prevent it.
          * It will preserve the current reloadBundles state, attempt to force a reload and then restore the 
@@ -54,4 +54,13 @@ public class WildcardHelperTest extends XWorkTestCase {
 		assertEquals("location/of".equals(matchedPatterns.get("2")), true);
 	}
 
+	public void testLiteralPrefix() {
+		WildcardHelper wild = new WildcardHelper();
+
+		assertEquals("wes-rules", wild.literalPrefix("wes-rules"));
+		assertEquals("wes-", wild.literalPrefix("wes-*"));
+		assertEquals("path/", wild.literalPrefix("path/**/file"));
+		assertEquals("path", wild.literalPrefix("path\\*"));
+		assertEquals("", wild.literalPrefix("*_*"));
+	}
 }
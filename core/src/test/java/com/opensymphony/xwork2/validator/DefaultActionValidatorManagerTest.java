@@ -18,6 +18,7 @@
  */
 package com.opensymphony.xwork2.validator;
 
+import com.opensymphony.xwork2.ActionContext;
 import com.opensymphony.xwork2.FileManagerFactory;
 import com.opensymphony.xwork2.SimpleAction;
 import com.opensymphony.xwork2.TestBean;
@@ -27,6 +28,7 @@ import com.opensymphony.xwork2.interceptor.ValidationAware;
 import com.opensymphony.xwork2.test.DataAware2;
 import com.opensymphony.xwork2.test.SimpleAction3;
 import com.opensymphony.xwork2.test.User;
+import com.opensymphony.xwork2.util.ValueStackFactory;
 import com.opensymphony.xwork2.validator.validators.DateRangeFieldValidator;
 import com.opensymphony.xwork2.validator.validators.DoubleRangeFieldValidator;
 import com.opensymphony.xwork2.validator.validators.ExpressionValidator;
@@ -42,6 +44,11 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -374,4 +381,57 @@ public class DefaultActionValidatorManagerTest extends XWorkTestCase {
         assertEquals((e.getValue()).get(0), "password hint is required");
     }
 
+    public void testValidatorPlanIsCached() {
+        List<ValidatorConfig> plan = actionValidatorManager.getValidatorPlan(SimpleAction.class, alias, null);
+
+        assertSame(plan, actionValidatorManager.getValidatorPlan(SimpleAction.class, alias, null));
+        assertThatThrownBy(() -> plan.add(plan.get(0))).isInstanceOf(UnsupportedOperationException.class);
+        assertThat(actionValidatorManager.getValidatorPlan(SimpleAction.class, alias, "unknownMethod")).isEmpty();
+
+        List<Validator> first = actionValidatorManager.getValidators(SimpleAction.class, alias);
+        List<Validator> second = actionValidatorManager.getValidators(SimpleAction.class, alias);
+        assertEquals(plan.size(), first.size());
+        assertNotSame("validators hold per request state and must not be shared", first.get(0), second.get(0));
+    }
+
+    public void testValidatorPlanCacheIsBounded() {
+        for (int i = 0; i <= DefaultActionValidatorManager.MAX_VALIDATOR_PLANS; i++) {
+            actionValidatorManager.getValidatorPlan(SimpleAction.class, alias, "method" + i);
+        }
+
+        assertThat(actionValidatorManager.validatorPlanCache.size()).isLessThanOrEqualTo(DefaultActionValidatorManager.MAX_VALIDATOR_PLANS);
+    }
+
+    public void testConcurrentGetValidators() throws Exception {
+        final int threads = 16;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Future<Integer>> results = new ArrayList<>();
+
+        for (int i = 0; i < threads; i++) {
+            results.add(executor.submit(() -> {
+                ActionContext.of()
+                    .withContainer(container)
+                    .withValueStack(container.getInstance(ValueStackFactory.class).createValueStack())
+                    .bind();
+                try {
+                    start.await();
+                    int size = 0;
+                    for (int j = 0; j < 10; j++) {
+                        size = actionValidatorManager.getValidators(SimpleAction.class, alias).size();
+                    }
+                    return size;
+                } finally {
+                    ActionContext.clear();
+                }
+            }));
+        }
+
+        start.countDown();
+        for (Future<Integer> result : results) {
+            assertEquals(11, result.get(60, TimeUnit.SECONDS).intValue());
+        }
+        executor.shutdown();
+    }
+
 }
@@ -391,4 +391,53 @@ public class UIBeanTest extends StrutsInternalTestCase {
         assertEquals("/content", field.uiStaticContentPath);
     }
 
+    public void testEvaluateParamsWithCompiledAttributes() {
+        ValueStack stack = ActionContext.getContext().getValueStack();
+        stack.getContext().put("cls", "danger");
+        MockHttpServletRequest req = new MockHttpServletRequest();
+        MockHttpServletResponse res = new MockHttpServletResponse();
+
+        TextField injected = new TextField(stack, req, res);
+        container.inject(injected);
+        TextField notInjected = new TextField(stack, req, res);
+        notInjected.setDefaultUITheme("xhtml");
+        notInjected.setDefaultTemplateDir("template");
+        notInjected.setUIThemeExpansionToken("~~~");
+        notInjected.setStaticContentPath("/static");
+        notInjected.setNotExcludedAcceptedPatterns(NO_EXCLUSION_ACCEPT_ALL_PATTERNS_CHECKER);
+
+        for (TextField field : new TextField[]{injected, notInjected}) {
+            field.setName("field");
+            field.setLabel("Label");
+            field.setCssClass("%{#cls}");
+            field.setOnclick("alert('%{#cls}')");
+            field.setTitle("%{#missing}");
+            field.setDisabled("true");
+            field.setRequiredLabel("%{#missingRequired}");
+
+            field.evaluateParams();
+
+            Map<String, Object> params = field.getParameters();
+            assertEquals("Label", params.get("label"));
+            assertEquals("danger", params.get("cssClass"));
+            assertEquals("alert('danger')", params.get("onclick"));
+            assertEquals("", params.get("title"));
+            assertEquals(Boolean.TRUE, params.get("disabled"));
+            assertEquals(Boolean.FALSE, params.get("required"));
+            assertFalse(params.containsKey("tabindex"));
+        }
+    }
+
+    public void testCompiledAttributeKinds() {
+        assertEquals(CompiledAttribute.Kind.LITERAL, CompiledAttribute.of("literal").getKind());
+        assertEquals(CompiledAttribute.Kind.LITERAL, CompiledAttribute.of("{not} an expression}").getKind());
+        assertEquals(CompiledAttribute.Kind.EXPRESSION, CompiledAttribute.of("%{foo}").getKind());
+        assertEquals("foo.bar({'a'})", CompiledAttribute.of("%{foo.bar({'a'})}").getExpression());
+        assertEquals(CompiledAttribute.Kind.TEMPLATE, CompiledAttribute.of("%{foo} and %{bar}").getKind());
+        assertEquals(CompiledAttribute.Kind.TEMPLATE, CompiledAttribute.of("text %{foo}").getKind());
+        assertEquals(Boolean.FALSE, CompiledAttribute.of("false").getBooleanLiteral());
+        assertNull(CompiledAttribute.of("%{false}").getBooleanLiteral());
+        assertSame(CompiledAttribute.of("%{foo}"), CompiledAttribute.of("%{foo}"));
+    }
+
 }
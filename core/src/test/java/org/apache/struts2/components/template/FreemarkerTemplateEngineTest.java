@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.components.template;
+
+import freemarker.cache.TemplateLoader;
+import freemarker.template.Configuration;
+import org.apache.struts2.views.freemarker.FreemarkerManager;
+import org.apache.struts2.views.jsp.AbstractUITagTest;
+import org.apache.struts2.views.jsp.ui.HiddenTag;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class FreemarkerTemplateEngineTest extends AbstractUITagTest {
+
+    public void testTemplateModelIsSharedByTagsOfRequest() throws Exception {
+        renderHidden("first", null, null);
+        Object model = request.getAttribute(FreemarkerManager.ATTR_TEMPLATE_MODEL);
+        assertNotNull(model);
+
+        renderHidden("second", null, null);
+
+        assertSame(model, request.getAttribute(FreemarkerManager.ATTR_TEMPLATE_MODEL));
+        String output = writer.toString();
+        assertTrue(output, output.contains("name=\"first\""));
+        assertTrue(output, output.contains("name=\"second\""));
+    }
+
+    public void testTemplateResolvedFromParentThemeIsReused() throws Exception {
+        renderHidden("first", "css_xhtml", null);
+        String first = writer.toString();
+        writer.getBuffer().setLength(0);
+
+        renderHidden("first", "css_xhtml", null);
+
+        assertEquals(first, writer.toString());
+        assertTrue(first, first.contains("type=\"hidden\""));
+    }
+
+    public void testMissingTemplateIsReportedEachTime() throws Exception {
+        String firstError = null;
+        for (int i = 0; i < 2; i++) {
+            try {
+                renderHidden("missing", "simple", "missing-template");
+                fail("Missing template should be reported");
+            } catch (Exception e) {
+                assertTrue(e.toString(), e.toString().contains("missing-template"));
+                if (firstError == null) {
+                    firstError = e.toString();
+                } else {
+                    assertEquals(firstError, e.toString());
+                }
+            }
+        }
+    }
+
+    public void testTemplateNotReadableIsNotCachedAsMissing() throws Exception {
+        FreemarkerManager freemarkerManager = container.getInstance(FreemarkerManager.class);
+        Configuration configuration = freemarkerManager.getConfiguration(servletContext);
+        TemplateLoader templateLoader = configuration.getTemplateLoader();
+        AtomicBoolean failing = new AtomicBoolean(true);
+        configuration.setTemplateLoader(new TemplateLoader() {
+            @Override
+            public Object findTemplateSource(String name) throws IOException {
+                if (failing.get() && name.contains("hidden")) {
+                    throw new IOException("Cannot read " + name);
+                }
+                return templateLoader.findTemplateSource(name);
+            }
+
+            @Override
+            public long getLastModified(Object templateSource) {
+                return templateLoader.getLastModified(templateSource);
+            }
+
+            @Override
+            public Reader getReader(Object templateSource, String encoding) throws IOException {
+                return templateLoader.getReader(templateSource, encoding);
+            }
+
+            @Override
+            public void closeTemplateSource(Object templateSource) throws IOException {
+                templateLoader.closeTemplateSource(templateSource);
+            }
+        });
+
+        try {
+            renderHidden("first", "simple", null);
+            fail("Unreadable template should be reported");
+        } catch (Exception e) {
+            assertTrue(e.toString(), e.toString().contains("Cannot read"));
+        }
+
+        failing.set(false);
+        configuration.clearTemplateCache();
+        renderHidden("first", "simple", null);
+
+        assertTrue(writer.toString(), writer.toString().contains("type=\"hidden\""));
+    }
+
+    private void renderHidden(String name, String theme, String template) throws Exception {
+        HiddenTag tag = new HiddenTag();
+        tag.setPageContext(pageContext);
+        tag.setName(name);
+        if (theme != null) {
+            tag.setTheme(theme);
+        }
+        if (template != null) {
+            tag.setTemplate(template);
+        }
+        tag.doStartTag();
+        tag.doEndTag();
+    }
+}
@@ -18,10 +18,16 @@
  */
 package org.apache.struts2.dispatcher;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import org.apache.struts2.StrutsInternalTestCase;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import static org.easymock.EasyMock.createMock;
@@ -131,6 +137,112 @@ public class DefaultStaticContentLoaderTest extends StrutsInternalTestCase {
         assertEquals("/content", loader.uiStaticContentPath);
     }
 
+    public void testCachedResourceIsNotModifiedForSameETag() throws Exception {
+        // given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        defaultStaticContentLoader.findStaticResource("/static/utils.js", new MockHttpServletRequest(), response);
+        String etag = response.getHeader("ETag");
+
+        // when
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("If-None-Match", etag);
+        MockHttpServletResponse notModified = new MockHttpServletResponse();
+        defaultStaticContentLoader.findStaticResource("/static/utils.js", request, notModified);
+
+        // then
+        assertEquals(HttpServletResponse.SC_OK, response.getStatus());
+        assertNotNull(etag);
+        assertTrue(Arrays.equals(readResource("org/apache/struts2/static/utils.js"), response.getContentAsByteArray()));
+        assertEquals("text/javascript", response.getContentType());
+
+        assertEquals(HttpServletResponse.SC_NOT_MODIFIED, notModified.getStatus());
+        assertEquals(etag, notModified.getHeader("ETag"));
+        assertEquals(0, notModified.getContentAsByteArray().length);
+    }
+
+    public void testCachedResourceIsSentForOtherETag() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("If-None-Match", "\"other\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        defaultStaticContentLoader.findStaticResource("/static/utils.js", request, response);
+
+        // then
+        assertEquals(HttpServletResponse.SC_OK, response.getStatus());
+        assertTrue(Arrays.equals(readResource("org/apache/struts2/static/utils.js"), response.getContentAsByteArray()));
+    }
+
+    public void testCachedResourceIsGzipped() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Accept-Encoding", "deflate, gzip;q=0.8");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        defaultStaticContentLoader.findStaticResource("/static/domTT.js", request, response);
+
+        // then
+        assertEquals("gzip", response.getHeader("Content-Encoding"));
+        assertEquals("Accept-Encoding", response.getHeader("Vary"));
+        assertTrue(response.getHeader("ETag").endsWith("-gzip\""));
+        byte[] content;
+        try (InputStream gzip = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            content = gzip.readAllBytes();
+        }
+        assertTrue(Arrays.equals(readResource("org/apache/struts2/static/domTT.js"), content));
+    }
+
+    public void testGzipIsNotSentWhenRefused() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Accept-Encoding", "gzip;q=0");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        defaultStaticContentLoader.findStaticResource("/static/domTT.js", request, response);
+
+        // then
+        assertNull(response.getHeader("Content-Encoding"));
+        assertTrue(Arrays.equals(readResource("org/apache/struts2/static/domTT.js"), response.getContentAsByteArray()));
+    }
+
+    public void testBinaryResourceIsNotGzipped() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Accept-Encoding", "gzip");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        defaultStaticContentLoader.findStaticResource("/static/tooltip.gif", request, response);
+
+        // then
+        assertNull(response.getHeader("Content-Encoding"));
+        assertNotNull(response.getHeader("ETag"));
+        assertTrue(Arrays.equals(readResource("org/apache/struts2/static/tooltip.gif"), response.getContentAsByteArray()));
+    }
+
+    public void testResourceIsNotCachedInDevMode() throws Exception {
+        // given
+        defaultStaticContentLoader.setDevMode("true");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        defaultStaticContentLoader.findStaticResource("/static/utils.js", new MockHttpServletRequest(), response);
+
+        // then
+        assertEquals(HttpServletResponse.SC_OK, response.getStatus());
+        assertNull(response.getHeader("ETag"));
+        assertTrue(Arrays.equals(readResource("org/apache/struts2/static/utils.js"), response.getContentAsByteArray()));
+    }
+
+    private byte[] readResource(String name) throws IOException {
+        try (InputStream is = getClass().getClassLoader().getResourceAsStream(name)) {
+            return is.readAllBytes();
+        }
+    }
+
     protected void setUp() throws Exception {
         super.setUp();
         requestMock = createMock(HttpServletRequest.class);
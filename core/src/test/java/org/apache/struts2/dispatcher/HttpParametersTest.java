@@ -20,10 +20,17 @@ package org.apache.struts2.dispatcher;
 
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Set;
+import java.util.TreeSet;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 public class HttpParametersTest {
@@ -75,4 +82,100 @@ public class HttpParametersTest {
         assertEquals("Value1", params.get("Param1").getValue());
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldNotShareModificationsWithParent() {
+        // given
+        HttpParameters parent = HttpParameters.create(new HashMap<String, Object>() {{
+            put("param1", "value1");
+            put("param2", "value2");
+        }}).build();
+        HttpParameters child = HttpParameters.create().withParent(parent).build();
+
+        // when
+        child.remove("param1");
+        parent.appendAll(HttpParameters.create(new HashMap<String, Object>() {{
+            put("param3", "value3");
+        }}).build());
+
+        // then
+        assertFalse(child.contains("param1"));
+        assertTrue(child.contains("param2"));
+        assertFalse(child.contains("param3"));
+
+        assertTrue(parent.contains("param1"));
+        assertTrue(parent.contains("param2"));
+        assertTrue(parent.contains("param3"));
+    }
+
+    @Test
+    public void shouldNotShareModificationsWithChild() {
+        // given
+        HttpParameters parent = HttpParameters.create(new HashMap<String, Object>() {{
+            put("param1", "value1");
+        }}).build();
+        HttpParameters child = HttpParameters.create().withParent(parent).build();
+
+        // when
+        parent.remove("param1");
+
+        // then
+        assertFalse(parent.contains("param1"));
+        assertTrue(child.contains("param1"));
+        assertEquals("value1", child.get("param1").getValue());
+    }
+
+    @Test
+    public void shouldNotChangeWhenRequestMapChanges() {
+        // given
+        HashMap<String, Object> requestParams = new HashMap<>();
+        requestParams.put("param1", "value1");
+        HttpParameters params = HttpParameters.create(requestParams).build();
+
+        // when
+        requestParams.put("param2", "value2");
+
+        // then
+        assertTrue(params.contains("param1"));
+        assertFalse(params.contains("param2"));
+    }
+
+    @Test
+    public void shouldReuseKeySetUntilModified() {
+        // given
+        HttpParameters params = HttpParameters.create(new HashMap<String, Object>() {{
+            put("param2", "value2");
+            put("Param1", "value1");
+        }}).build();
+
+        // when
+        Set<String> keySet = params.keySet();
+
+        // then
+        assertSame(keySet, params.keySet());
+        assertEquals(new TreeSet<>(Arrays.asList("Param1", "param2")), keySet);
+        assertTrue(keySet.contains("Param1"));
+        assertFalse(keySet.contains("param1"));
+
+        params.remove("param2");
+        assertNotSame(keySet, params.keySet());
+        assertEquals(Collections.singleton("Param1"), params.keySet());
+    }
+
+    @Test
+    public void shouldConvertRequestValuesOnce() {
+        // given
+        Parameter parameter = HttpParameters.create(new HashMap<String, Object>() {{
+            put("param1", new String[]{"value1", "value2"});
+        }}).build().get("param1");
+
+        // when
+        String[] values = parameter.getMultipleValues();
+        values[0] = "changed";
+
+        // then
+        assertEquals("value1", parameter.getValue());
+        assertTrue(parameter.isMultiple());
+        assertArrayEquals(new String[]{"value1", "value2"}, parameter.getMultipleValues());
+    }
+
+}
@@ -24,11 +24,16 @@ import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
 
 import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpSession;
 
 import junit.framework.TestCase;
 
@@ -277,6 +282,88 @@ public class SessionMapTest extends TestCase {
         sessionMock.verify();
     }
 
+    public void testSessionLockIsSharedBySessionId() {
+        MockHttpSession session = new MockHttpSession();
+
+        assertSame(SessionLocks.lockFor(session), SessionLocks.lockFor(new String(session.getId())));
+    }
+
+    public void testInvocationLockIsStoredInSession() {
+        MockHttpSession session = new MockHttpSession();
+        MockHttpSession otherSession = new MockHttpSession();
+
+        Object lock = SessionLocks.invocationLockFor(session);
+
+        assertSame(lock, SessionLocks.invocationLockFor(session));
+        assertSame(lock, session.getAttribute(SessionLocks.INVOCATION_LOCK_ATTRIBUTE));
+        assertNotSame(lock, SessionLocks.invocationLockFor(otherSession));
+        assertNotSame(lock, SessionLocks.lockFor(session));
+    }
+
+    public void testInvocationLockIsHiddenFromSessionMap() {
+        MockHttpSession session = new MockHttpSession();
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setSession(session);
+        Object lock = SessionLocks.invocationLockFor(session);
+        SessionMap sessionMap = new SessionMap(request);
+        sessionMap.put("KEY", "VALUE");
+
+        assertEquals(Collections.singleton("KEY"), sessionMap.keySet());
+        assertEquals(1, sessionMap.entrySet().size());
+
+        sessionMap.clear();
+
+        assertTrue(sessionMap.isEmpty());
+        assertNull(session.getAttribute("KEY"));
+        assertSame(lock, SessionLocks.invocationLockFor(session));
+    }
+
+    public void testConcurrentTabsOfSameSession() throws Exception {
+        final int sessions = 4;
+        final int tabsPerSession = 8;
+        final int iterations = 200;
+
+        List<MockHttpSession> httpSessions = new ArrayList<>();
+        for (int i = 0; i < sessions; i++) {
+            httpSessions.add(new MockHttpSession());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(sessions * tabsPerSession);
+        List<Future<?>> futures = new ArrayList<>();
+        for (final MockHttpSession session : httpSessions) {
+            for (int tab = 0; tab < tabsPerSession; tab++) {
+                final String key = "tab" + tab;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < iterations; i++) {
+                        // each request of a tab wraps the session into a new map
+                        MockHttpServletRequest request = new MockHttpServletRequest();
+                        request.setSession(session);
+                        SessionMap sessionMap = new SessionMap(request);
+
+                        sessionMap.put(key, i);
+                        assertEquals(i, sessionMap.get(key));
+                        assertTrue(sessionMap.containsKey(key));
+                        assertFalse(sessionMap.entrySet().isEmpty());
+                        sessionMap.put("shared", key);
+                        sessionMap.remove(key + "-missing");
+                    }
+                    return null;
+                }));
+            }
+        }
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        for (MockHttpSession session : httpSessions) {
+            for (int tab = 0; tab < tabsPerSession; tab++) {
+                assertEquals(iterations - 1, session.getAttribute("tab" + tab));
+            }
+            assertNotNull(session.getAttribute("shared"));
+        }
+    }
+
     @Override
     protected void setUp() throws Exception {
         sessionMock = new Mock(HttpSession.class);
@@ -159,6 +159,31 @@ public class DefaultActionMapperTest extends StrutsInternalTestCase {
     }
 
 
+    public void testGetMappingUsingNamespaceIndex() {
+        ActionConfig actionConfig = new ActionConfig.Builder("myns", "actionName", "foo.bar.Action").methodName("list").build();
+        configuration.addPackageConfig("myns", new PackageConfig.Builder("myns")
+            .namespace("/my/namespace").addActionConfig("actionName", actionConfig).build());
+        configuration.addPackageConfig("my", new PackageConfig.Builder("my").namespace("/my").build());
+        configuration.rebuildRuntimeConfiguration();
+        assertNotNull(configuration.getRuntimeConfiguration().getNamespaceIndex());
+
+        req.setRequestURI("/my/namespace/actionName.action");
+        req.setServletPath("/my/namespace/actionName.action");
+        ActionMapping mapping = new DefaultActionMapper().getMapping(req, configurationManager);
+
+        assertEquals("/my/namespace", mapping.getNamespace());
+        assertEquals("actionName", mapping.getName());
+        assertEquals("list", mapping.getMethod());
+
+        req.setRequestURI("/my/name/otherAction.action");
+        req.setServletPath("/my/name/otherAction.action");
+        mapping = new DefaultActionMapper().getMapping(req, configurationManager);
+
+        assertEquals("/my", mapping.getNamespace());
+        assertEquals("otherAction", mapping.getName());
+        assertNull(mapping.getMethod());
+    }
+
     public void testGetMappingWithNamespaceSlash() {
 
         req.setRequestURI("/my-hh/abc.action");
@@ -18,13 +18,19 @@
  */
 package org.apache.struts2.dispatcher.multipart;
 
+import org.apache.commons.fileupload2.core.FileItemInput;
 import org.apache.commons.fileupload2.jakarta.servlet6.JakartaServletDiskFileUpload;
 import org.apache.struts2.dispatcher.LocalizedMessage;
 import org.assertj.core.api.InstanceOfAssertFactories;
 import org.junit.Test;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -71,4 +77,84 @@ public class JakartaStreamMultiPartRequestTest extends AbstractMultiPartRequestT
                 .containsExactly("struts.messages.upload.error.FileUploadSizeException");
     }
 
+    @Test
+    public void largeFileIsStreamedToDisk() throws IOException {
+        // given
+        StringBuilder large = new StringBuilder();
+        for (int i = 0; large.length() < AbstractMultiPartRequest.BUFFER_SIZE * 10; i++) {
+            large.append(i).append(',');
+        }
+        String content = formFile("file1", "large.csv", large.toString()) +
+                endline + "--" + boundary + "--";
+
+        mockRequest.setContent(content.getBytes(StandardCharsets.UTF_8));
+
+        // when
+        multiPart.parse(mockRequest, tempDir);
+
+        // then
+        assertThat(multiPart.getFile("file1")).allSatisfy(file ->
+                assertThat(file.getContent())
+                        .asInstanceOf(InstanceOfAssertFactories.FILE)
+                        .content()
+                        .isEqualTo(large.toString()));
+        assertThat(((JakartaStreamMultiPartRequest) multiPart).actualSizeOfUploadedFiles())
+                .isEqualTo(large.length());
+    }
+
+    @Test
+    public void sizeOfUploadedFilesIsResetOnCleanUp() throws IOException {
+        // given
+        String content = formFile("file1", "test1.csv", "1,2,3,4") +
+                formFile("file2", "test2.csv", "5,6,7,8") +
+                endline + "--" + boundary + "--";
+
+        mockRequest.setContent(content.getBytes(StandardCharsets.UTF_8));
+        JakartaStreamMultiPartRequest streamMultiPart = (JakartaStreamMultiPartRequest) multiPart;
+
+        // when
+        streamMultiPart.parse(mockRequest, tempDir);
+
+        // then
+        assertThat(streamMultiPart.actualSizeOfUploadedFiles()).isEqualTo(14L);
+        streamMultiPart.cleanUp();
+        assertThat(streamMultiPart.actualSizeOfUploadedFiles()).isZero();
+    }
+
+    @Test
+    public void fileItemIsConsumedWithoutSavingIt() throws IOException {
+        // given
+        Map<String, String> consumed = new HashMap<>();
+        multiPart = new JakartaStreamMultiPartRequest() {
+            @Override
+            protected boolean consumeFileItem(FileItemInput fileItemInput, ReadableByteChannel channel) throws IOException {
+                if (!"file1".equals(fileItemInput.getFieldName())) {
+                    return false;
+                }
+                try (InputStream input = Channels.newInputStream(channel)) {
+                    consumed.put(fileItemInput.getName(), new String(input.readAllBytes(), StandardCharsets.UTF_8));
+                }
+                return true;
+            }
+        };
+        String content = formFile("file1", "test1.csv", "1,2,3,4") +
+                formFile("file2", "test2.csv", "5,6,7,8") +
+                endline + "--" + boundary + "--";
+
+        mockRequest.setContent(content.getBytes(StandardCharsets.UTF_8));
+
+        // when
+        multiPart.parse(mockRequest, tempDir);
+
+        // then
+        assertThat(consumed).containsEntry("test1.csv", "1,2,3,4").hasSize(1);
+        assertThat(multiPart.getFile("file1")).isEmpty();
+        assertThat(multiPart.getFile("file2")).allSatisfy(file ->
+                assertThat(file.getContent())
+                        .asInstanceOf(InstanceOfAssertFactories.FILE)
+                        .content()
+                        .isEqualTo("5,6,7,8"));
+        assertThat(multiPart.getErrors()).isEmpty();
+    }
+
 }
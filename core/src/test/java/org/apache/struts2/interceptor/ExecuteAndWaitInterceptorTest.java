@@ -184,6 +184,18 @@ public class ExecuteAndWaitInterceptorTest extends StrutsInternalTestCase {
         assertTrue("Job done already after 500 so there should not be such long delay", diff <= 1000);
     }
 
+    public void testWaitDelayEndsAsSoonAsJobIsDone() throws Exception {
+        waitInterceptor.setDelay(3000);
+        waitInterceptor.setDelaySleepInterval(2000); // the completion is signalled, no need to wake up to check it
+
+        ActionProxy proxy = buildProxy("action1");
+        long before = System.currentTimeMillis();
+        String result = proxy.execute();
+        long diff = System.currentTimeMillis() - before;
+        assertEquals("success", result);
+        assertTrue("Job done after 500 so the delay should end before the next check, but took " + diff, diff < 1500);
+    }
+
     public void testFromDeserializedSession() throws Exception {
         waitInterceptor.setDelay(0);
         waitInterceptor.setDelaySleepInterval(0);
@@ -103,7 +103,7 @@ public class StrutsBackgroundProcessTest extends StrutsInternalTestCase {
         Random random = new SecureRandom();
         AtomicInteger mutableState = new AtomicInteger(0);
         MockActionInvocationWithActionInvoker invocation = new MockActionInvocationWithActionInvoker(() -> {
-            Thread.sleep(Math.max(50, random.nextInt(150)));
+            Thread.sleep(Math.max(5, random.nextInt(15)));
             mutableState.getAndIncrement();
             return "done";
         });
@@ -116,7 +116,8 @@ public class StrutsBackgroundProcessTest extends StrutsInternalTestCase {
             executor.execute(bp);
         }
 
-        Thread.sleep(800);
+        // processes are executed one after another by the single thread executor
+        await().atMost(5, TimeUnit.SECONDS).until(() -> bps.stream().allMatch(BackgroundProcess::isDone));
 
         for (BackgroundProcess bp : bps) {
             assertTrue("Process is still active: " + bp, bp.isDone());
@@ -162,6 +163,45 @@ public class StrutsBackgroundProcessTest extends StrutsInternalTestCase {
         assertEquals("Background thread Unprepared has not been prepared!", bp.getException().getMessage());
     }
 
+    public void testWaitUntilDone() throws InterruptedException {
+        // given
+        MockActionInvocationWithActionInvoker invocation = new MockActionInvocationWithActionInvoker(() -> {
+            Thread.sleep(200);
+            return "done";
+        });
+        BackgroundProcess bp = new StrutsBackgroundProcess(invocation, "WaitUntilDone", Thread.NORM_PRIORITY).prepare();
+
+        // when
+        long before = System.currentTimeMillis();
+        executor.execute(bp);
+        boolean done = bp.waitUntilDone(5000);
+        long diff = System.currentTimeMillis() - before;
+
+        // then
+        assertTrue(done);
+        assertEquals("done", bp.getResult());
+        assertTrue("Waiting should end once the process is done, but took " + diff, diff < 2000);
+    }
+
+    public void testWaitUntilDoneTimesOut() throws InterruptedException {
+        // given
+        Semaphore lock = new Semaphore(0);
+        MockActionInvocationWithActionInvoker invocation = new MockActionInvocationWithActionInvoker(() -> {
+            lock.acquire();
+            return "done";
+        });
+        BackgroundProcess bp = new StrutsBackgroundProcess(invocation, "WaitUntilDoneTimesOut", Thread.NORM_PRIORITY).prepare();
+        executor.execute(bp);
+
+        // when
+        boolean done = bp.waitUntilDone(100);
+        lock.release();
+
+        // then
+        assertFalse(done);
+        assertTrue(bp.waitUntilDone(5000));
+    }
+
     private static class MockActionInvocationWithActionInvoker extends MockActionInvocation {
         private final Callable<String> actionInvoker;
 
@@ -0,0 +1,210 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.interceptor.exec;
+
+import com.opensymphony.xwork2.ActionContext;
+import com.opensymphony.xwork2.mock.MockActionInvocation;
+import org.apache.struts2.StrutsInternalTestCase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.awaitility.Awaitility.await;
+
+public class StrutsExecutorProviderTest extends StrutsInternalTestCase {
+
+    public void testDefaults() {
+        StrutsExecutorProvider provider = container.inject(StrutsExecutorProvider.class);
+        try {
+            assertEquals(StrutsExecutorProvider.UNLIMITED_CONCURRENT_TASKS, provider.getMaxConcurrentTasks());
+            assertFalse(provider.isVirtualThreads());
+            assertFalse(provider.isShutdown());
+        } finally {
+            provider.shutdown();
+        }
+        assertTrue(provider.isShutdown());
+        try {
+            provider.execute(() -> {
+            });
+            fail("RejectedExecutionException expected");
+        } catch (RejectedExecutionException e) {
+            // expected
+        }
+    }
+
+    public void testConcurrentTasksAreNotLimitedByDefault() {
+        // given
+        StrutsExecutorProvider provider = new StrutsExecutorProvider();
+        CountDownLatch release = new CountDownLatch(1);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            provider.execute(() -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+
+        // then
+        try {
+            await().atMost(5, TimeUnit.SECONDS).until(() -> provider.getActiveTasks() == 10);
+            assertEquals(0, provider.getQueuedTasks());
+        } finally {
+            release.countDown();
+        }
+        await().atMost(5, TimeUnit.SECONDS).until(() -> provider.getCompletedTasks() == 10);
+
+        provider.shutdown();
+    }
+
+    public void testConcurrentTasksAreLimited() throws InterruptedException {
+        // given
+        StrutsExecutorProvider provider = new StrutsExecutorProvider();
+        provider.setMaxConcurrentTasks("3");
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            provider.execute(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    running.decrementAndGet();
+                }
+            });
+        }
+
+        // then
+        try {
+            await().atMost(5, TimeUnit.SECONDS).until(() -> provider.getActiveTasks() == 3);
+            assertEquals(7, provider.getQueuedTasks());
+            assertEquals(10, provider.getSubmittedTasks());
+        } finally {
+            release.countDown();
+        }
+        await().atMost(5, TimeUnit.SECONDS).until(() -> provider.getCompletedTasks() == 10);
+        assertEquals(3, maxRunning.get());
+        assertEquals(0, provider.getQueuedTasks());
+
+        provider.shutdown();
+        assertTrue(provider.isShutdown());
+    }
+
+    public void testBackgroundProcessesAreLimited() {
+        // given
+        StrutsExecutorProvider provider = new StrutsExecutorProvider();
+        provider.setMaxConcurrentTasks("2");
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<String> threadNames = new CopyOnWriteArrayList<>();
+        List<BackgroundProcess> processes = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            MockActionInvocation invocation = new MockActionInvocation() {
+                @Override
+                public String invokeActionOnly() throws Exception {
+                    threadNames.add(Thread.currentThread().getName());
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    try {
+                        release.await();
+                    } finally {
+                        running.decrementAndGet();
+                    }
+                    return "done";
+                }
+            };
+            invocation.setInvocationContext(ActionContext.getContext());
+            BackgroundProcess process = new StrutsBackgroundProcess(invocation, "process-" + i, Thread.NORM_PRIORITY).prepare();
+            processes.add(process);
+            provider.execute(process);
+        }
+
+        // then
+        try {
+            await().atMost(5, TimeUnit.SECONDS).until(() -> provider.getActiveTasks() == 2);
+            assertEquals(3, provider.getQueuedTasks());
+            assertEquals(5, provider.getSubmittedTasks());
+            assertEquals(2, running.get());
+        } finally {
+            release.countDown();
+        }
+        await().atMost(5, TimeUnit.SECONDS).until(() -> provider.getCompletedTasks() == 5);
+        assertEquals(2, maxRunning.get());
+        assertEquals(0, provider.getActiveTasks());
+        assertEquals(0, provider.getQueuedTasks());
+        for (BackgroundProcess process : processes) {
+            assertTrue(process.isDone());
+            assertEquals("done", process.getResult());
+        }
+        // each process runs in a thread of the executor renamed after the process
+        assertEquals(5, threadNames.size());
+        for (String threadName : threadNames) {
+            assertTrue(threadName, threadName.startsWith("process-"));
+        }
+
+        provider.shutdown();
+    }
+
+    public void testVirtualThreadsWhenSupported() throws InterruptedException {
+        // given
+        StrutsExecutorProvider provider = new StrutsExecutorProvider();
+        provider.setVirtualThreads("true");
+        CountDownLatch done = new CountDownLatch(1);
+        String[] threadName = new String[1];
+
+        // when
+        provider.execute(() -> {
+            threadName[0] = Thread.currentThread().getName();
+            done.countDown();
+        });
+
+        // then
+        try {
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+            assertTrue(threadName[0].startsWith("struts-executor-"));
+            assertEquals(Runtime.version().feature() >= 21, provider.isVirtualThreads());
+        } finally {
+            provider.shutdown();
+        }
+    }
+
+    public void testInvalidMaxConcurrentTasks() {
+        try {
+            new StrutsExecutorProvider().setMaxConcurrentTasks("-1");
+            fail("IllegalArgumentException expected");
+        } catch (IllegalArgumentException e) {
+            assertEquals("Max concurrent tasks must not be negative but was: -1", e.getMessage());
+        }
+    }
+}
@@ -54,4 +54,19 @@ public interface JasperReportConstants {
      * RTF format constant
      */
     public static final String FORMAT_RTF = "RTF";
+
+    /**
+     * Virtualizer compressing the pages kept in memory
+     */
+    public static final String VIRTUALIZER_GZIP = "gzip";
+
+    /**
+     * Virtualizer storing the pages in one file per page
+     */
+    public static final String VIRTUALIZER_FILE = "file";
+
+    /**
+     * Virtualizer storing the pages in a single swap file
+     */
+    public static final String VIRTUALIZER_SWAP_FILE = "swapFile";
 }
@@ -19,6 +19,8 @@
 package org.apache.struts2.views.jasperreports;
 
 import com.opensymphony.xwork2.ActionInvocation;
+import com.opensymphony.xwork2.FileManager;
+import com.opensymphony.xwork2.FileManagerFactory;
 import com.opensymphony.xwork2.inject.Inject;
 import com.opensymphony.xwork2.security.NotExcludedAcceptedPatternsChecker;
 import com.opensymphony.xwork2.util.ValueStack;
@@ -26,6 +28,7 @@ import net.sf.jasperreports.engine.JRException;
 import net.sf.jasperreports.engine.JRExporter;
 import net.sf.jasperreports.engine.JRExporterParameter;
 import net.sf.jasperreports.engine.JRParameter;
+import net.sf.jasperreports.engine.JRVirtualizer;
 import net.sf.jasperreports.engine.JasperFillManager;
 import net.sf.jasperreports.engine.JasperPrint;
 import net.sf.jasperreports.engine.JasperReport;
@@ -37,7 +40,11 @@ import net.sf.jasperreports.engine.export.JRPdfExporter;
 import net.sf.jasperreports.engine.export.JRRtfExporter;
 import net.sf.jasperreports.engine.export.JRXlsExporter;
 import net.sf.jasperreports.engine.export.JRXmlExporter;
+import net.sf.jasperreports.engine.fill.JRFileVirtualizer;
+import net.sf.jasperreports.engine.fill.JRGzipVirtualizer;
+import net.sf.jasperreports.engine.fill.JRSwapFileVirtualizer;
 import net.sf.jasperreports.engine.util.JRLoader;
+import net.sf.jasperreports.engine.util.JRSwapFile;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -47,14 +54,16 @@ import jakarta.servlet.ServletContext;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
 import java.sql.Connection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * <!-- START SNIPPET: description -->
@@ -106,12 +115,23 @@ import java.util.TimeZone;
  * <li><b>wrapField</b> - (2.3.18+) defines if fields should warp with ValueStackDataSource
  * see https://issues.apache.org/jira/browse/WW-3698 for more details
  * </li>
+ * <li><b>virtualizer</b> - (7.0.0+) the virtualizer used to swap the filled pages out
+ * of memory when generating large reports, valid values can be found in {@link JasperReportConstants}.
+ * By default, no virtualizer is used. The virtualizer is ignored for HTML reports as they are kept in the session.
+ * </li>
+ * <li><b>virtualizerMaxSize</b> - (7.0.0+) the number of pages kept in memory by the virtualizer,
+ * 100 by default.
+ * </li>
  * </ul>
  * <p>
  * This result follows the same rules from {@link StrutsResultSupport}.
  * Specifically, all parameters will be parsed if the "parse" parameter
  * is not set to false.
  * </p>
+ * <p>
+ * The compiled reports are loaded once and cached, they are reloaded when the report file changes
+ * if reloading of configuration files is enabled. The report is exported directly to the response.
+ * </p>
  * <!-- END SNIPPET: params -->
  * <p><b>Example:</b></p>
  * <pre>
@@ -141,6 +161,12 @@ public class JasperReportsResult extends StrutsResultSupport implements JasperRe
 
     private static final Logger LOG = LogManager.getLogger(JasperReportsResult.class);
 
+    static final int MAX_CACHED_REPORTS = 100;
+
+    private static final int DEFAULT_VIRTUALIZER_MAX_SIZE = 100;
+
+    private static final Map<String, JasperReport> COMPILED_REPORTS = new ConcurrentHashMap<>();
+
     protected String dataSource;
     private String parsedDataSource;
     protected String format;
@@ -171,7 +197,14 @@ public class JasperReportsResult extends StrutsResultSupport implements JasperRe
     protected String exportParameters;
     private String parsedExportParameters;
 
+    /**
+     * Virtualizer used to keep memory bounded while filling large reports.
+     */
+    protected String virtualizer;
+    protected int virtualizerMaxSize = DEFAULT_VIRTUALIZER_MAX_SIZE;
+
     private NotExcludedAcceptedPatternsChecker notExcludedAcceptedPatterns;
+    private transient FileManager fileManager;
 
     /**
      * Default ctor.
@@ -194,6 +227,11 @@ public class JasperReportsResult extends StrutsResultSupport implements JasperRe
         this.notExcludedAcceptedPatterns = notExcludedAcceptedPatterns;
     }
 
+    @Inject
+    public void setFileManagerFactory(FileManagerFactory fileManagerFactory) {
+        this.fileManager = fileManagerFactory.getFileManager();
+    }
+
     public String getImageServletUrl() {
         return imageServletUrl;
     }
@@ -257,6 +295,22 @@ public class JasperReportsResult extends StrutsResultSupport implements JasperRe
         this.connection = connection;
     }
 
+    public String getVirtualizer() {
+        return virtualizer;
+    }
+
+    public void setVirtualizer(String virtualizer) {
+        this.virtualizer = virtualizer;
+    }
+
+    public int getVirtualizerMaxSize() {
+        return virtualizerMaxSize;
+    }
+
+    public void setVirtualizerMaxSize(int virtualizerMaxSize) {
+        this.virtualizerMaxSize = virtualizerMaxSize;
+    }
+
     protected void doExecute(String finalLocation, ActionInvocation invocation) throws Exception {
         // Will throw a runtime exception if no "datasource" property. TODO Best place for that is...?
         initializeProperties(invocation);
@@ -332,12 +386,17 @@ public class JasperReportsResult extends StrutsResultSupport implements JasperRe
             parameters.putAll(reportParams);
         }
 
-        ByteArrayOutputStream output;
+        JRVirtualizer reportVirtualizer = createVirtualizer();
+        if (reportVirtualizer != null) {
+            LOG.debug("Using {} virtualizer with max size {}", virtualizer, virtualizerMaxSize);
+            parameters.put(JRParameter.REPORT_VIRTUALIZER, reportVirtualizer);
+        }
+
         JasperPrint jasperPrint;
 
         // Fill the report and produce a print object
         try {
-            JasperReport jasperReport = (JasperReport) JRLoader.loadObject(new File(systemId));
+            JasperReport jasperReport = loadReport(systemId);
             if (conn == null) {
                 jasperPrint = JasperFillManager.fillReport(jasperReport, parameters, stackDataSource);
             } else {
@@ -345,6 +404,7 @@ public class JasperReportsResult extends StrutsResultSupport implements JasperRe
             }
         } catch (JRException e) {
             LOG.error("Error building report for uri {}", systemId, e);
+            cleanUpVirtualizer(reportVirtualizer);
             throw new ServletException(e.getMessage(), e);
         }
 
@@ -416,7 +476,8 @@ public class JasperReportsResult extends StrutsResultSupport implements JasperRe
                 exporter.getParameters().putAll(exportParams);
             }
 
-            output = exportReportToBytes(jasperPrint, exporter);
+            // Will throw ServletException on IOException.
+            exportReport(jasperPrint, exporter, response);
         } catch (JRException e) {
             LOG.error("Error producing {} report for uri {}", format, systemId, e);
             throw new ServletException(e.getMessage(), e);
@@ -429,27 +490,89 @@ public class JasperReportsResult extends StrutsResultSupport implements JasperRe
             } catch (Exception e) {
                 LOG.warn("Could not close db connection properly", e);
             }
+            cleanUpVirtualizer(reportVirtualizer);
+        }
+    }
+
+    /**
+     * Returns the compiled report from the cache, the report file is loaded again
+     * when it has been modified and reloading of configuration files is enabled.
+     *
+     * @param systemId the real path of the compiled report
+     * @return the compiled report
+     * @throws JRException if the report cannot be loaded
+     * @since 7.0.0
+     */
+    protected JasperReport loadReport(String systemId) throws JRException {
+        File reportFile = new File(systemId);
+        URL reportUrl;
+        try {
+            reportUrl = reportFile.toURI().toURL();
+        } catch (MalformedURLException e) {
+            LOG.debug("Cannot monitor report file {}, it won't be cached", systemId, e);
+            return (JasperReport) JRLoader.loadObject(reportFile);
         }
 
-        response.setContentLength(output.size());
-        // Will throw ServletException on IOException.
-        writeReport(response, output);
+        JasperReport jasperReport = COMPILED_REPORTS.get(systemId);
+        if (jasperReport == null || (fileManager != null && fileManager.fileNeedsReloading(reportUrl))) {
+            LOG.debug("Loading compiled report {}", systemId);
+            jasperReport = (JasperReport) JRLoader.loadObject(reportFile);
+            if (fileManager != null) {
+                fileManager.monitorFile(reportUrl);
+            }
+            if (COMPILED_REPORTS.size() >= MAX_CACHED_REPORTS) {
+                COMPILED_REPORTS.clear();
+            }
+            COMPILED_REPORTS.put(systemId, jasperReport);
+        }
+        return jasperReport;
+    }
+
+    static int getCachedReportsCount() {
+        return COMPILED_REPORTS.size();
+    }
+
+    static void clearCachedReports() {
+        COMPILED_REPORTS.clear();
     }
 
     /**
-     * Writes report bytes to response output stream.
+     * Creates the virtualizer defined by the {@link #virtualizer} parameter.
+     *
+     * No virtualizer is used for HTML reports, the report is kept in the session to render its images
+     * and its pages would outlive the virtualizer.
      *
-     * @param response Current response.
-     * @param output   Report bytes to write.
-     * @throws ServletException on stream IOException.
+     * @return the virtualizer or null if none is configured
+     * @throws ServletException if the virtualizer is unknown
+     * @since 7.0.0
      */
-    private void writeReport(HttpServletResponse response, ByteArrayOutputStream output) throws ServletException {
-        try (OutputStream outputStream = response.getOutputStream()) {
-            output.writeTo(outputStream);
-            outputStream.flush();
-        } catch (IOException e) {
-            LOG.error("Error writing report output", e);
-            throw new ServletException(e.getMessage(), e);
+    protected JRVirtualizer createVirtualizer() throws ServletException {
+        if (StringUtils.isEmpty(virtualizer)) {
+            return null;
+        }
+        if (FORMAT_HTML.equals(format)) {
+            LOG.debug("HTML report is kept in the session, {} virtualizer won't be used", virtualizer);
+            return null;
+        }
+        String directory = System.getProperty("java.io.tmpdir");
+        switch (virtualizer) {
+            case VIRTUALIZER_GZIP:
+                return new JRGzipVirtualizer(virtualizerMaxSize);
+            case VIRTUALIZER_FILE:
+                return new JRFileVirtualizer(virtualizerMaxSize, directory);
+            case VIRTUALIZER_SWAP_FILE:
+                return new JRSwapFileVirtualizer(virtualizerMaxSize, new JRSwapFile(directory, 4096, 100), true);
+            default:
+                throw new ServletException("Unknown report virtualizer: " + virtualizer);
+        }
+    }
+
+    /**
+     * Releases the resources used by the virtualizer, e.g. its temporary files.
+     */
+    private void cleanUpVirtualizer(JRVirtualizer reportVirtualizer) {
+        if (reportVirtualizer != null) {
+            reportVirtualizer.cleanup();
         }
     }
 
@@ -482,29 +605,37 @@ public class JasperReportsResult extends StrutsResultSupport implements JasperRe
             documentName = conditionalParse(documentName, invocation);
         }
 
+        if (virtualizer != null) {
+            virtualizer = conditionalParse(virtualizer, invocation);
+        }
+
         parsedReportParameters = conditionalParse(reportParameters, invocation);
         parsedExportParameters = conditionalParse(exportParameters, invocation);
     }
 
     /**
-     * Run a Jasper report to CSV format and put the results in a byte array
+     * Exports a Jasper report directly to the response output stream
      *
-     * @param jasperPrint The Print object to render as CSV
+     * @param jasperPrint The Print object to render
      * @param exporter    The exporter to use to export the report
-     * @return A CSV formatted report
+     * @param response    Current response
      * @throws net.sf.jasperreports.engine.JRException If there is a problem running the report
+     * @throws ServletException on stream IOException
      */
-    private ByteArrayOutputStream exportReportToBytes(JasperPrint jasperPrint, JRExporter exporter) throws JRException {
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-
+    private void exportReport(JasperPrint jasperPrint, JRExporter exporter, HttpServletResponse response) throws JRException, ServletException {
         exporter.setParameter(JRExporterParameter.JASPER_PRINT, jasperPrint);
-        exporter.setParameter(JRExporterParameter.OUTPUT_STREAM, baos);
         if (delimiter != null) {
             exporter.setParameter(JRCsvExporterParameter.FIELD_DELIMITER, delimiter);
         }
 
-        exporter.exportReport();
-        return baos;
+        try (OutputStream outputStream = response.getOutputStream()) {
+            exporter.setParameter(JRExporterParameter.OUTPUT_STREAM, outputStream);
+            exporter.exportReport();
+            outputStream.flush();
+        } catch (IOException e) {
+            LOG.error("Error writing report output", e);
+            throw new ServletException(e.getMessage(), e);
+        }
     }
 
     /**
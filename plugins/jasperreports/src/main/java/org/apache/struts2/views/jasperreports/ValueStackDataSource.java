@@ -26,7 +26,10 @@ import net.sf.jasperreports.engine.JRField;
 import net.sf.jasperreports.engine.JRRewindableDataSource;
 import org.apache.struts2.util.MakeIterator;
 
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Ported to Struts.
@@ -38,12 +41,20 @@ public class ValueStackDataSource implements JRRewindableDataSource {
      */
     private static Logger LOG = LogManager.getLogger(ValueStackDataSource.class);
 
+    /**
+     * Names resolved by OGNL against the map itself or evaluated as literals instead of map keys
+     */
+    private static final Set<String> NON_KEY_NAMES = Set.of("size", "isEmpty", "keys", "keySet", "values",
+            "true", "false", "null", "this", "new");
+
     private Iterator iterator;
     private ValueStack valueStack;
     private String dataSource;
     private boolean wrapField;
 
     private boolean firstTimeThrough = true;
+    private Object currentRow;
+    private final Map<String, Boolean> simpleNames = new HashMap<>();
 
     /**
      * Create a value stack data source on the given iterable property
@@ -91,7 +102,12 @@ public class ValueStackDataSource implements JRRewindableDataSource {
         //      this.
         String expression = field.getName();
 
-        Object value = valueStack.findValue(expression);
+        Object value;
+        if (isRowProperty(expression)) {
+            value = ((Map) currentRow).get(expression);
+        } else {
+            value = valueStack.findValue(expression);
+        }
         LOG.debug("Field [{}] = [{}]", field.getName(), value);
 
         if (!wrapField && MakeIterator.isIterable(value) && field.getValueClass().isInstance(value)) {
@@ -104,6 +120,35 @@ public class ValueStackDataSource implements JRRewindableDataSource {
         }
     }
 
+    /**
+     * Checks if the field is a key of the current row when it's a map, its value can then be read
+     * directly instead of evaluating the field name as an OGNL expression on the value stack,
+     * which would return the same value as the current row is on top of the stack.
+     */
+    private boolean isRowProperty(String expression) {
+        if (!(currentRow instanceof Map)) {
+            return false;
+        }
+        Boolean simpleName = simpleNames.get(expression);
+        if (simpleName == null) {
+            simpleName = isSimpleName(expression);
+            simpleNames.put(expression, simpleName);
+        }
+        return simpleName && ((Map) currentRow).containsKey(expression);
+    }
+
+    private static boolean isSimpleName(String expression) {
+        if (expression.isEmpty() || !Character.isJavaIdentifierStart(expression.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < expression.length(); i++) {
+            if (!Character.isJavaIdentifierPart(expression.charAt(i))) {
+                return false;
+            }
+        }
+        return !NON_KEY_NAMES.contains(expression);
+    }
+
     /**
      * Move to the first item.
      *
@@ -138,10 +183,12 @@ public class ValueStackDataSource implements JRRewindableDataSource {
             firstTimeThrough = false;
         } else {
             valueStack.pop();
+            currentRow = null;
         }
 
         if ((iterator != null) && (iterator.hasNext())) {
-            valueStack.push(iterator.next());
+            currentRow = iterator.next();
+            valueStack.push(currentRow);
             if (LOG.isDebugEnabled()) {
                 LOG.debug("Pushed next value: {}", valueStack.findValue("."));
             }
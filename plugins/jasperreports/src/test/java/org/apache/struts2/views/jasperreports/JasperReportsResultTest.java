@@ -24,6 +24,7 @@ import com.opensymphony.xwork2.security.NotExcludedAcceptedPatternsChecker;
 import com.opensymphony.xwork2.util.ClassLoaderUtil;
 import com.opensymphony.xwork2.util.ValueStack;
 import net.sf.jasperreports.engine.JasperCompileManager;
+import net.sf.jasperreports.engine.JasperReport;
 import org.apache.struts2.StrutsStatics;
 import org.apache.struts2.junit.StrutsTestCase;
 
@@ -218,6 +219,49 @@ public class JasperReportsResultTest extends StrutsTestCase {
         assertTrue(sb.toString().contains("Hello Qux Quux!"));
     }
 
+    public void testCompiledReportIsCached() throws Exception {
+        JasperReportsResult.clearCachedReports();
+        URL url = ClassLoaderUtil.getResource("org/apache/struts2/views/jasperreports/simple.jrxml.jasper", this.getClass());
+
+        JasperReport report = result.loadReport(url.getFile());
+
+        assertSame(report, result.loadReport(url.getFile()));
+        assertEquals(1, JasperReportsResult.getCachedReportsCount());
+    }
+
+    public void testReportIsStreamedWithVirtualizer() throws Exception {
+        result.setDataSource("{#{'firstName':'Qux', 'lastName':'Quux'}}");
+        result.setVirtualizer(JasperReportConstants.VIRTUALIZER_GZIP);
+
+        result.execute(this.invocation);
+
+        assertTrue(response.getContentAsString().contains("Hello Qux Quux!"));
+    }
+
+    public void testNoVirtualizerForHtmlReport() throws Exception {
+        result.setDataSource("{#{'firstName':'Qux', 'lastName':'Quux'}}");
+        result.setVirtualizer(JasperReportConstants.VIRTUALIZER_FILE);
+        result.setFormat(JasperReportConstants.FORMAT_HTML);
+
+        assertNull(result.createVirtualizer());
+
+        result.execute(this.invocation);
+
+        assertTrue(response.getContentAsString().contains("Hello Qux Quux!"));
+    }
+
+    public void testUnknownVirtualizer() throws Exception {
+        result.setDataSource("{#{'firstName':'Qux', 'lastName':'Quux'}}");
+        result.setVirtualizer("unknown");
+
+        try {
+            result.execute(this.invocation);
+            fail("ServletException expected");
+        } catch (ServletException e) {
+            assertEquals("Unknown report virtualizer: unknown", e.getMessage());
+        }
+    }
+
     @Override
     protected void setUp() throws Exception {
         super.setUp();
@@ -32,17 +32,27 @@ import java.beans.BeanInfo;
 import java.beans.IntrospectionException;
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Array;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.text.CharacterIterator;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.text.StringCharacterIterator;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Stack;
@@ -64,8 +74,14 @@ public class DefaultJSONWriter implements JSONWriter {
 
     private static final ConcurrentMap<Class<?>, BeanInfo> BEAN_INFO_CACHE_IGNORE_HIERARCHY = new ConcurrentHashMap<>();
     private static final ConcurrentMap<Class<?>, BeanInfo> BEAN_INFO_CACHE = new ConcurrentHashMap<>();
+    // plans depend on the overridable exclusion and accessor hooks, so they are cached per writer class
+    private static final ConcurrentMap<Class<?>, ConcurrentMap<Class<?>, BeanPlan>> BEAN_PLAN_CACHE_IGNORE_HIERARCHY = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<Class<?>, ConcurrentMap<Class<?>, BeanPlan>> BEAN_PLAN_CACHE = new ConcurrentHashMap<>();
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
 
     private StringBuilder buf = new StringBuilder();
+    private Appendable out = buf;
     private Stack<Object> stack = new Stack<>();
     private boolean ignoreHierarchy = true;
     private Object root;
@@ -77,6 +93,7 @@ public class DefaultJSONWriter implements JSONWriter {
     private boolean enumAsBean = ENUM_AS_BEAN_DEFAULT;
     private boolean excludeNullProperties;
     private boolean cacheBeanInfo = true;
+    private final Map<Method, DateFormat> annotatedFormatters = new HashMap<>();
     private boolean excludeProxyProperties;
 
     @Inject(value = JSONConstants.RESULT_EXCLUDE_PROXY_PROPERTIES, required = false)
@@ -109,8 +126,45 @@ public class DefaultJSONWriter implements JSONWriter {
     @Override
     public String write(Object object, Collection<Pattern> excludeProperties,
                         Collection<Pattern> includeProperties, boolean excludeNullProperties) throws JSONException {
-        this.excludeNullProperties = excludeNullProperties;
         this.buf.setLength(0);
+        this.out = this.buf;
+        this.writeValue(object, excludeProperties, includeProperties, excludeNullProperties);
+
+        return this.buf.toString();
+    }
+
+    /**
+     * Serializes the object straight to the writer, without building the whole JSON string in memory.
+     *
+     * @param writer
+     *            Writer to serialize the object to, should be buffered
+     * @param object
+     *            Object to be serialized into JSON
+     * @param excludeProperties
+     *            Patterns matching properties to ignore
+     * @param includeProperties
+     *            Patterns matching properties to include
+     * @param excludeNullProperties
+     *            enable/disable excluding of null properties
+     * @throws IOException in case of IO errors
+     * @throws JSONException in case of error during serialize
+     */
+    @Override
+    public void write(Writer writer, Object object, Collection<Pattern> excludeProperties,
+                      Collection<Pattern> includeProperties, boolean excludeNullProperties) throws IOException, JSONException {
+        this.out = writer;
+        try {
+            this.writeValue(object, excludeProperties, includeProperties, excludeNullProperties);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            this.out = this.buf;
+        }
+    }
+
+    private void writeValue(Object object, Collection<Pattern> excludeProperties,
+                            Collection<Pattern> includeProperties, boolean excludeNullProperties) throws JSONException {
+        this.excludeNullProperties = excludeNullProperties;
         this.stack.clear();
         this.root = object;
         this.exprStack = "";
@@ -119,8 +173,6 @@ public class DefaultJSONWriter implements JSONWriter {
         this.excludeProperties = excludeProperties;
         this.includeProperties = includeProperties;
         this.value(object, null);
-
-        return this.buf.toString();
     }
 
     /**
@@ -218,55 +270,31 @@ public class DefaultJSONWriter implements JSONWriter {
     protected void bean(Object object) throws JSONException {
         this.add("{");
 
-        BeanInfo info;
-
         try {
             Class clazz = excludeProxyProperties ? ProxyUtil.ultimateTargetClass(object) : object.getClass();
 
-            info = ((object == this.root) && this.ignoreHierarchy)
-                    ? getBeanInfoIgnoreHierarchy(clazz)
-                    : getBeanInfo(clazz);
-
-            PropertyDescriptor[] props = info.getPropertyDescriptors();
+            BeanPlan plan = getBeanPlan(clazz, (object == this.root) && this.ignoreHierarchy);
 
             boolean hasData = false;
-            for (PropertyDescriptor prop : props) {
-                String name = prop.getName();
-                Method accessor = prop.getReadMethod();
-                Method baseAccessor = findBaseAccessor(clazz, accessor);
-
-                if (baseAccessor != null) {
-                    if (baseAccessor.isAnnotationPresent(JSON.class)) {
-                        JSONAnnotationFinder jsonFinder = new JSONAnnotationFinder(baseAccessor).invoke();
-
-                        if (!jsonFinder.shouldSerialize()) continue;
-                        if (jsonFinder.getName() != null) {
-                            name = jsonFinder.getName();
-                        }
-                    }
-                    // ignore "class" and others
-                    if (this.shouldExcludeProperty(prop)) {
+            for (PropertyPlan property : plan.properties) {
+                String expr = null;
+                if (this.buildExpr) {
+                    expr = this.expandExpr(property.name);
+                    if (this.shouldExcludeProperty(expr)) {
                         continue;
                     }
-                    String expr = null;
-                    if (this.buildExpr) {
-                        expr = this.expandExpr(name);
-                        if (this.shouldExcludeProperty(expr)) {
-                            continue;
-                        }
-                        expr = this.setExprStack(expr);
-                    }
+                    expr = this.setExprStack(expr);
+                }
 
-                    Object value = accessor.invoke(object);
-                    if (baseAccessor.isAnnotationPresent(JSONFieldBridge.class)) {
-                        value = getBridgedValue(baseAccessor, value);
-                    }
+                Object value = property.read(object);
+                if (property.bridged) {
+                    value = getBridgedValue(property.baseAccessor, value);
+                }
 
-                    boolean propertyPrinted = this.add(name, value, accessor, hasData);
-                    hasData = hasData || propertyPrinted;
-                    if (this.buildExpr) {
-                        this.setExprStack(expr);
-                    }
+                boolean propertyPrinted = this.add(property.name, value, property.accessor, hasData);
+                hasData = hasData || propertyPrinted;
+                if (this.buildExpr) {
+                    this.setExprStack(expr);
                 }
             }
 
@@ -283,6 +311,66 @@ public class DefaultJSONWriter implements JSONWriter {
         this.add("}");
     }
 
+    /**
+     * Returns the serialization plan of the given class, cached per writer class unless bean info caching is disabled
+     *
+     * @param clazz           the class of the bean
+     * @param ignoreHierarchy true to ignore properties defined on base classes
+     * @return the serialization plan
+     * @throws Exception in case of error during introspection
+     */
+    protected BeanPlan getBeanPlan(Class<?> clazz, boolean ignoreHierarchy) throws Exception {
+        if (!cacheBeanInfo) {
+            return createBeanPlan(clazz, ignoreHierarchy);
+        }
+        ConcurrentMap<Class<?>, BeanPlan> cache = (ignoreHierarchy ? BEAN_PLAN_CACHE_IGNORE_HIERARCHY : BEAN_PLAN_CACHE)
+                .computeIfAbsent(getClass(), writerClass -> new ConcurrentHashMap<>());
+        BeanPlan plan = cache.get(clazz);
+        if (plan == null) {
+            plan = createBeanPlan(clazz, ignoreHierarchy);
+            cache.putIfAbsent(clazz, plan);
+        }
+        return plan;
+    }
+
+    /**
+     * Resolves once the properties of a class to serialize: their names, accessors and annotations,
+     * properties excluded by annotations or by {@link #shouldExcludeProperty(PropertyDescriptor)} are skipped.
+     *
+     * @param clazz           the class of the bean
+     * @param ignoreHierarchy true to ignore properties defined on base classes
+     * @return the serialization plan
+     * @throws Exception in case of error during introspection
+     */
+    protected BeanPlan createBeanPlan(Class<?> clazz, boolean ignoreHierarchy) throws Exception {
+        BeanInfo info = ignoreHierarchy ? getBeanInfoIgnoreHierarchy(clazz) : getBeanInfo(clazz);
+
+        List<PropertyPlan> properties = new ArrayList<>();
+        for (PropertyDescriptor prop : info.getPropertyDescriptors()) {
+            String name = prop.getName();
+            Method accessor = prop.getReadMethod();
+            Method baseAccessor = findBaseAccessor(clazz, accessor);
+
+            if (baseAccessor == null) {
+                continue;
+            }
+            if (baseAccessor.isAnnotationPresent(JSON.class)) {
+                JSONAnnotationFinder jsonFinder = new JSONAnnotationFinder(baseAccessor).invoke();
+
+                if (!jsonFinder.shouldSerialize()) continue;
+                if (jsonFinder.getName() != null) {
+                    name = jsonFinder.getName();
+                }
+            }
+            // ignore "class" and others
+            if (this.shouldExcludeProperty(prop)) {
+                continue;
+            }
+            properties.add(new PropertyPlan(name, accessor, baseAccessor));
+        }
+        return new BeanPlan(properties);
+    }
+
     protected BeanInfo getBeanInfoIgnoreHierarchy(final Class<?> clazz) throws IntrospectionException {
         BeanInfo beanInfo = BEAN_INFO_CACHE_IGNORE_HIERARCHY.get(clazz);
         if (beanInfo != null) {
@@ -501,8 +589,8 @@ public class DefaultJSONWriter implements JSONWriter {
         if (this.formatter == null)
             this.formatter = new SimpleDateFormat(JSONUtil.RFC3339_FORMAT);
 
-        DateFormat formatter = (json != null) && (json.format().length() > 0) ? new SimpleDateFormat(json
-                .format()) : this.formatter;
+        DateFormat formatter = (json != null) && (json.format().length() > 0) ? annotatedFormatters
+                .computeIfAbsent(method, m -> new SimpleDateFormat(m.getAnnotation(JSON.class).format())) : this.formatter;
         this.string(formatter.format(date));
     }
 
@@ -615,14 +703,22 @@ public class DefaultJSONWriter implements JSONWriter {
      * Add object to buffer
      */
     protected void add(Object obj) {
-        this.buf.append(obj);
+        try {
+            this.out.append(String.valueOf(obj));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     /*
      * Add char to buffer
      */
     protected void add(char c) {
-        this.buf.append(c);
+        try {
+            this.out.append(c);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     /**
@@ -678,6 +774,73 @@ public class DefaultJSONWriter implements JSONWriter {
         this.excludeProxyProperties = excludeProxyProperties;
     }
 
+    /**
+     * Properties of a class to serialize, in order
+     */
+    protected static class BeanPlan {
+
+        private final List<PropertyPlan> properties;
+
+        public BeanPlan(List<PropertyPlan> properties) {
+            this.properties = Collections.unmodifiableList(properties);
+        }
+
+        public List<PropertyPlan> getProperties() {
+            return properties;
+        }
+    }
+
+    /**
+     * A property to serialize, read using a method handle when the accessor can be accessed through
+     * a public lookup and using reflection otherwise
+     */
+    protected static class PropertyPlan {
+
+        private final String name;
+        private final Method accessor;
+        private final Method baseAccessor;
+        private final boolean bridged;
+        private final MethodHandle getter;
+
+        public PropertyPlan(String name, Method accessor, Method baseAccessor) {
+            this.name = name;
+            this.accessor = accessor;
+            this.baseAccessor = baseAccessor;
+            this.bridged = baseAccessor.isAnnotationPresent(JSONFieldBridge.class);
+            this.getter = createGetter(accessor);
+        }
+
+        private static MethodHandle createGetter(Method accessor) {
+            try {
+                return MethodHandles.publicLookup().unreflect(accessor).asType(GETTER_TYPE);
+            } catch (IllegalAccessException e) {
+                LOG.debug("Cannot access {} through a method handle, using reflection", accessor, e);
+                return null;
+            }
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Method getAccessor() {
+            return accessor;
+        }
+
+        public Object read(Object object) throws Exception {
+            if (getter == null) {
+                return accessor.invoke(object);
+            }
+            try {
+                return getter.invokeExact(object);
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new InvocationTargetException(t);
+            }
+        }
+    }
+
     protected static class JSONAnnotationFinder {
         private boolean serialize = true;
         private Method accessor;
@@ -54,6 +54,10 @@ import java.util.regex.Pattern;
  * to be excluded. The regular expressions are evaluated against the OGNL
  * expression representation of the properties. </li>
  *
+ * <li>streaming - serializes the JSON straight to the response output stream through a buffer
+ * of <code>streamBufferSize</code> bytes, instead of building the whole JSON string first.
+ * The Content-Length header isn't set when streaming. </li>
+ *
  * </ul>
  * <!-- END SNIPPET: parameters -->
  * <p><b>Example:</b></p>
@@ -98,6 +102,8 @@ public class JSONResult implements Result {
     private String wrapPrefix;
     private String wrapSuffix;
     private boolean devMode = false;
+    private boolean streaming = false;
+    private int streamBufferSize = 8192;
     private JSONUtil jsonUtil;
 
     @Inject(StrutsConstants.STRUTS_I18N_ENCODING)
@@ -199,7 +205,11 @@ public class JSONResult implements Result {
         try {
             Object rootObject;
             rootObject = readRootObject(invocation);
-            writeToResponse(response, createJSONString(request, rootObject), enableGzip(request));
+            if (streaming) {
+                streamToResponse(request, response, rootObject, enableGzip(request));
+            } else {
+                writeToResponse(response, createJSONString(request, rootObject), enableGzip(request));
+            }
         } catch (IOException exception) {
             LOG.error(exception.getMessage(), exception);
             throw exception;
@@ -250,6 +260,28 @@ public class JSONResult implements Result {
             wrapSuffix));
     }
 
+    /**
+     * Serializes the root object straight to the response, used when {@link #setStreaming(boolean)} is enabled
+     */
+    protected void streamToResponse(HttpServletRequest request, HttpServletResponse response, Object rootObject,
+                                    boolean gzip) throws IOException, JSONException {
+        final String callbackName = findCallbackName(request);
+        SerializationParams params = new SerializationParams(response, getEncoding(), isWrapWithComments(),
+            null, false, gzip, noCache, statusCode, errorCode, prefix, contentType, wrapPrefix, wrapSuffix);
+
+        JSONUtil.writeJSONToResponse(params, writer -> {
+            if (callbackName != null) {
+                writer.write(callbackName);
+                writer.write('(');
+            }
+            jsonUtil.serialize(writer, rootObject, excludeProperties, includeProperties, ignoreHierarchy,
+                enumAsBean, excludeNullProperties, defaultDateFormat, cacheBeanInfo);
+            if (callbackName != null) {
+                writer.write(')');
+            }
+        }, streamBufferSize);
+    }
+
     protected org.apache.struts2.json.smd.SMD buildSMDObject(ActionInvocation invocation) {
         return new SMDGenerator(findRootObject(invocation), excludeProperties, ignoreInterfaces).generate(invocation);
     }
@@ -279,13 +311,21 @@ public class JSONResult implements Result {
     }
 
     protected String addCallbackIfApplicable(HttpServletRequest request, String json) {
+        String callbackName = findCallbackName(request);
+        if (callbackName != null) {
+            json = callbackName + "(" + json + ")";
+        }
+        return json;
+    }
+
+    private String findCallbackName(HttpServletRequest request) {
         if ((callbackParameter != null) && (callbackParameter.length() > 0)) {
             String callbackName = request.getParameter(callbackParameter);
             if (StringUtils.isNotEmpty(callbackName)) {
-                json = callbackName + "(" + json + ")";
+                return callbackName;
             }
         }
-        return json;
+        return null;
     }
 
     /**
@@ -464,6 +504,28 @@ public class JSONResult implements Result {
         this.encoding = encoding;
     }
 
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    /**
+     * @param streaming Serialize JSON straight to the response instead of building the JSON string first
+     */
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
+    public int getStreamBufferSize() {
+        return streamBufferSize;
+    }
+
+    /**
+     * @param streamBufferSize Size in bytes of the buffer used when streaming JSON to the response
+     */
+    public void setStreamBufferSize(int streamBufferSize) {
+        this.streamBufferSize = streamBufferSize;
+    }
+
     public String getDefaultDateFormat() {
         return defaultDateFormat;
     }
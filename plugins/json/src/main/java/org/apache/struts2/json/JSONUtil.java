@@ -19,9 +19,12 @@
 package org.apache.struts2.json;
 
 import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
 import java.io.Reader;
 import java.io.Writer;
@@ -284,6 +287,44 @@ public class JSONUtil {
         writer.write(serialize(object, excludeProperties, includeProperties, true, excludeNullProperties, cacheBeanInfo));
     }
 
+    /**
+     * Serializes an object into JSON straight to the given writer, without building the JSON string
+     * when the configured {@link JSONWriter} supports streaming.
+     *
+     * @param writer
+     *            Writer to serialize the object to
+     * @param object
+     *            object to be serialized
+     * @param excludeProperties
+     *            Patterns matching properties to exclude
+     * @param includeProperties
+     *            Patterns matching properties to include
+     * @param ignoreHierarchy
+     *            whether to ignore properties defined on base classes of the
+     *            root object
+     * @param enumAsBean
+     *            whether to serialized enums a Bean or name=value pair
+     * @param excludeNullProperties
+     *            enable/disable excluding of null properties
+     * @param defaultDateFormat
+     *            date format used to serialize dates
+     * @param cacheBeanInfo
+     * 			  Specifies whether to cache bean info in the JSONWriter
+     * @throws IOException  in case of IO errors
+     * @throws JSONException in case of error during serialize
+     * @since 7.0.0
+     */
+    public void serialize(Writer writer, Object object, Collection<Pattern> excludeProperties,
+                          Collection<Pattern> includeProperties, boolean ignoreHierarchy, boolean enumAsBean,
+                          boolean excludeNullProperties, String defaultDateFormat, boolean cacheBeanInfo)
+            throws IOException, JSONException {
+        this.writer.setIgnoreHierarchy(ignoreHierarchy);
+        this.writer.setEnumAsBean(enumAsBean);
+        this.writer.setDateFormatter(defaultDateFormat);
+        this.writer.setCacheBeanInfo(cacheBeanInfo);
+        this.writer.write(writer, object, excludeProperties, includeProperties, excludeNullProperties);
+    }
+
     /**
      * Deserializes a object from JSON
      *
@@ -343,26 +384,9 @@ public class JSONUtil {
 
         LOG.debug("[JSON] {}", json);
 
-        HttpServletResponse response = serializationParams.getResponse();
-
-        // status or error code
-        if (serializationParams.getStatusCode() > 0)
-            response.setStatus(serializationParams.getStatusCode());
-        else if (serializationParams.getErrorCode() > 0)
-            response.sendError(serializationParams.getErrorCode());
-
-        // content type
-        response.setContentType(serializationParams.getContentType() + ";charset="
-                + serializationParams.getEncoding());
-
-        if (serializationParams.isNoCache()) {
-            response.setHeader("Cache-Control", "no-cache");
-            response.setHeader("Expires", "0");
-            response.setHeader("Pragma", "No-cache");
-        }
+        HttpServletResponse response = prepareResponse(serializationParams);
 
         if (serializationParams.isGzip()) {
-            response.addHeader("Content-Encoding", "gzip");
             GZIPOutputStream out = null;
             InputStream in = null;
             try {
@@ -389,6 +413,98 @@ public class JSONUtil {
         }
     }
 
+    /**
+     * Streams JSON to the response through a buffer of the given size, optionally compressing it on the fly.
+     * The wrapping prefix and suffix defined by the serialization params are written around the content,
+     * the serialized JSON of the params is ignored and the content length isn't set as it is unknown.
+     *
+     * @param serializationParams params used to prepare the response
+     * @param content             writes the JSON content to the response writer
+     * @param bufferSize          size of the buffer used to write to the response
+     * @throws IOException   in case of IO errors
+     * @throws JSONException in case of error during serialize
+     * @since 7.0.0
+     */
+    public static void writeJSONToResponse(SerializationParams serializationParams, JSONContent content,
+                                           int bufferSize) throws IOException, JSONException {
+        HttpServletResponse response = prepareResponse(serializationParams);
+
+        OutputStream out = response.getOutputStream();
+        GZIPOutputStream gzipOut = null;
+        if (serializationParams.isGzip()) {
+            gzipOut = new GZIPOutputStream(out, bufferSize);
+            out = gzipOut;
+        }
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, serializationParams.getEncoding()), bufferSize);
+
+        boolean wrapWithComments = false;
+        if (StringUtils.isNotBlank(serializationParams.getWrapPrefix())) {
+            writer.write(serializationParams.getWrapPrefix());
+        } else if (serializationParams.isWrapWithComments()) {
+            writer.write("/* ");
+            wrapWithComments = true;
+        } else if (serializationParams.isPrefix()) {
+            writer.write("{}&& ");
+        }
+
+        content.write(writer);
+
+        if (wrapWithComments) {
+            writer.write(" */");
+        }
+        if (StringUtils.isNotBlank(serializationParams.getWrapSuffix())) {
+            writer.write(serializationParams.getWrapSuffix());
+        }
+
+        writer.flush();
+        if (gzipOut != null) {
+            gzipOut.finish();
+        }
+    }
+
+    private static HttpServletResponse prepareResponse(SerializationParams serializationParams) throws IOException {
+        HttpServletResponse response = serializationParams.getResponse();
+
+        // status or error code
+        if (serializationParams.getStatusCode() > 0)
+            response.setStatus(serializationParams.getStatusCode());
+        else if (serializationParams.getErrorCode() > 0)
+            response.sendError(serializationParams.getErrorCode());
+
+        // content type
+        response.setContentType(serializationParams.getContentType() + ";charset="
+                + serializationParams.getEncoding());
+
+        if (serializationParams.isNoCache()) {
+            response.setHeader("Cache-Control", "no-cache");
+            response.setHeader("Expires", "0");
+            response.setHeader("Pragma", "No-cache");
+        }
+
+        if (serializationParams.isGzip()) {
+            response.addHeader("Content-Encoding", "gzip");
+        }
+
+        return response;
+    }
+
+    /**
+     * Writes JSON content to the response, used when streaming JSON
+     *
+     * @since 7.0.0
+     */
+    @FunctionalInterface
+    public interface JSONContent {
+
+        /**
+         * @param writer the buffered response writer
+         * @throws IOException   in case of IO errors
+         * @throws JSONException in case of error during serialize
+         */
+        void write(Writer writer) throws IOException, JSONException;
+    }
+
     public static Set<String> asSet(String commaDelim) {
         if ((commaDelim == null) || (commaDelim.trim().length() == 0))
             return null;
@@ -18,6 +18,8 @@
  */
 package org.apache.struts2.json;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.util.Collection;
 import java.util.regex.Pattern;
 
@@ -35,6 +37,24 @@ public interface JSONWriter {
     String write(Object object, Collection<Pattern> excludeProperties,
                  Collection<Pattern> includeProperties, boolean excludeNullProperties) throws JSONException;
 
+    /**
+     * Serializes the object directly to the given writer, implementations which don't support streaming
+     * write the whole JSON string at once.
+     *
+     * @param writer                the writer to serialize the object to
+     * @param object                the object to serialize
+     * @param excludeProperties     patterns matching properties to ignore
+     * @param includeProperties     patterns matching properties to include
+     * @param excludeNullProperties enable/disable excluding of null properties
+     * @throws IOException   in case of IO errors
+     * @throws JSONException in case of error during serialize
+     * @since 7.0.0
+     */
+    default void write(Writer writer, Object object, Collection<Pattern> excludeProperties,
+                       Collection<Pattern> includeProperties, boolean excludeNullProperties) throws IOException, JSONException {
+        writer.write(write(object, excludeProperties, includeProperties, excludeNullProperties));
+    }
+
     void setIgnoreHierarchy(boolean ignoreHierarchy);
 
     void setEnumAsBean(boolean enumAsBean);
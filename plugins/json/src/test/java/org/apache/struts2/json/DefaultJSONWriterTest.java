@@ -24,13 +24,17 @@ import org.apache.struts2.junit.StrutsTestCase;
 import org.apache.struts2.junit.util.TestUtils;
 import org.junit.Test;
 
+import java.beans.PropertyDescriptor;
+import java.io.StringWriter;
 import java.net.URL;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TimeZone;
+import java.util.regex.Pattern;
 
 public class DefaultJSONWriterTest extends StrutsTestCase {
     @Test
@@ -52,6 +56,29 @@ public class DefaultJSONWriterTest extends StrutsTestCase {
         TestUtils.assertEquals(DefaultJSONWriter.class.getResource("jsonwriter-write-bean-01.txt"), json);
     }
 
+    @Test
+    public void testWriteToWriter() throws Exception {
+        Bean bean1 = new Bean();
+        bean1.setStringField("str");
+        bean1.setBooleanField(true);
+        bean1.setCharField('s');
+        bean1.setDoubleField(10.1);
+        bean1.setFloatField(1.5f);
+        bean1.setIntField(10);
+        bean1.setLongField(100);
+        bean1.setEnumField(AnEnum.ValueA);
+        bean1.setEnumBean(AnEnumBean.Two);
+
+        JSONWriter jsonWriter = new DefaultJSONWriter();
+        jsonWriter.setEnumAsBean(false);
+        StringWriter writer = new StringWriter();
+        jsonWriter.write(writer, bean1, null, null, false);
+        TestUtils.assertEquals(DefaultJSONWriter.class.getResource("jsonwriter-write-bean-01.txt"), writer.toString());
+
+        // the writer must not keep any state of the previous serialization
+        assertEquals(writer.toString(), jsonWriter.write(bean1));
+    }
+
     @Test
     public void testWriteExcludeNull() throws Exception {
         BeanWithMap bean1 = new BeanWithMap();
@@ -188,4 +215,105 @@ public class DefaultJSONWriterTest extends StrutsTestCase {
         assertEquals("{\"date\":\"12-23-2012\"}", json);
     }
 
+    @Test
+    public void testBeanPlanIsCached() throws Exception {
+        DefaultJSONWriter jsonWriter = new DefaultJSONWriter();
+
+        DefaultJSONWriter.BeanPlan plan = jsonWriter.getBeanPlan(Bean.class, false);
+
+        assertSame(plan, jsonWriter.getBeanPlan(Bean.class, false));
+        assertSame(plan, new DefaultJSONWriter().getBeanPlan(Bean.class, false));
+        assertNotSame(plan, jsonWriter.getBeanPlan(Bean.class, true));
+        for (DefaultJSONWriter.PropertyPlan property : plan.getProperties()) {
+            assertFalse("class".equals(property.getName()));
+        }
+    }
+
+    @Test
+    public void testBeanPlanIsCachedPerWriterClass() throws Exception {
+        SingleDateBean dateBean = new SingleDateBean();
+        dateBean.setDate(new Date());
+
+        JSONWriter excludingWriter = new DefaultJSONWriter() {
+            @Override
+            protected boolean shouldExcludeProperty(PropertyDescriptor prop) throws SecurityException, NoSuchFieldException {
+                return "date".equals(prop.getName()) || super.shouldExcludeProperty(prop);
+            }
+        };
+        assertEquals("{}", excludingWriter.write(dateBean));
+
+        JSONWriter jsonWriter = new DefaultJSONWriter();
+        jsonWriter.setDateFormatter("yyyy");
+        assertEquals("{\"date\":\"" + new SimpleDateFormat("yyyy").format(dateBean.getDate()) + "\"}", jsonWriter.write(dateBean));
+        assertEquals("{}", excludingWriter.write(dateBean));
+    }
+
+    @Test
+    public void testBeanPlanIsNotCachedWithoutBeanInfoCache() throws Exception {
+        DefaultJSONWriter jsonWriter = new DefaultJSONWriter();
+        jsonWriter.setCacheBeanInfo(false);
+
+        assertNotSame(jsonWriter.getBeanPlan(Bean.class, false), jsonWriter.getBeanPlan(Bean.class, false));
+    }
+
+    @Test
+    public void testWriteAnnotatedBeanWithoutBeanInfoCache() throws Exception {
+        AnnotatedBean bean1 = new AnnotatedBean();
+        bean1.setStringField("str");
+        bean1.setBooleanField(true);
+        bean1.setCharField('s');
+        bean1.setDoubleField(10.1);
+        bean1.setFloatField(1.5f);
+        bean1.setIntField(10);
+        bean1.setLongField(100);
+        bean1.setEnumField(AnEnum.ValueA);
+        bean1.setEnumBean(AnEnumBean.Two);
+        bean1.setUrl(new URL("http://www.google.com"));
+
+        JSONWriter jsonWriter = new DefaultJSONWriter();
+        jsonWriter.setEnumAsBean(false);
+        jsonWriter.setIgnoreHierarchy(false);
+        jsonWriter.setCacheBeanInfo(false);
+        String json = jsonWriter.write(bean1);
+        TestUtils.assertEquals(DefaultJSONWriter.class.getResource("jsonwriter-write-bean-02.txt"), json);
+    }
+
+    @Test
+    public void testWriteListOfBeansWithIncludes() throws Exception {
+        List<SingleDateBean> beans = new ArrayList<>();
+        SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss z");
+        for (int i = 0; i < 3; i++) {
+            SingleDateBean dateBean = new SingleDateBean();
+            dateBean.setDate(sdf.parse("2012-12-2" + i + " 10:10:10 GMT"));
+            beans.add(dateBean);
+        }
+
+        JSONWriter jsonWriter = new DefaultJSONWriter();
+        jsonWriter.setDateFormatter("MM-dd-yyyy");
+        List<Pattern> includes = new ArrayList<>();
+        includes.add(Pattern.compile("\\[0\\]"));
+        includes.add(Pattern.compile("\\[0\\]\\.date"));
+        includes.add(Pattern.compile("\\[2\\]"));
+        String json = jsonWriter.write(beans, null, includes, false);
+        assertEquals("[{\"date\":\"12-20-2012\"},{}]", json);
+    }
+
+    @Test
+    public void testGetterExceptionIsWrapped() {
+        JSONWriter jsonWriter = new DefaultJSONWriter();
+        try {
+            jsonWriter.write(new FailingBean());
+            fail("JSONException expected");
+        } catch (JSONException e) {
+            assertTrue(e.getCause() instanceof java.lang.reflect.InvocationTargetException);
+            assertEquals("failure", e.getCause().getCause().getMessage());
+        }
+    }
+
+    public static class FailingBean {
+        public String getValue() {
+            throw new IllegalStateException("failure");
+        }
+    }
+
 }
@@ -31,8 +31,10 @@ import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.mock.web.MockServletContext;
 
 import jakarta.servlet.http.HttpServletResponse;
+import java.io.ByteArrayInputStream;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -45,6 +47,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
 
 /**
  * JSONResultTest
@@ -534,6 +537,69 @@ public class JSONResultTest extends StrutsTestCase {
         assertEquals("application/json;charset=UTF-8", response.getContentType());
     }
 
+    public void testStreaming() throws Exception {
+        JSONResult result = new JSONResult();
+        result.setStreaming(true);
+
+        executeTest2Action(result);
+        String json = response.getContentAsString();
+
+        String normalizedActual = TestUtils.normalize(json, true);
+        String normalizedExpected = TestUtils.normalize(JSONResultTest.class.getResource("json-2.txt"));
+        assertEquals(normalizedExpected, normalizedActual);
+        assertEquals("application/json;charset=UTF-8", response.getContentType());
+        assertNull("content length must not be set when streaming", response.getHeader("Content-Length"));
+    }
+
+    public void testStreamingJSONP() throws Exception {
+        JSONResult result = new JSONResult();
+        result.setStreaming(true);
+        result.setCallbackParameter("callback");
+        request.addParameter("callback", "exec");
+
+        executeTest2Action(result);
+        String json = response.getContentAsString();
+
+        String normalizedActual = TestUtils.normalize(json, true);
+        String normalizedExpected = TestUtils.normalize(JSONResultTest.class.getResource("jsonp-1.txt"));
+        assertEquals(normalizedExpected, normalizedActual);
+    }
+
+    public void testStreamingWrapping() throws Exception {
+        JSONResult result = new JSONResult();
+        result.setStreaming(true);
+        result.setWrapWithComments(true);
+        result.setWrapSuffix("_suffix_");
+        JSONUtil jsonUtil = new JSONUtil();
+        jsonUtil.setWriter(new DefaultJSONWriter());
+        result.setJsonUtil(jsonUtil);
+        TestAction2 action = new TestAction2();
+        stack.push(action);
+
+        this.invocation.setAction(action);
+        result.execute(this.invocation);
+
+        assertEquals("/* {\"name\":\"name\"} */_suffix_", response.getContentAsString());
+    }
+
+    public void testStreamingGzip() throws Exception {
+        JSONResult result = new JSONResult();
+        result.setStreaming(true);
+        result.setEnableGZIP(true);
+        result.setStreamBufferSize(16);
+        request.addHeader("Accept-Encoding", "gzip");
+
+        executeTest2Action(result);
+
+        assertEquals("gzip", response.getHeader("Content-Encoding"));
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            String json = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            String normalizedActual = TestUtils.normalize(json, true);
+            String normalizedExpected = TestUtils.normalize(JSONResultTest.class.getResource("json-2.txt"));
+            assertEquals(normalizedExpected, normalizedActual);
+        }
+    }
+
     public void testNoCache() throws Exception {
         JSONResult result = new JSONResult();
         result.setNoCache(true);
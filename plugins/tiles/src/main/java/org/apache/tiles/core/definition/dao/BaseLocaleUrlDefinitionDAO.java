@@ -31,11 +31,11 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Base abstract class for a DAO that is based on URLs and locale as a
@@ -83,7 +83,7 @@ public abstract class BaseLocaleUrlDefinitionDAO implements DefinitionDAO<Locale
      */
     public BaseLocaleUrlDefinitionDAO(ApplicationContext applicationContext) {
         this.applicationContext = applicationContext;
-        lastModifiedDates = new HashMap<>();
+        lastModifiedDates = new ConcurrentHashMap<>();
     }
 
     public void setSources(List<ApplicationResource> sources) {
@@ -26,10 +26,11 @@ import org.apache.tiles.request.ApplicationContext;
 import org.apache.tiles.request.ApplicationResource;
 import org.apache.tiles.request.locale.LocaleUtil;
 
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * <p>
@@ -39,6 +40,12 @@ import java.util.Map;
  * </p>
  * <p>
  * It can check if the URLs change, but by default this feature is turned off.
+ * When turned on, the URLs are checked by a background {@link DefinitionsRefreshWatcher}
+ * and the definitions are reloaded on the next lookup once they have changed.
+ * </p>
+ * <p>
+ * The definitions of each locale are published as an immutable snapshot, definitions
+ * resolved using patterns are cached separately, so lookups don't need any locking.
  * </p>
  *
  * @since 2.1.0
@@ -58,7 +65,14 @@ public class CachingLocaleUrlDefinitionDAO extends BaseLocaleUrlDefinitionDAO im
      *
      * @since 2.1.0
      */
-    protected Map<Locale, Map<String, Definition>> locale2definitionMap;
+    protected volatile Map<Locale, Map<String, Definition>> locale2definitionMap;
+
+    /**
+     * The locale-specific set of definitions resolved using patterns.
+     *
+     * @since 7.0.0
+     */
+    protected volatile Map<Locale, Map<String, Definition>> locale2resolvedDefinitionMap;
 
     /**
      * Flag that, when <code>true</code>, enables automatic checking of URLs
@@ -75,6 +89,16 @@ public class CachingLocaleUrlDefinitionDAO extends BaseLocaleUrlDefinitionDAO im
      */
     protected PatternDefinitionResolver<Locale> definitionResolver;
 
+    /**
+     * Set by the refresh watcher when the sources have changed.
+     */
+    private volatile boolean refreshPending = false;
+
+    /**
+     * Watches the sources when {@link #checkRefresh} is enabled.
+     */
+    private volatile DefinitionsRefreshWatcher refreshWatcher;
+
     /**
      * Constructor.
      *
@@ -82,7 +106,8 @@ public class CachingLocaleUrlDefinitionDAO extends BaseLocaleUrlDefinitionDAO im
      */
     public CachingLocaleUrlDefinitionDAO(ApplicationContext applicationContext) {
         super(applicationContext);
-        locale2definitionMap = new HashMap<>();
+        locale2definitionMap = new ConcurrentHashMap<>();
+        locale2resolvedDefinitionMap = new ConcurrentHashMap<>();
     }
 
     /**
@@ -106,11 +131,18 @@ public class CachingLocaleUrlDefinitionDAO extends BaseLocaleUrlDefinitionDAO im
             retValue = definitions.get(name);
 
             if (retValue == null) {
-                retValue = getDefinitionFromResolver(name, customizationKey);
+                Map<String, Definition> resolvedDefinitions = locale2resolvedDefinitionMap
+                    .computeIfAbsent(customizationKey, k -> new ConcurrentHashMap<>());
+                retValue = resolvedDefinitions.get(name);
 
-                if (retValue != null) {
-                    synchronized (definitions) {
-                        definitions.put(name, retValue);
+                if (retValue == null) {
+                    retValue = getDefinitionFromResolver(name, customizationKey);
+
+                    if (retValue != null) {
+                        Definition existing = resolvedDefinitions.putIfAbsent(name, retValue);
+                        if (existing != null) {
+                            retValue = existing;
+                        }
                     }
                 }
             }
@@ -126,9 +158,12 @@ public class CachingLocaleUrlDefinitionDAO extends BaseLocaleUrlDefinitionDAO im
         if (customizationKey == null) {
             customizationKey = Locale.ROOT;
         }
+        if (checkRefresh && refreshWatcher == null) {
+            startRefreshWatcher();
+        }
         Map<String, Definition> retValue = locale2definitionMap
             .get(customizationKey);
-        if (retValue == null || (checkRefresh && refreshRequired())) {
+        if (retValue == null || (checkRefresh && refreshPending)) {
             retValue = checkAndloadDefinitions(customizationKey);
         }
         return retValue;
@@ -144,6 +179,42 @@ public class CachingLocaleUrlDefinitionDAO extends BaseLocaleUrlDefinitionDAO im
      */
     public void setCheckRefresh(boolean checkRefresh) {
         this.checkRefresh = checkRefresh;
+        if (!checkRefresh) {
+            stopRefreshWatcher();
+        }
+    }
+
+    /**
+     * Stops the threads checking the sources of the DAOs of an application,
+     * to be called once the application is destroyed.
+     *
+     * @param applicationContext The application context being destroyed.
+     * @since 7.0.0
+     */
+    public static void stopRefreshWatchers(ApplicationContext applicationContext) {
+        DefinitionsRefreshWatcher.stopAll(applicationContext.getContext());
+    }
+
+    /**
+     * Called by the refresh watcher when the sources have changed, the definitions
+     * will be reloaded on the next lookup.
+     */
+    void sourcesChanged() {
+        refreshPending = true;
+    }
+
+    private synchronized void startRefreshWatcher() {
+        if (checkRefresh && refreshWatcher == null) {
+            refreshWatcher = DefinitionsRefreshWatcher.start(this);
+        }
+    }
+
+    private synchronized void stopRefreshWatcher() {
+        if (refreshWatcher != null) {
+            refreshWatcher.stop();
+            refreshWatcher = null;
+        }
+        refreshPending = false;
     }
 
     /**
@@ -160,7 +231,7 @@ public class CachingLocaleUrlDefinitionDAO extends BaseLocaleUrlDefinitionDAO im
     }
 
     /**
-     * Checks if sources have changed. If yes, it clears the cache. Then continues
+     * Checks if sources have changed. If yes, it replaces the cache with an empty one. Then continues
      * loading definitions.
      *
      * @param customizationKey The locale to use when loading sources.
@@ -168,15 +239,20 @@ public class CachingLocaleUrlDefinitionDAO extends BaseLocaleUrlDefinitionDAO im
      * @since 2.1.0
      */
     protected synchronized Map<String, Definition> checkAndloadDefinitions(Locale customizationKey) {
+        if (checkRefresh && refreshPending) {
+            refreshPending = false;
+            for (Locale locale : locale2definitionMap.keySet()) {
+                definitionResolver.clearPatternPaths(locale);
+            }
+            definitionResolver.clearPatternPaths(customizationKey);
+            locale2definitionMap = new ConcurrentHashMap<>();
+            locale2resolvedDefinitionMap = new ConcurrentHashMap<>();
+        }
         Map<String, Definition> existingDefinitions = locale2definitionMap.get(customizationKey);
         boolean definitionsAlreadyLoaded = existingDefinitions != null;
         if (definitionsAlreadyLoaded) {
             return existingDefinitions;
         }
-        if (checkRefresh && refreshRequired()) {
-            locale2definitionMap.clear();
-            definitionResolver.clearPatternPaths(customizationKey);
-        }
         loadDefinitions(customizationKey);
         return locale2definitionMap.get(customizationKey);
     }
@@ -210,7 +286,7 @@ public class CachingLocaleUrlDefinitionDAO extends BaseLocaleUrlDefinitionDAO im
         Map<String, Definition> defsMap = definitionResolver
             .storeDefinitionPatterns(copyDefinitionMap(localeDefsMap),
                 customizationKey);
-        locale2definitionMap.put(customizationKey, defsMap);
+        locale2definitionMap.put(customizationKey, Collections.unmodifiableMap(defsMap));
         return localeDefsMap;
     }
 
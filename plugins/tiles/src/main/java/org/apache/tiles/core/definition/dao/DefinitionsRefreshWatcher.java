@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tiles.core.definition.dao;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.ref.WeakReference;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Checks the sources of a {@link CachingLocaleUrlDefinitionDAO} in a background thread
+ * and notifies the DAO once they have changed, so sources aren't checked on each lookup.
+ * <p>
+ * The sources are polled every {@link #POLL_INTERVAL_SECONDS} seconds, as they are servlet context
+ * resources which are not necessarily stored in files (e.g. in jars or unexpanded wars).
+ * The thread only keeps a weak reference to the DAO and stops once it has been collected,
+ * or when the application is destroyed, see {@link #stopAll(Object)}.
+ * </p>
+ *
+ * @since 7.0.0
+ */
+final class DefinitionsRefreshWatcher implements Runnable {
+
+    /**
+     * The logging object.
+     */
+    private static final Logger LOG = LogManager.getLogger(DefinitionsRefreshWatcher.class);
+
+    /**
+     * Interval between two checks of the sources.
+     */
+    static final long POLL_INTERVAL_SECONDS = 2;
+
+    /**
+     * The watchers which have been started and not stopped yet.
+     */
+    private static final Set<DefinitionsRefreshWatcher> WATCHERS = ConcurrentHashMap.newKeySet();
+
+    private final WeakReference<CachingLocaleUrlDefinitionDAO> dao;
+
+    private volatile Thread thread;
+
+    private volatile boolean stopped = false;
+
+    private DefinitionsRefreshWatcher(CachingLocaleUrlDefinitionDAO dao) {
+        this.dao = new WeakReference<>(dao);
+    }
+
+    /**
+     * Starts watching the sources of the DAO.
+     *
+     * @param dao The DAO to notify.
+     * @return The started watcher.
+     */
+    static DefinitionsRefreshWatcher start(CachingLocaleUrlDefinitionDAO dao) {
+        DefinitionsRefreshWatcher watcher = new DefinitionsRefreshWatcher(dao);
+        watcher.thread = new Thread(watcher, "tiles-definitions-watcher");
+        watcher.thread.setDaemon(true);
+        WATCHERS.add(watcher);
+        watcher.thread.start();
+        return watcher;
+    }
+
+    /**
+     * Stops the watchers of the DAOs using the given context.
+     *
+     * @param context The context of the destroyed application, see
+     *                {@link org.apache.tiles.request.ApplicationContext#getContext()}.
+     */
+    static void stopAll(Object context) {
+        for (DefinitionsRefreshWatcher watcher : WATCHERS) {
+            CachingLocaleUrlDefinitionDAO monitored = watcher.dao.get();
+            if (monitored == null || monitored.applicationContext == null
+                || monitored.applicationContext.getContext() == context) {
+                watcher.stop();
+            }
+        }
+    }
+
+    /**
+     * Stops watching, the thread is interrupted and ends immediately.
+     */
+    void stop() {
+        stopped = true;
+        WATCHERS.remove(this);
+        Thread watcherThread = thread;
+        if (watcherThread != null) {
+            watcherThread.interrupt();
+        }
+    }
+
+    /**
+     * @return <code>true</code> while the thread of this watcher is alive.
+     */
+    boolean isRunning() {
+        Thread watcherThread = thread;
+        return watcherThread != null && watcherThread.isAlive();
+    }
+
+    public void run() {
+        try {
+            while (!stopped) {
+                TimeUnit.SECONDS.sleep(POLL_INTERVAL_SECONDS);
+
+                CachingLocaleUrlDefinitionDAO monitored = dao.get();
+                if (monitored == null) {
+                    break;
+                }
+                if (!stopped && monitored.refreshRequired()) {
+                    LOG.debug("Definitions sources have changed, they will be reloaded");
+                    monitored.sourcesChanged();
+                }
+            }
+        } catch (InterruptedException e) {
+            LOG.debug("Definitions watcher has been interrupted");
+        } finally {
+            WATCHERS.remove(this);
+        }
+    }
+}
@@ -25,6 +25,7 @@ import org.apache.tiles.api.Definition;
 import org.apache.tiles.core.definition.NoSuchDefinitionException;
 import org.apache.tiles.request.ApplicationContext;
 
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.Locale;
@@ -66,7 +67,7 @@ public class ResolvingLocaleUrlDefinitionDAO extends CachingLocaleUrlDefinitionD
                 .storeDefinitionPatterns(copyDefinitionMap(localeDefsMap),
                         customizationKey);
         resolveInheritances(defsMap, customizationKey);
-        locale2definitionMap.put(customizationKey, defsMap);
+        locale2definitionMap.put(customizationKey, Collections.unmodifiableMap(defsMap));
         return defsMap;
     }
 
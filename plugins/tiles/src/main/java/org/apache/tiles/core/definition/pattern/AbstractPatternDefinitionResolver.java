@@ -20,10 +20,10 @@ package org.apache.tiles.core.definition.pattern;
 
 import org.apache.tiles.api.Definition;
 
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * A pattern definition resolver that stores {@link DefinitionPatternMatcher}
@@ -39,21 +39,21 @@ public abstract class AbstractPatternDefinitionResolver<T> implements PatternDef
     /**
      * Stores patterns depending on the locale they refer to.
      */
-    private final Map<T, List<DefinitionPatternMatcher>> localePatternPaths = new HashMap<>();
+    private final Map<T, List<DefinitionPatternMatcher>> localePatternPaths = new ConcurrentHashMap<>();
 
     /** {@inheritDoc} */
     public Definition resolveDefinition(String name, T customizationKey) {
         Definition retValue = null;
-        if (localePatternPaths.containsKey(customizationKey)) {
-            retValue = searchAndResolveDefinition(localePatternPaths
-                    .get(customizationKey), name);
+        List<DefinitionPatternMatcher> paths = localePatternPaths.get(customizationKey);
+        if (paths != null) {
+            retValue = searchAndResolveDefinition(paths, name);
         }
         return retValue;
     }
 
     /** {@inheritDoc} */
     public Map<String, Definition> storeDefinitionPatterns(Map<String, Definition> localeDefsMap, T customizationKey) {
-        List<DefinitionPatternMatcher> lpaths = localePatternPaths.computeIfAbsent(customizationKey, k -> new ArrayList<>());
+        List<DefinitionPatternMatcher> lpaths = localePatternPaths.computeIfAbsent(customizationKey, k -> new CopyOnWriteArrayList<>());
         return addDefinitionsAsPatternMatchers(lpaths, localeDefsMap);
     }
 
@@ -100,7 +100,9 @@ public abstract class AbstractPatternDefinitionResolver<T> implements PatternDef
      */
     @Override
     public void clearPatternPaths(T customizationKey) {
-        if (localePatternPaths.get(customizationKey) != null)
-            localePatternPaths.get(customizationKey).clear();
+        List<DefinitionPatternMatcher> paths = localePatternPaths.get(customizationKey);
+        if (paths != null) {
+            paths.clear();
+        }
     }
 }
@@ -18,7 +18,9 @@
  */
 package org.apache.tiles.web.startup;
 
+import org.apache.tiles.core.definition.dao.CachingLocaleUrlDefinitionDAO;
 import org.apache.tiles.core.startup.TilesInitializer;
+import org.apache.tiles.request.ApplicationContext;
 import org.apache.tiles.request.servlet.ServletApplicationContext;
 
 import jakarta.servlet.ServletContext;
@@ -37,6 +39,11 @@ public abstract class AbstractTilesListener implements ServletContextListener {
      */
     protected TilesInitializer initializer;
 
+    /**
+     * The application context of the initialized container.
+     */
+    private ApplicationContext applicationContext;
+
     /**
      * Initialize the TilesContainer and place it
      * into service.
@@ -46,16 +53,20 @@ public abstract class AbstractTilesListener implements ServletContextListener {
     public void contextInitialized(ServletContextEvent event) {
         ServletContext servletContext = event.getServletContext();
         initializer = createTilesInitializer();
-        initializer.initialize(new ServletApplicationContext(servletContext));
+        applicationContext = new ServletApplicationContext(servletContext);
+        initializer.initialize(applicationContext);
     }
 
     /**
-     * Destroys the initializer.
+     * Destroys the initializer and stops checking the definitions sources.
      *
      * @param event The intercepted event.
      */
     public void contextDestroyed(ServletContextEvent event) {
         initializer.destroy();
+        if (applicationContext != null) {
+            CachingLocaleUrlDefinitionDAO.stopRefreshWatchers(applicationContext);
+        }
     }
 
     /**
@@ -33,7 +33,13 @@ import org.apache.tiles.request.ApplicationContext;
 import org.apache.tiles.request.ApplicationResource;
 import org.apache.tiles.request.locale.URLApplicationResource;
 
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -346,6 +352,103 @@ public class CachingLocaleUrlDefinitionDAOTest extends TestCase {
         assertEquals("Overridden Title", definition.getAttribute("title").getValue());
     }
 
+    /**
+     * Tests that the definitions of a locale are an immutable snapshot and that definitions
+     * resolved using patterns are cached.
+     */
+    public void testDefinitionsSnapshot() {
+        List<ApplicationResource> urls = new ArrayList<>();
+        urls.add(urlWildcard);
+        definitionDao.setSources(urls);
+        definitionDao.setReader(new DigesterDefinitionsReader());
+
+        Map<String, Definition> definitions = definitionDao.getDefinitions(null);
+        assertSame(definitions, definitionDao.getDefinitions(Locale.ROOT));
+        try {
+            definitions.put("test.new", new Definition());
+            fail("Definitions must not be modifiable");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+
+        Definition definition = definitionDao.getDefinition("test.defName.subLayered", null);
+        assertNotNull(definition);
+        assertSame(definition, definitionDao.getDefinition("test.defName.subLayered", null));
+        assertFalse(definitions.containsKey("test.defName.subLayered"));
+    }
+
+    /**
+     * Tests that the definitions are reloaded once their source file has changed.
+     *
+     * @throws Exception If something goes wrong.
+     */
+    public void testRefreshWhenSourceFileChanges() throws Exception {
+        Path directory = Files.createTempDirectory("tiles-defs");
+        Path file = directory.resolve("defs.xml");
+        String content;
+        try (InputStream stream = Objects.requireNonNull(getClass().getClassLoader()
+            .getResourceAsStream("org/apache/tiles/core/config/defs3.xml"))) {
+            content = new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+
+        ApplicationResource resource = new URLApplicationResource(file.toString(), file.toUri().toURL());
+        ApplicationContext fileApplicationContext = createMock(ApplicationContext.class);
+        expect(fileApplicationContext.getResource(resource.getLocalePath())).andReturn(resource).anyTimes();
+        expect(fileApplicationContext.getResource(resource, Locale.ROOT)).andReturn(resource).anyTimes();
+        replay(fileApplicationContext);
+
+        CachingLocaleUrlDefinitionDAO dao = new CachingLocaleUrlDefinitionDAO(fileApplicationContext);
+        WildcardDefinitionPatternMatcherFactory definitionPatternMatcherFactory =
+            new WildcardDefinitionPatternMatcherFactory();
+        dao.setPatternDefinitionResolver(new BasicPatternDefinitionResolver<>(
+            definitionPatternMatcherFactory, definitionPatternMatcherFactory));
+        dao.setSources(Collections.singletonList(resource));
+        dao.setReader(new DigesterDefinitionsReader());
+        dao.setCheckRefresh(true);
+        try {
+            assertNotNull(dao.getDefinition("test.def3", null));
+            assertNull(dao.getDefinition("test.def3.changed", null));
+
+            Files.write(file, content.replace("\"test.def3\"", "\"test.def3.changed\"").getBytes(StandardCharsets.UTF_8));
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() + 10000));
+
+            long timeout = System.currentTimeMillis() + 5 * DefinitionsRefreshWatcher.POLL_INTERVAL_SECONDS * 1000;
+            while (dao.getDefinition("test.def3.changed", null) == null && System.currentTimeMillis() < timeout) {
+                Thread.sleep(100);
+            }
+            assertNotNull("Definitions have not been reloaded", dao.getDefinition("test.def3.changed", null));
+            assertNull(dao.getDefinition("test.def3", null));
+        } finally {
+            dao.setCheckRefresh(false);
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    /**
+     * Tests that the refresh watchers are stopped once the application is destroyed.
+     *
+     * @throws Exception If something goes wrong.
+     */
+    public void testStopRefreshWatchers() throws Exception {
+        Object context = new Object();
+        ApplicationContext destroyedContext = createMock(ApplicationContext.class);
+        expect(destroyedContext.getContext()).andReturn(context).anyTimes();
+        replay(destroyedContext);
+
+        DefinitionsRefreshWatcher watcher = DefinitionsRefreshWatcher.start(new CachingLocaleUrlDefinitionDAO(destroyedContext));
+        assertTrue(watcher.isRunning());
+
+        CachingLocaleUrlDefinitionDAO.stopRefreshWatchers(destroyedContext);
+
+        long timeout = System.currentTimeMillis() + 5000;
+        while (watcher.isRunning() && System.currentTimeMillis() < timeout) {
+            Thread.sleep(10);
+        }
+        assertFalse("Watcher has not been stopped", watcher.isRunning());
+    }
+
     /**
      * Tests
      * {@link ResolvingLocaleUrlDefinitionDAO#getDefinition(String, Locale)}